@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,8 @@ import org.eclipse.core.runtime.Status;
 
 import org.eclipse.jdt.core.manipulation.JavaManipulation;
 
+import org.eclipse.jdt.internal.corext.refactoring.rename.TextMatchIndex;
+import org.eclipse.jdt.internal.corext.util.ParallelWorkers;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
@@ -54,6 +56,8 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	public static boolean DEBUG_TYPE_CONSTRAINTS;
 
+	public static boolean DEBUG_SUPER_TYPE_HIERARCHY_CACHE;
+
 	//The shared instance.
 	private static JavaManipulationPlugin fgDefault;
 
@@ -81,6 +85,7 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
+		TextMatchIndex.shutdown(); // needs the state location
 		super.stop(context);
 		fgDefault= null;
 
@@ -88,6 +93,7 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 			fTypeFilter.dispose();
 			fTypeFilter= null;
 		}
+		ParallelWorkers.shutdown();
 	}
 
 	/**
@@ -186,5 +192,6 @@ public class JavaManipulationPlugin extends Plugin implements DebugOptionsListen
 	public void optionsChanged(DebugOptions options) {
 		DEBUG_AST_PROVIDER= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/ASTProvider", false); //$NON-NLS-1$
 		DEBUG_TYPE_CONSTRAINTS= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/TypeConstraints", false); //$NON-NLS-1$
+		DEBUG_SUPER_TYPE_HIERARCHY_CACHE= options.getBooleanOption("org.eclipse.jdt.core.manipulation/debug/SuperTypeHierarchyCache", false); //$NON-NLS-1$
 	}
 }
@@ -0,0 +1,719 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IParent;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.NodeFinder;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.util.ParallelWorkers;
+
+/**
+ * A precomputed call graph of the source code of a set of Java projects.
+ * <p>
+ * The graph is built once by analyzing all compilation units in the source folders of the projects
+ * in parallel, using the same analysis as the callees mode of the call hierarchy
+ * ({@link CalleeAnalyzerVisitor}). Members are identified by int ids; the calls are kept per
+ * compilation unit as int arrays, from which a compact adjacency index for both directions is
+ * derived on demand.
+ * </p>
+ * <p>
+ * The graph listens to reconcile and resource changes. Changed compilation units are marked dirty
+ * and analyzed again before the next query, so the graph is updated incrementally. Compilation
+ * units that call into a changed unit are not analyzed again; calls to members whose signature
+ * changed are dropped from their callers only when those callers change.
+ * </p>
+ * <p>
+ * The graph only knows about method and constructor calls in indexed compilation units. Callers in
+ * other units, e.g. in libraries or in sources contributed by search participants, are found by
+ * searching the {@linkplain #getUnindexedScope(IJavaSearchScope) unindexed scope}.
+ * </p>
+ *
+ * @see CallHierarchyCore#buildCallGraph(IJavaProject[], IProgressMonitor)
+ */
+public class CallGraph implements IElementChangedListener {
+
+	/**
+	 * The calls found in a compilation unit.
+	 *
+	 * @param unit the compilation unit
+	 * @param calls the calls, or <code>null</code> if the unit does not exist anymore
+	 */
+	private record AnalyzedUnit(ICompilationUnit unit, List<Call> calls) {
+	}
+
+	private record Call(String caller, String callee, int start, int end, int line) {
+	}
+
+	/**
+	 * Skips the implementations of abstract methods, which are only potential callees and are
+	 * found with a search when needed.
+	 */
+	private static class GraphVisitor extends CalleeAnalyzerVisitor {
+		GraphVisitor(IMember member, CompilationUnit compilationUnit, IProgressMonitor progressMonitor) {
+			super(null, member, compilationUnit, new CallSearchResultCollector(false), progressMonitor);
+		}
+
+		@Override
+		public boolean visit(MethodDeclaration node) {
+			return isFurtherTraversalNecessary(node);
+		}
+	}
+
+	/*
+	 * Layout of a call in the int arrays.
+	 */
+	private static final int CALLER= 0;
+	private static final int CALLEE= 1;
+	private static final int START= 2;
+	private static final int END= 3;
+	private static final int LINE= 4;
+	private static final int CALL_SIZE= 5;
+
+	private static final int[] NO_CALLS= new int[0];
+
+	private final IJavaProject[] fProjects;
+
+	/*
+	 * All fields below are guarded by 'this'.
+	 */
+
+	private final Map<String, Integer> fMemberIds= new HashMap<>();
+	private String[] fMemberHandles= new String[1024];
+	private IMember[] fMembers= new IMember[1024];
+	private int fMemberCount;
+
+	/**
+	 * The calls of each indexed compilation unit, keyed by the handle identifier of the unit.
+	 */
+	private final Map<String, int[]> fUnitCalls= new LinkedHashMap<>();
+
+	private final Set<ICompilationUnit> fDirtyUnits= new LinkedHashSet<>();
+
+	/**
+	 * Set when source folders or compilation units might have been added or removed.
+	 */
+	private boolean fStructureChanged;
+
+	private Set<IPackageFragmentRoot> fIndexedRoots= new HashSet<>();
+	private List<IPackageFragmentRoot> fUnindexedRoots;
+
+	/*
+	 * The adjacency index, derived from fUnitCalls. fCalls holds all calls, fOutgoing and fIncoming
+	 * hold call numbers sorted by caller respectively callee, the offsets arrays hold the start of
+	 * the calls of each member.
+	 */
+	private boolean fIsIndexValid;
+	private int[] fCalls;
+	private int[] fOutgoingOffsets;
+	private int[] fOutgoing;
+	private int[] fIncomingOffsets;
+	private int[] fIncoming;
+
+	private boolean fIsDisposed;
+
+	CallGraph(IJavaProject[] projects) {
+		fProjects= projects;
+	}
+
+	/**
+	 * Analyzes all compilation units of the projects of this graph and starts listening to changes.
+	 *
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	void build(IProgressMonitor monitor) {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, CallHierarchyMessages.CallGraph_build_taskname, 10);
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		synchronized (this) {
+			fStructureChanged= true;
+		}
+		update(subMonitor.split(10));
+	}
+
+	/**
+	 * Stops listening to changes. The graph must not be used afterwards.
+	 */
+	void dispose() {
+		JavaCore.removeElementChangedListener(this);
+		synchronized (this) {
+			fIsDisposed= true;
+			fUnitCalls.clear();
+			fDirtyUnits.clear();
+			fMemberIds.clear();
+			fMemberHandles= new String[0];
+			fMembers= new IMember[0];
+			fMemberCount= 0;
+			fIsIndexValid= false;
+			fCalls= null;
+			fOutgoingOffsets= null;
+			fOutgoing= null;
+			fIncomingOffsets= null;
+			fIncoming= null;
+		}
+	}
+
+	/**
+	 * Returns the projects whose source code is analyzed.
+	 *
+	 * @return the projects
+	 */
+	public IJavaProject[] getProjects() {
+		return fProjects;
+	}
+
+	/**
+	 * Tells whether the calls of the given member can be taken from this graph.
+	 *
+	 * @param member the member
+	 * @return <code>true</code> if the member is declared in an indexed compilation unit
+	 */
+	public boolean isIndexed(IMember member) {
+		ICompilationUnit cu= member.getCompilationUnit();
+		if (cu == null || !JavaCore.isJavaLikeFileName(cu.getElementName())) {
+			return false;
+		}
+		cu= cu.getPrimary();
+		synchronized (this) {
+			return fUnitCalls.containsKey(cu.getHandleIdentifier()) || fDirtyUnits.contains(cu);
+		}
+	}
+
+	/**
+	 * Returns the number of calls in the graph.
+	 *
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the number of calls
+	 */
+	public int getCallCount(IProgressMonitor monitor) {
+		update(monitor);
+		synchronized (this) {
+			validateIndex();
+			return fCalls.length / CALL_SIZE;
+		}
+	}
+
+	/**
+	 * Returns all direct and indirect callers of the given member in the indexed compilation units.
+	 * Callers in other compilation units are not considered.
+	 *
+	 * @param member the member
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the callers, in breadth-first order
+	 */
+	public IMember[] getTransitiveCallers(IMember member, IProgressMonitor monitor) {
+		update(monitor);
+		List<IMember> result= new ArrayList<>();
+		synchronized (this) {
+			validateIndex();
+			Integer id= fMemberIds.get(member.getHandleIdentifier());
+			if (id == null) {
+				return new IMember[0];
+			}
+			BitSet visited= new BitSet(fMemberCount);
+			int[] queue= new int[fMemberCount];
+			int head= 0;
+			int tail= 0;
+			visited.set(id.intValue());
+			queue[tail++]= id.intValue();
+			while (head < tail) {
+				int callee= queue[head++];
+				for (int i= fIncomingOffsets[callee]; i < fIncomingOffsets[callee + 1]; i++) {
+					int caller= fCalls[fIncoming[i] * CALL_SIZE + CALLER];
+					if (!visited.get(caller)) {
+						visited.set(caller);
+						queue[tail++]= caller;
+						IMember callerMember= getMember(caller);
+						if (callerMember != null) {
+							result.add(callerMember);
+						}
+					}
+				}
+			}
+		}
+		return result.toArray(new IMember[result.size()]);
+	}
+
+	/**
+	 * Returns the callers of the given member in the indexed compilation units that are enclosed by
+	 * the given scope, filtered by the call hierarchy preferences.
+	 *
+	 * @param member the called member
+	 * @param scope the search scope
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return a map from handle identifier to {@link MethodCall}
+	 */
+	Map<String, MethodCall> findCallers(IMember member, IJavaSearchScope scope, IProgressMonitor monitor) {
+		update(monitor);
+		CallSearchResultCollector collector= new CallSearchResultCollector();
+		synchronized (this) {
+			validateIndex();
+			Integer id= fMemberIds.get(member.getHandleIdentifier());
+			if (id != null) {
+				int callee= id.intValue();
+				for (int i= fIncomingOffsets[callee]; i < fIncomingOffsets[callee + 1]; i++) {
+					int call= fIncoming[i] * CALL_SIZE;
+					IMember caller= getMember(fCalls[call + CALLER]);
+					if (caller != null && scope.encloses(caller)) {
+						collector.addMember(caller, caller, fCalls[call + START], fCalls[call + END], fCalls[call + LINE], false);
+					}
+				}
+			}
+		}
+		return collector.getCallers();
+	}
+
+	/**
+	 * Returns the callees of the given member, filtered by the call hierarchy preferences.
+	 *
+	 * @param member a member in an {@linkplain #isIndexed(IMember) indexed} compilation unit
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return a map from handle identifier to {@link MethodCall}
+	 */
+	Map<String, MethodCall> findCallees(IMember member, IProgressMonitor monitor) {
+		update(monitor);
+		CallSearchResultCollector collector= new CallSearchResultCollector();
+		synchronized (this) {
+			validateIndex();
+			Integer id= fMemberIds.get(member.getHandleIdentifier());
+			if (id != null) {
+				int caller= id.intValue();
+				for (int i= fOutgoingOffsets[caller]; i < fOutgoingOffsets[caller + 1]; i++) {
+					int call= fOutgoing[i] * CALL_SIZE;
+					IMember callee= getMember(fCalls[call + CALLEE]);
+					if (callee != null) {
+						collector.addMember(member, callee, fCalls[call + START], fCalls[call + END], fCalls[call + LINE], false);
+					}
+				}
+			}
+		}
+		return collector.getCallers();
+	}
+
+	/**
+	 * Tells whether the callees of the given member are in the graph. Implementations of abstract
+	 * and interface methods are potential callees that are not part of the graph.
+	 *
+	 * @param member the member
+	 * @return <code>true</code> if {@link #findCallees(IMember, IProgressMonitor)} can be used
+	 * @throws JavaModelException if the member does not exist
+	 */
+	boolean hasCallees(IMember member) throws JavaModelException {
+		if (member instanceof IMethod) {
+			IType declaringType= member.getDeclaringType();
+			if (Flags.isAbstract(member.getFlags()) || declaringType != null && declaringType.isInterface()) {
+				return false;
+			}
+		} else if (member.getElementType() == IJavaElement.TYPE) {
+			return false;
+		}
+		return isIndexed(member);
+	}
+
+	/**
+	 * Returns a scope containing the package fragment roots of the workspace that are not indexed
+	 * by this graph and that are part of the projects and archives of the given search scope.
+	 *
+	 * @param searchScope the scope of the search
+	 * @return the scope, or <code>null</code> if no such root exists
+	 * @throws JavaModelException if the roots could not be accessed
+	 */
+	IJavaSearchScope getUnindexedScope(IJavaSearchScope searchScope) throws JavaModelException {
+		List<IPackageFragmentRoot> unindexedRoots;
+		synchronized (this) {
+			unindexedRoots= fUnindexedRoots;
+		}
+		if (unindexedRoots == null) {
+			Set<IPackageFragmentRoot> indexedRoots= getIndexedRoots();
+			Set<IPackageFragmentRoot> roots= new LinkedHashSet<>();
+			for (IJavaProject project : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+				for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+					if (!indexedRoots.contains(root)) {
+						roots.add(root);
+					}
+				}
+			}
+			unindexedRoots= List.copyOf(roots);
+			synchronized (this) {
+				fUnindexedRoots= unindexedRoots;
+			}
+		}
+		Set<IPath> enclosingPaths= new HashSet<>(Arrays.asList(searchScope.enclosingProjectsAndJars()));
+		List<IJavaElement> roots= new ArrayList<>();
+		for (IPackageFragmentRoot root : unindexedRoots) {
+			if (enclosingPaths.contains(root.getPath()) || enclosingPaths.contains(root.getJavaProject().getPath())) {
+				roots.add(root);
+			}
+		}
+		if (roots.isEmpty()) {
+			return null;
+		}
+		return SearchEngine.createJavaSearchScope(roots.toArray(new IJavaElement[roots.size()]));
+	}
+
+	/**
+	 * Returns a scope containing the package fragment roots indexed by this graph.
+	 *
+	 * @return the scope
+	 */
+	IJavaSearchScope getIndexedScope() {
+		Set<IPackageFragmentRoot> roots= getIndexedRoots();
+		return SearchEngine.createJavaSearchScope(roots.toArray(new IJavaElement[roots.size()]));
+	}
+
+	private synchronized Set<IPackageFragmentRoot> getIndexedRoots() {
+		return new HashSet<>(fIndexedRoots);
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		IJavaElementDelta delta= event.getDelta();
+		synchronized (this) {
+			if (!fIsDisposed) {
+				processDelta(delta);
+			}
+		}
+	}
+
+	private void processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_MODEL:
+				break;
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (delta.getFlags() & (IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+								| IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED)) != 0) {
+					fStructureChanged= true;
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit cu= (ICompilationUnit) element;
+				if (cu.getOwner() != null) {
+					return; // working copy of another owner
+				}
+				if (delta.getKind() == IJavaElementDelta.REMOVED) {
+					fStructureChanged= true;
+				} else if (fUnitCalls.containsKey(cu.getPrimary().getHandleIdentifier())) {
+					fDirtyUnits.add(cu.getPrimary());
+				} else {
+					fStructureChanged= true; // a new unit in an indexed root
+				}
+				return;
+			default:
+				return;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			processDelta(child);
+		}
+	}
+
+	/**
+	 * Analyzes the dirty compilation units.
+	 *
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 */
+	private void update(IProgressMonitor monitor) {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, 10);
+		boolean structureChanged;
+		synchronized (this) {
+			structureChanged= fStructureChanged;
+			fStructureChanged= false;
+		}
+		if (structureChanged) {
+			updateStructure();
+		}
+		List<ICompilationUnit> dirtyUnits;
+		synchronized (this) {
+			if (fDirtyUnits.isEmpty() || fIsDisposed) {
+				return;
+			}
+			dirtyUnits= new ArrayList<>(fDirtyUnits);
+			fDirtyUnits.clear();
+		}
+		List<AnalyzedUnit> analyzedUnits;
+		try {
+			IProgressMonitor searchMonitor= new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return subMonitor.isCanceled();
+				}
+			};
+			analyzedUnits= ParallelWorkers.map(dirtyUnits, unit -> analyze(unit, searchMonitor), subMonitor.split(10));
+		} catch (CoreException | RuntimeException e) {
+			synchronized (this) {
+				fDirtyUnits.addAll(dirtyUnits); // retry with the next query
+			}
+			if (e instanceof OperationCanceledException) {
+				throw (OperationCanceledException) e;
+			}
+			JavaManipulationPlugin.log(e);
+			return;
+		}
+		synchronized (this) {
+			if (fIsDisposed) {
+				return;
+			}
+			for (AnalyzedUnit analyzedUnit : analyzedUnits) {
+				String handle= analyzedUnit.unit().getHandleIdentifier();
+				if (analyzedUnit.calls() == null) {
+					fUnitCalls.remove(handle);
+				} else {
+					fUnitCalls.put(handle, toIntArray(analyzedUnit.calls()));
+				}
+			}
+			fIsIndexValid= false;
+		}
+	}
+
+	/**
+	 * Collects the compilation units of the source folders of the projects, marks new units dirty
+	 * and removes units that no longer exist.
+	 */
+	private void updateStructure() {
+		Set<IPackageFragmentRoot> roots= new HashSet<>();
+		Set<ICompilationUnit> units= new LinkedHashSet<>();
+		try {
+			for (IJavaProject project : fProjects) {
+				if (!project.exists()) {
+					continue;
+				}
+				for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+					if (root.getKind() != IPackageFragmentRoot.K_SOURCE || !project.equals(root.getJavaProject())) {
+						continue;
+					}
+					roots.add(root);
+					for (IJavaElement child : root.getChildren()) {
+						for (ICompilationUnit cu : ((IPackageFragment) child).getCompilationUnits()) {
+							if (JavaCore.isJavaLikeFileName(cu.getElementName())) {
+								units.add(cu);
+							}
+						}
+					}
+				}
+			}
+		} catch (JavaModelException e) {
+			JavaManipulationPlugin.log(e);
+			synchronized (this) {
+				fStructureChanged= true;
+			}
+			return;
+		}
+		synchronized (this) {
+			fIndexedRoots= roots;
+			fUnindexedRoots= null;
+			Set<String> handles= new HashSet<>();
+			for (ICompilationUnit cu : units) {
+				String handle= cu.getHandleIdentifier();
+				handles.add(handle);
+				if (!fUnitCalls.containsKey(handle)) {
+					fDirtyUnits.add(cu);
+				}
+			}
+			if (fUnitCalls.keySet().retainAll(handles)) {
+				fIsIndexValid= false;
+			}
+			fDirtyUnits.retainAll(units);
+		}
+	}
+
+	private static AnalyzedUnit analyze(ICompilationUnit unit, IProgressMonitor monitor) throws JavaModelException {
+		if (!unit.exists()) {
+			return new AnalyzedUnit(unit, null);
+		}
+		List<Call> calls= new ArrayList<>();
+		CompilationUnit astRoot= CallHierarchyCore.getCompilationUnitNode(unit, true);
+		if (astRoot != null) {
+			List<IMember> members= new ArrayList<>();
+			collectMembers(unit, members);
+			for (IMember member : members) {
+				// only the declaration of the member is visited, so every node of the unit is visited once
+				ISourceRange range= member.getSourceRange();
+				if (!SourceRange.isAvailable(range)) {
+					continue;
+				}
+				ASTNode declaration= NodeFinder.perform(astRoot, range);
+				GraphVisitor visitor= new GraphVisitor(member, astRoot, monitor);
+				declaration.accept(visitor);
+				String caller= member.getHandleIdentifier();
+				for (MethodCall methodCall : visitor.getCallees().values()) {
+					String callee= methodCall.getMember().getHandleIdentifier();
+					for (CallLocation location : methodCall.getCallLocations()) {
+						calls.add(new Call(caller, callee, location.getStart(), location.getEnd(), location.getLineNumber()));
+					}
+				}
+			}
+		}
+		return new AnalyzedUnit(unit, calls);
+	}
+
+	/**
+	 * Collects the methods, fields and initializers of all types in the given element, including
+	 * local and anonymous types.
+	 *
+	 * @param parent the parent element
+	 * @param members the list to add the members to
+	 * @throws JavaModelException if the children could not be accessed
+	 */
+	private static void collectMembers(IParent parent, List<IMember> members) throws JavaModelException {
+		for (IJavaElement child : parent.getChildren()) {
+			switch (child.getElementType()) {
+				case IJavaElement.METHOD:
+				case IJavaElement.FIELD:
+				case IJavaElement.INITIALIZER:
+					members.add((IMember) child);
+					collectMembers((IParent) child, members);
+					break;
+				case IJavaElement.TYPE:
+					collectMembers((IParent) child, members);
+					break;
+				default:
+					break;
+			}
+		}
+	}
+
+	private int[] toIntArray(List<Call> calls) {
+		if (calls.isEmpty()) {
+			return NO_CALLS;
+		}
+		int[] result= new int[calls.size() * CALL_SIZE];
+		int i= 0;
+		for (Call call : calls) {
+			result[i + CALLER]= getMemberId(call.caller());
+			result[i + CALLEE]= getMemberId(call.callee());
+			result[i + START]= call.start();
+			result[i + END]= call.end();
+			result[i + LINE]= call.line();
+			i+= CALL_SIZE;
+		}
+		return result;
+	}
+
+	private int getMemberId(String handle) {
+		Integer id= fMemberIds.get(handle);
+		if (id != null) {
+			return id.intValue();
+		}
+		if (fMemberCount == fMemberHandles.length) {
+			fMemberHandles= Arrays.copyOf(fMemberHandles, fMemberCount * 2);
+			fMembers= Arrays.copyOf(fMembers, fMemberCount * 2);
+		}
+		fMemberHandles[fMemberCount]= handle;
+		fMemberIds.put(handle, Integer.valueOf(fMemberCount));
+		return fMemberCount++;
+	}
+
+	private IMember getMember(int id) {
+		IMember member= fMembers[id];
+		if (member == null) {
+			IJavaElement element= JavaCore.create(fMemberHandles[id]);
+			if (element instanceof IMember) {
+				member= (IMember) element;
+				fMembers[id]= member;
+			}
+		}
+		return member;
+	}
+
+	/**
+	 * Rebuilds the adjacency index if calls have changed.
+	 */
+	private void validateIndex() {
+		if (fIsIndexValid) {
+			return;
+		}
+		int length= 0;
+		for (int[] unitCalls : fUnitCalls.values()) {
+			length+= unitCalls.length;
+		}
+		int[] calls= new int[length];
+		int pos= 0;
+		for (int[] unitCalls : fUnitCalls.values()) {
+			System.arraycopy(unitCalls, 0, calls, pos, unitCalls.length);
+			pos+= unitCalls.length;
+		}
+		fCalls= calls;
+		fOutgoingOffsets= computeOffsets(calls, CALLER, fMemberCount);
+		fOutgoing= sortCalls(calls, CALLER, fOutgoingOffsets);
+		fIncomingOffsets= computeOffsets(calls, CALLEE, fMemberCount);
+		fIncoming= sortCalls(calls, CALLEE, fIncomingOffsets);
+		fIsIndexValid= true;
+	}
+
+	private static int[] computeOffsets(int[] calls, int field, int memberCount) {
+		int[] offsets= new int[memberCount + 1];
+		for (int i= field; i < calls.length; i+= CALL_SIZE) {
+			offsets[calls[i] + 1]++;
+		}
+		for (int i= 0; i < memberCount; i++) {
+			offsets[i + 1]+= offsets[i];
+		}
+		return offsets;
+	}
+
+	private static int[] sortCalls(int[] calls, int field, int[] offsets) {
+		int[] next= Arrays.copyOf(offsets, offsets.length - 1);
+		int[] sorted= new int[calls.length / CALL_SIZE];
+		for (int call= 0; call < sorted.length; call++) {
+			sorted[next[calls[call * CALL_SIZE + field]]++]= call;
+		}
+		return sorted;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IModuleDescription;
@@ -52,6 +53,7 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.util.JavaElementUtil;
+import org.eclipse.jdt.internal.corext.util.ParallelWorkers;
 
 import org.eclipse.jdt.internal.ui.util.StringMatcher;
 
@@ -69,6 +71,8 @@ public class CallHierarchyCore {
     private static CallHierarchyCore fgInstance;
     private IJavaSearchScope fSearchScope;
     private StringMatcher[] fFilters;
+    private final CallerCache fCallerCache= new CallerCache();
+    private volatile CallGraph fCallGraph;
 
     public static CallHierarchyCore getDefault() {
         if (fgInstance == null) {
@@ -172,6 +176,61 @@ public class CallHierarchyCore {
 		roots.add(root);
 	}
 
+    /**
+     * Builds a call graph of the source code of the given projects and uses it for the callers and
+     * callees of members in the analyzed compilation units, instead of searching or parsing on
+     * each expansion. The graph is kept up to date on reconcile until
+     * {@link #disposeCallGraph()} is called. A previously built graph is disposed.
+     *
+     * @param projects the projects whose source folders are analyzed
+     * @param monitor the progress monitor, can be <code>null</code>
+     * @return the call graph
+     * @throws OperationCanceledException if the monitor has been canceled
+     */
+    public CallGraph buildCallGraph(IJavaProject[] projects, IProgressMonitor monitor) {
+        CallGraph callGraph= new CallGraph(projects);
+        try {
+            callGraph.build(monitor);
+        } catch (OperationCanceledException e) {
+            callGraph.dispose();
+            throw e;
+        }
+        CallGraph oldGraph;
+        synchronized (this) {
+            oldGraph= fCallGraph;
+            fCallGraph= callGraph;
+        }
+        if (oldGraph != null) {
+            oldGraph.dispose();
+        }
+        fCallerCache.clear();
+        return callGraph;
+    }
+
+    /**
+     * Returns the call graph built by {@link #buildCallGraph(IJavaProject[], IProgressMonitor)}.
+     *
+     * @return the call graph, or <code>null</code> if the call hierarchy searches on each expansion
+     */
+    public CallGraph getCallGraph() {
+        return fCallGraph;
+    }
+
+    /**
+     * Disposes the call graph, if any. The call hierarchy searches on each expansion afterwards.
+     */
+    public void disposeCallGraph() {
+        CallGraph oldGraph;
+        synchronized (this) {
+            oldGraph= fCallGraph;
+            fCallGraph= null;
+        }
+        if (oldGraph != null) {
+            oldGraph.dispose();
+            fCallerCache.clear();
+        }
+    }
+
     public static CallLocation getCallLocation(Object element) {
         CallLocation callLocation= null;
 
@@ -199,6 +258,56 @@ public class CallHierarchyCore {
 
     public void setSearchScope(IJavaSearchScope searchScope) {
         this.fSearchScope= searchScope;
+        fCallerCache.clear();
+    }
+
+    CallerCache getCallerCache() {
+        return fCallerCache;
+    }
+
+    /**
+     * Removes all callers from the workspace-wide caller cache that is shared by all caller
+     * hierarchies. The cache is cleared automatically on Java element changes that affect search
+     * results and when the search scope or the filters change.
+     */
+    public void clearCallerCache() {
+        fCallerCache.clear();
+    }
+
+    /**
+     * Searches the callers of the given caller method wrappers concurrently and adds them to the
+     * workspace-wide caller cache, so that expanding the wrappers afterwards does not have to
+     * search. Wrappers that are no {@link CallerMethodWrapper}s, are recursive, are already cached
+     * or are being searched are skipped.
+     *
+     * @param wrappers the method wrappers, typically the children of an expanded caller
+     * @param monitor the progress monitor, can be <code>null</code>
+     * @throws OperationCanceledException if the monitor has been canceled
+     */
+    public void prefetchCallers(MethodWrapper[] wrappers, IProgressMonitor monitor) {
+        List<CallerMethodWrapper> callers= new ArrayList<>(wrappers.length);
+        for (MethodWrapper wrapper : wrappers) {
+            if (wrapper instanceof CallerMethodWrapper caller && !caller.isRecursive() && !fCallerCache.isCachedOrSearching(caller)) {
+                callers.add(caller);
+            }
+        }
+        if (callers.isEmpty()) {
+            return;
+        }
+        IProgressMonitor searchMonitor= new NullProgressMonitor() {
+            @Override
+            public boolean isCanceled() {
+                return monitor != null && monitor.isCanceled();
+            }
+        };
+        try {
+            ParallelWorkers.map(callers, caller -> {
+                caller.prefetchCallers(searchMonitor);
+                return null;
+            }, monitor);
+        } catch (CoreException e) {
+            JavaManipulationPlugin.log(e);
+        }
     }
 
 	/**
@@ -248,6 +357,7 @@ public class CallHierarchyCore {
      */
     public void resetFilters() {
     	fFilters= null;
+    	fCallerCache.clear();
     }
 
     /**
@@ -306,7 +416,10 @@ public class CallHierarchyCore {
     }
 
     static CompilationUnit getCompilationUnitNode(IMember member, boolean resolveBindings) {
-        ITypeRoot typeRoot= member.getTypeRoot();
+        return getCompilationUnitNode(member.getTypeRoot(), resolveBindings);
+    }
+
+    static CompilationUnit getCompilationUnitNode(ITypeRoot typeRoot, boolean resolveBindings) {
         try {
             if (typeRoot != null && typeRoot.exists() && typeRoot.getBuffer() != null
                     && (typeRoot instanceof IClassFile || JavaCore.isJavaLikeFileName(typeRoot.getElementName()))) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,8 +31,22 @@ class CallSearchResultCollector {
      */
     private Map<String, MethodCall> fCalledMembers;
 
+    /**
+     * Tells whether the filter preferences of the call hierarchy are applied.
+     */
+    private final boolean fApplyFilters;
+
     public CallSearchResultCollector() {
+        this(true);
+    }
+
+    /**
+     * @param applyFilters <code>false</code> to collect all members, ignoring the filter
+     *            preferences of the call hierarchy
+     */
+    CallSearchResultCollector(boolean applyFilters) {
         this.fCalledMembers = createCalledMethodsData();
+        this.fApplyFilters= applyFilters;
     }
 
     /**
@@ -48,7 +62,7 @@ class CallSearchResultCollector {
 
     protected void addMember(IMember member, IMember calledMember, int start, int end, int lineNumber, boolean potential) {
         if ((member != null) && (calledMember != null)) {
-            if (!isIgnored(calledMember)) {
+            if (!fApplyFilters || !isIgnored(calledMember)) {
                 MethodCall methodCall = fCalledMembers.get(calledMember.getHandleIdentifier());
 
                 if (methodCall == null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -67,7 +67,11 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
 	private CallLocation fCalledAt;
 
     CalleeAnalyzerVisitor(CallLocation calledAt, IMember member, CompilationUnit compilationUnit, IProgressMonitor progressMonitor) {
-		fSearchResults = new CallSearchResultCollector();
+        this(calledAt, member, compilationUnit, new CallSearchResultCollector(), progressMonitor);
+    }
+
+    CalleeAnalyzerVisitor(CallLocation calledAt, IMember member, CompilationUnit compilationUnit, CallSearchResultCollector collector, IProgressMonitor progressMonitor) {
+		fSearchResults = collector;
         this.fCalledAt= calledAt;
         this.fMember = member;
         this.fCompilationUnit= compilationUnit;
@@ -426,7 +430,7 @@ class CalleeAnalyzerVisitor extends HierarchicalASTVisitor {
         return false;
     }
 
-    private boolean isFurtherTraversalNecessary(ASTNode node) {
+    boolean isFurtherTraversalNecessary(ASTNode node) {
         return isNodeWithinMethod(node) || isNodeEnclosingMethod(node);
     }
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.SearchEngine;
@@ -101,6 +102,14 @@ class CalleeMethodWrapper extends MethodWrapper {
 	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor) {
     	IMember member= getMember();
 		if (member.exists()) {
+			CallGraph callGraph= CallHierarchyCore.getDefault().getCallGraph();
+			try {
+				if (callGraph != null && callGraph.hasCallees(member)) {
+					return callGraph.findCallees(member, progressMonitor);
+				}
+			} catch (JavaModelException e) {
+				JavaManipulationPlugin.log(e);
+			}
 			CompilationUnit cu= CallHierarchyCore.getCompilationUnitNode(member, true);
 		    if (progressMonitor != null) {
 		        progressMonitor.worked(5);
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.IPreferenceChangeListener;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences.PreferenceChangeEvent;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.manipulation.JavaManipulation;
+
+/**
+ * Workspace-wide cache of the callers found by {@link CallerMethodWrapper}, shared by all call
+ * hierarchies.
+ * <p>
+ * The cache is keyed by the handle identifier of the searched member and the field search mode.
+ * It is cleared when the search scope or the filter preferences change, and on every Java element
+ * delta that may change the result of a reference search (added or removed elements, saved
+ * compilation units, classpath and archive changes). Unsaved changes in working copies are not
+ * tracked; they are picked up when the call hierarchy is refreshed.
+ * </p>
+ * <p>
+ * The cache is bounded by the total number of callers of all cached members (the <em>weight</em>).
+ * The bound can be configured with the system property <code>jdt.callerCache.maxCallers</code>.
+ * The least recently used members are evicted first.
+ * </p>
+ * <p>
+ * The element changed listener is only registered while the cache is not empty.
+ * </p>
+ */
+class CallerCache implements IElementChangedListener, IPreferenceChangeListener {
+
+	private static final int INVALIDATING_FLAGS= IJavaElementDelta.F_PRIMARY_RESOURCE
+			| IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+			| IJavaElementDelta.F_ADDED_TO_CLASSPATH
+			| IJavaElementDelta.F_REMOVED_FROM_CLASSPATH
+			| IJavaElementDelta.F_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+			| IJavaElementDelta.F_OPENED
+			| IJavaElementDelta.F_CLOSED;
+
+	private static final int DEFAULT_MAX_WEIGHT= 20000;
+
+	/**
+	 * The maximal number of callers of all cached members together.
+	 */
+	private static final int MAX_WEIGHT= Math.max(1, Integer.getInteger("jdt.callerCache.maxCallers", DEFAULT_MAX_WEIGHT).intValue()); //$NON-NLS-1$
+
+	/**
+	 * The cached callers, the least recently used first. Guarded by <code>this</code>.
+	 */
+	private final LinkedHashMap<String, Map<String, MethodCall>> fCallers= new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The sum of the weights of all cached callers. Guarded by <code>this</code>.
+	 */
+	private int fCurrentWeight;
+
+	/**
+	 * The members whose callers are currently being searched, with a latch that is released when
+	 * the search has finished.
+	 */
+	private final Map<String, CountDownLatch> fSearching= new ConcurrentHashMap<>();
+
+	/**
+	 * Incremented whenever the cache is cleared, so that the results of searches that were
+	 * running during a change are not added.
+	 */
+	private final AtomicLong fGeneration= new AtomicLong();
+
+	private boolean fIsListening;
+
+	CallerCache() {
+		InstanceScope.INSTANCE.getNode(JavaManipulation.getPreferenceNodeId()).addPreferenceChangeListener(this);
+	}
+
+	/**
+	 * Returns the cached callers of the member of the given wrapper.
+	 *
+	 * @param wrapper the caller method wrapper
+	 * @return the callers, or <code>null</code> if not in the cache. The returned map must not be
+	 *         modified.
+	 */
+	synchronized Map<String, MethodCall> get(CallerMethodWrapper wrapper) {
+		if (fCallers.isEmpty()) {
+			return null;
+		}
+		return fCallers.get(getKey(wrapper));
+	}
+
+	boolean contains(CallerMethodWrapper wrapper) {
+		return get(wrapper) != null;
+	}
+
+	/**
+	 * Returns the current generation of the cache, to be passed to
+	 * {@link #put(CallerMethodWrapper, Map, long)} after the search.
+	 *
+	 * @return the generation
+	 */
+	long getGeneration() {
+		return fGeneration.get();
+	}
+
+	/**
+	 * Marks the callers of the member of the given wrapper as being searched. Must be followed by
+	 * {@link #endSearch(CallerMethodWrapper)} if successful.
+	 *
+	 * @param wrapper the caller method wrapper
+	 * @return <code>true</code> if the callers were not being searched already
+	 */
+	boolean startSearch(CallerMethodWrapper wrapper) {
+		return fSearching.putIfAbsent(getKey(wrapper), new CountDownLatch(1)) == null;
+	}
+
+	void endSearch(CallerMethodWrapper wrapper) {
+		CountDownLatch latch= fSearching.remove(getKey(wrapper));
+		if (latch != null) {
+			latch.countDown();
+		}
+	}
+
+	/**
+	 * Waits until the callers of the member of the given wrapper are no longer being searched by
+	 * another thread.
+	 *
+	 * @param wrapper the caller method wrapper
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @return the callers found by the other thread, or <code>null</code> if they have not been
+	 *         cached. The returned map must not be modified.
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	Map<String, MethodCall> awaitSearch(CallerMethodWrapper wrapper, IProgressMonitor monitor) {
+		CountDownLatch latch= fSearching.get(getKey(wrapper));
+		if (latch != null) {
+			try {
+				while (!latch.await(100, TimeUnit.MILLISECONDS)) {
+					if (monitor != null && monitor.isCanceled()) {
+						throw new OperationCanceledException();
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+		return get(wrapper);
+	}
+
+	/**
+	 * Returns whether the callers of the member of the given wrapper are cached or being searched.
+	 *
+	 * @param wrapper the caller method wrapper
+	 * @return <code>true</code> if the callers are cached or being searched
+	 */
+	boolean isCachedOrSearching(CallerMethodWrapper wrapper) {
+		return fSearching.containsKey(getKey(wrapper)) || contains(wrapper);
+	}
+
+	/**
+	 * Adds the callers of the member of the given wrapper to the cache, unless the cache has been
+	 * cleared since the search started. Evicts the least recently used callers if the cache has
+	 * grown too large.
+	 *
+	 * @param wrapper the caller method wrapper
+	 * @param callers the callers, must not be modified later
+	 * @param generation the generation of the cache when the search started
+	 */
+	synchronized void put(CallerMethodWrapper wrapper, Map<String, MethodCall> callers, long generation) {
+		if (generation != fGeneration.get()) {
+			return;
+		}
+		startListening();
+		Map<String, MethodCall> previous= fCallers.put(getKey(wrapper), callers);
+		if (previous != null) {
+			fCurrentWeight-= getWeight(previous);
+		}
+		fCurrentWeight+= getWeight(callers);
+		// the new callers are kept even if they exceed the bound on their own
+		Iterator<Map<String, MethodCall>> iterator= fCallers.values().iterator();
+		while (fCurrentWeight > MAX_WEIGHT && fCallers.size() > 1) {
+			fCurrentWeight-= getWeight(iterator.next());
+			iterator.remove();
+		}
+	}
+
+	synchronized void remove(CallerMethodWrapper wrapper) {
+		Map<String, MethodCall> removed= fCallers.remove(getKey(wrapper));
+		if (removed != null) {
+			fCurrentWeight-= getWeight(removed);
+		}
+	}
+
+	/**
+	 * Removes all cached callers.
+	 */
+	synchronized void clear() {
+		fGeneration.incrementAndGet();
+		fCallers.clear();
+		fCurrentWeight= 0;
+		if (fIsListening) {
+			JavaCore.removeElementChangedListener(this);
+			fIsListening= false;
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		boolean isEmpty;
+		synchronized (this) {
+			isEmpty= fCallers.isEmpty();
+		}
+		if (!isEmpty && affectsSearchResults(event.getDelta())) {
+			clear();
+		}
+	}
+
+	private synchronized void startListening() {
+		if (!fIsListening) {
+			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+			fIsListening= true;
+		}
+	}
+
+	@Override
+	public void preferenceChange(PreferenceChangeEvent event) {
+		switch (event.getKey()) {
+			case CallHierarchyCore.PREF_SHOW_ALL_CODE:
+			case CallHierarchyCore.PREF_HIDE_TEST_CODE:
+			case CallHierarchyCore.PREF_SHOW_TEST_CODE_ONLY:
+			case CallHierarchyCore.PREF_USE_FILTERS:
+			case CallHierarchyCore.PREF_FILTERS_LIST:
+				clear();
+				break;
+			default:
+				break;
+		}
+	}
+
+	private static int getWeight(Map<String, MethodCall> callers) {
+		return callers.size() + 1;
+	}
+
+	private static String getKey(CallerMethodWrapper wrapper) {
+		return wrapper.getMember().getHandleIdentifier() + '#' + wrapper.getFieldSearchMode();
+	}
+
+	private static boolean affectsSearchResults(IJavaElementDelta delta) {
+		int kind= delta.getKind();
+		if (kind == IJavaElementDelta.ADDED || kind == IJavaElementDelta.REMOVED) {
+			return true;
+		}
+		int flags= delta.getFlags();
+		if ((flags & INVALIDATING_FLAGS) != 0) {
+			return true;
+		}
+		if ((flags & IJavaElementDelta.F_CONTENT) != 0) {
+			// content changes of a project, source folder or package only concern non-Java resources
+			int type= delta.getElement().getElementType();
+			if (type != IJavaElement.JAVA_PROJECT && type != IJavaElement.PACKAGE_FRAGMENT_ROOT && type != IJavaElement.PACKAGE_FRAGMENT) {
+				return true;
+			}
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (affectsSearchResults(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,7 +17,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.callhierarchy;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
@@ -35,9 +37,11 @@ import org.eclipse.jdt.core.ISourceRange;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.DerivedSourceSearchParticipant;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
@@ -99,79 +103,178 @@ public class CallerMethodWrapper extends MethodWrapper {
 	 */
 	@Override
 	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor) {
+		CallerCache cache= CallHierarchyCore.getDefault().getCallerCache();
+		Map<String, MethodCall> callers= cache.get(this);
+		if (callers != null) {
+			return new HashMap<>(callers);
+		}
+		boolean searching= cache.startSearch(this);
+		if (!searching) {
+			// the callers are being searched by another thread, e.g. when they are prefetched
+			callers= cache.awaitSearch(this, progressMonitor);
+			if (callers != null) {
+				return new HashMap<>(callers);
+			}
+			searching= cache.startSearch(this);
+		}
 		try {
+			long generation= cache.getGeneration();
+			callers= searchCallers(progressMonitor);
+			cache.put(this, callers, generation);
+			return new HashMap<>(callers);
+		} catch (CoreException e) {
+			JavaManipulationPlugin.log(e);
+			return new HashMap<>(0);
+		} finally {
+			if (searching) {
+				cache.endSearch(this);
+			}
+		}
+	}
 
-			SubMonitor monitor = SubMonitor.convert(progressMonitor,"" , 95); //$NON-NLS-1$
+	/**
+	 * Searches the callers of the member of this wrapper and adds them to the shared caller cache,
+	 * unless they are already cached or being searched. Called concurrently for different wrappers by
+	 * {@link CallHierarchyCore#prefetchCallers(MethodWrapper[], IProgressMonitor)}.
+	 *
+	 * @param progressMonitor the progress monitor
+	 * @throws CoreException if the search failed
+	 */
+	void prefetchCallers(IProgressMonitor progressMonitor) throws CoreException {
+		CallerCache cache= CallHierarchyCore.getDefault().getCallerCache();
+		if (!canHaveChildren() || cache.contains(this) || !cache.startSearch(this)) {
+			return;
+		}
+		try {
+			long generation= cache.getGeneration();
+			cache.put(this, searchCallers(progressMonitor), generation);
+		} finally {
+			cache.endSearch(this);
+		}
+	}
 
-			checkCanceled(progressMonitor);
+	private Map<String, MethodCall> searchCallers(IProgressMonitor progressMonitor) throws CoreException {
+		SubMonitor monitor = SubMonitor.convert(progressMonitor,"" , 95); //$NON-NLS-1$
 
-			IMember member= getMember();
-			SearchPattern pattern= null;
-			IType type= null;
-			if (member instanceof IType) {
-				type= (IType) member;
-			} else if (member instanceof IInitializer && ! Flags.isStatic(member.getFlags())) {
-				type= (IType) member.getParent();
-			}
-			if (type != null) {
-				if (type.isAnonymous()) {
-					// search engine does not find reference to anonymous, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=207774
-					CallSearchResultCollector resultCollector= new CallSearchResultCollector();
-					IJavaElement parent= type.getParent();
-					if (parent instanceof IMember) {
-						IMember parentMember= (IMember) parent;
-						ISourceRange nameRange= type.getNameRange();
-						int start= nameRange != null ? nameRange.getOffset() : -1;
-						int len= nameRange != null ? nameRange.getLength() : 0;
-						resultCollector.addMember(type, parentMember, start, start + len);
-						return resultCollector.getCallers();
-					}
-				} else if (type.getParent() instanceof IMethod) {
-					// good enough for local types (does not find super(..) references in subtype constructors):
-					pattern= SearchPattern.createPattern(type,
-							IJavaSearchConstants.CLASS_INSTANCE_CREATION_TYPE_REFERENCE,
-							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-				} else {
-					pattern= SearchPattern.createPattern(type.getFullyQualifiedName('.'),
-							IJavaSearchConstants.CONSTRUCTOR,
-							IJavaSearchConstants.REFERENCES,
-							SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+		checkCanceled(progressMonitor);
+
+		IMember member= getMember();
+		SearchPattern pattern= null;
+		IType type= null;
+		if (member instanceof IType) {
+			type= (IType) member;
+		} else if (member instanceof IInitializer && ! Flags.isStatic(member.getFlags())) {
+			type= (IType) member.getParent();
+		}
+		if (type != null) {
+			if (type.isAnonymous()) {
+				// search engine does not find reference to anonymous, see https://bugs.eclipse.org/bugs/show_bug.cgi?id=207774
+				CallSearchResultCollector resultCollector= new CallSearchResultCollector();
+				IJavaElement parent= type.getParent();
+				if (parent instanceof IMember) {
+					IMember parentMember= (IMember) parent;
+					ISourceRange nameRange= type.getNameRange();
+					int start= nameRange != null ? nameRange.getOffset() : -1;
+					int len= nameRange != null ? nameRange.getLength() : 0;
+					resultCollector.addMember(type, parentMember, start, start + len);
+					return resultCollector.getCallers();
 				}
+			} else if (type.getParent() instanceof IMethod) {
+				// good enough for local types (does not find super(..) references in subtype constructors):
+				pattern= SearchPattern.createPattern(type,
+						IJavaSearchConstants.CLASS_INSTANCE_CREATION_TYPE_REFERENCE,
+						SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+			} else {
+				pattern= SearchPattern.createPattern(type.getFullyQualifiedName('.'),
+						IJavaSearchConstants.CONSTRUCTOR,
+						IJavaSearchConstants.REFERENCES,
+						SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
 			}
-			if (pattern == null) {
-				int limitTo= IJavaSearchConstants.REFERENCES;
-				if (member.getElementType() == IJavaElement.FIELD)
-					limitTo= getFieldSearchMode();
-				pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
-			}
-			if (pattern == null) { // e.g. for initializers
-				return new HashMap<>(0);
-			}
+		}
+		if (pattern == null) {
+			int limitTo= IJavaSearchConstants.REFERENCES;
+			if (member.getElementType() == IJavaElement.FIELD)
+				limitTo= getFieldSearchMode();
+			pattern= SearchPattern.createPattern(member, limitTo, SearchUtils.GENERICS_AGNOSTIC_MATCH_RULE);
+		}
+		if (pattern == null) { // e.g. for initializers
+			return new HashMap<>(0);
+		}
 
-			SearchEngine searchEngine= new SearchEngine();
-			// When the search target is a non-Java element (e.g., from
-			// a contributed SearchParticipant like Kotlin), the Java
-			// MatchLocator cannot fully resolve the declaring type
-			// binding and reports matches as A_INACCURATE. These
-			// matches are still valid — the method name and parameter
-			// count match — so accept them.
-			ICompilationUnit cu= member.getCompilationUnit();
-			boolean isContributedElement= cu != null
-					&& !JavaCore.isJavaLikeFileName(cu.getElementName());
-			MethodReferencesSearchRequestor searchRequestor= isContributedElement
-					? new MethodReferencesSearchRequestor(false)
-					: new MethodReferencesSearchRequestor();
-			IJavaSearchScope defaultSearchScope= getSearchScope();
-			boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
-			IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
-			searchEngine.search(pattern, SearchEngine.getSearchParticipants(), searchScope, searchRequestor,
-					monitor);
-			return searchRequestor.getCallers();
+		SearchEngine searchEngine= new SearchEngine();
+		// When the search target is a non-Java element (e.g., from
+		// a contributed SearchParticipant like Kotlin), the Java
+		// MatchLocator cannot fully resolve the declaring type
+		// binding and reports matches as A_INACCURATE. These
+		// matches are still valid — the method name and parameter
+		// count match — so accept them.
+		ICompilationUnit cu= member.getCompilationUnit();
+		boolean isContributedElement= cu != null
+				&& !JavaCore.isJavaLikeFileName(cu.getElementName());
+		MethodReferencesSearchRequestor searchRequestor= isContributedElement
+				? new MethodReferencesSearchRequestor(false)
+				: new MethodReferencesSearchRequestor();
+		IJavaSearchScope defaultSearchScope= getSearchScope();
+		boolean isWorkspaceScope= SearchEngine.createWorkspaceScope().equals(defaultSearchScope);
+		IJavaSearchScope searchScope= isWorkspaceScope ? getAccurateSearchScope(defaultSearchScope, member) : defaultSearchScope;
+		CallGraph callGraph= CallHierarchyCore.getDefault().getCallGraph();
+		if (callGraph != null && member instanceof IMethod && !isContributedElement) {
+			return searchCallers(callGraph, pattern, searchScope, monitor);
+		}
+		searchEngine.search(pattern, SearchEngine.getSearchParticipants(), searchScope, searchRequestor,
+				monitor);
+		return searchRequestor.getCallers();
+	}
 
-		} catch (CoreException e) {
-			JavaManipulationPlugin.log(e);
-			return new HashMap<>(0);
+	/**
+	 * Takes the callers in the indexed compilation units from the call graph and searches the
+	 * callers in the remaining ones.
+	 *
+	 * @param callGraph the call graph
+	 * @param pattern the search pattern for the references to the member
+	 * @param searchScope the search scope
+	 * @param monitor the progress monitor
+	 * @return the callers
+	 * @throws CoreException if the search failed
+	 */
+	private Map<String, MethodCall> searchCallers(CallGraph callGraph, SearchPattern pattern, IJavaSearchScope searchScope, SubMonitor monitor) throws CoreException {
+		Map<String, MethodCall> callers= callGraph.findCallers(getMember(), searchScope, monitor.split(20));
+
+		IJavaSearchScope unindexedScope= callGraph.getUnindexedScope(searchScope);
+		if (unindexedScope != null) {
+			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor();
+			new SearchEngine().search(pattern, SearchEngine.getSearchParticipants(), unindexedScope, searchRequestor, monitor.split(60));
+			addEnclosedCallers(callers, searchRequestor.getCallers(), searchScope);
 		}
+
+		// sources contributed by search participants are not analyzed by the call graph
+		List<SearchParticipant> contributedParticipants= new ArrayList<>();
+		for (SearchParticipant participant : SearchEngine.getSearchParticipants()) {
+			if (participant instanceof DerivedSourceSearchParticipant) {
+				contributedParticipants.add(participant);
+			}
+		}
+		if (!contributedParticipants.isEmpty()) {
+			MethodReferencesSearchRequestor searchRequestor= new MethodReferencesSearchRequestor(false);
+			new SearchEngine().search(pattern, contributedParticipants.toArray(new SearchParticipant[contributedParticipants.size()]),
+					callGraph.getIndexedScope(), searchRequestor, monitor.split(15));
+			addEnclosedCallers(callers, searchRequestor.getCallers(), searchScope);
+		}
+		return callers;
+	}
+
+	private static void addEnclosedCallers(Map<String, MethodCall> callers, Map<String, MethodCall> foundCallers, IJavaSearchScope searchScope) {
+		for (Map.Entry<String, MethodCall> entry : foundCallers.entrySet()) {
+			if (searchScope.encloses(entry.getValue().getMember())) {
+				callers.putIfAbsent(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	@Override
+	public void removeFromCache() {
+		super.removeFromCache();
+		CallHierarchyCore.getDefault().getCallerCache().remove(this);
 	}
 
 	private IJavaSearchScope getAccurateSearchScope(IJavaSearchScope defaultSearchScope, IMember member) throws JavaModelException {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,14 +20,18 @@
 package org.eclipse.jdt.internal.corext.refactoring.code;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -69,6 +73,7 @@ import org.eclipse.jdt.core.refactoring.descriptors.JavaRefactoringDescriptor;
 
 import org.eclipse.jdt.internal.core.manipulation.BindingLabelProviderCore;
 import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
@@ -85,6 +90,7 @@ import org.eclipse.jdt.internal.corext.refactoring.util.JavaStatusContext;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelWorkers;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
 
@@ -123,6 +129,24 @@ public class InlineMethodRefactoring extends Refactoring {
 	private int fSelectionStart;
 	private int fSelectionLength;
 
+	/**
+	 * The calls inlined into one compilation unit.
+	 */
+	private static final class UnitInlining {
+		final ICompilationUnit fUnit;
+		final CompilationUnitChange fChange;
+		final RefactoringStatus fStatus;
+		boolean fHasBodies;
+		boolean fAdded;
+		boolean fKeepSource;
+
+		UnitInlining(ICompilationUnit unit, CompilationUnitChange change, RefactoringStatus status) {
+			fUnit= unit;
+			fChange= change;
+			fStatus= status;
+		}
+	}
+
 	private InlineMethodRefactoring(ITypeRoot typeRoot, ASTNode node, int offset, int length) {
 		Assert.isNotNull(typeRoot);
 		Assert.isTrue(JavaElementUtil.isSourceAvailable(typeRoot));
@@ -288,70 +312,43 @@ public class InlineMethodRefactoring extends Refactoring {
 		checkOverridden(result, Progress.subMonitor(pm, 4));
 		IProgressMonitor sub= Progress.subMonitor(pm, 15);
 		sub.beginTask("", units.length * 3); //$NON-NLS-1$
-		for (ICompilationUnit unit : units) {
-			sub.subTask(Messages.format(RefactoringCoreMessages.InlineMethodRefactoring_processing,  BasicElementLabels.getFileName(unit)));
-			CallInliner inliner= null;
-			try {
-				boolean added= false;
-				MultiTextEdit root= new MultiTextEdit();
-				CompilationUnitChange change= (CompilationUnitChange)fChangeManager.get(unit);
-				change.setEdit(root);
-				BodyDeclaration[] bodies= fTargetProvider.getAffectedBodyDeclarations(unit, Progress.subMonitor(pm, 1));
-				if (bodies.length == 0)
-					continue;
-				inliner= new CallInliner(unit, (CompilationUnit) bodies[0].getRoot(), fSourceProvider);
-				for (BodyDeclaration body : bodies) {
-					inliner.initialize(body);
-					RefactoringStatus nestedInvocations= new RefactoringStatus();
-					ASTNode[] invocations= removeNestedCalls(nestedInvocations, unit,
-						fTargetProvider.getInvocations(body, Progress.subMonitor(sub, 2)));
-					for (ASTNode invocation : invocations) {
-						result.merge(inliner.initialize(invocation, fTargetProvider.getStatusSeverity()));
-						if (result.hasFatalError())
-							break;
-						if (result.getSeverity() < fTargetProvider.getStatusSeverity()) {
-							added= true;
-							TextEditGroup group= new TextEditGroup(RefactoringCoreMessages.InlineMethodRefactoring_edit_inline);
-							change.addTextEditGroup(group);
-							result.merge(inliner.perform(group));
-						} else {
-							fDeleteSource= false;
-						}
-					}
-					// do this after we have inlined the method calls. We still want
-					// to generate the modifications.
-					if (!nestedInvocations.isOK()) {
-						result.merge(nestedInvocations);
-						fDeleteSource= false;
-					}
+		List<UnitInlining> inlinings= null;
+		if (units.length > 1) {
+			// Every worker inlines the calls of one compilation unit into its own change. The source
+			// provider resolves bindings on its AST, which is not thread-safe, so every worker thread
+			// parses and analyzes the source method once for itself. Since calls are no longer inlined
+			// once an error has been found, the units after the first error are processed again below.
+			String key= fSourceProvider.getDeclaration().resolveBinding().getKey();
+			Map<Thread, SourceProvider> sourceProviders= new ConcurrentHashMap<>();
+			inlinings= ParallelWorkers.map(Arrays.asList(units), unit -> {
+				SourceProvider sourceProvider= sourceProviders.get(Thread.currentThread());
+				if (sourceProvider == null) {
+					sourceProvider= createSourceProvider(key);
+					sourceProviders.put(Thread.currentThread(), sourceProvider);
 				}
-				if (!added) {
-					fChangeManager.remove(unit);
-				} else {
-					root.addChild(inliner.getModifications());
-					ImportRewrite rewrite= inliner.getImportEdit();
-					if (rewrite.hasRecordedChanges()) {
-						for (String s : rewrite.getAddedImports()) {
-							for (IType t : unit.getTypes()) {
-								if (s.startsWith(t.getFullyQualifiedName())) {
-									rewrite.removeImport(s);
-								}
-							}
-						}
-						if (rewrite.hasRecordedChanges()) {
-							TextEdit edit= rewrite.rewriteImports(null);
-							if (edit instanceof MultiTextEdit ? edit.getChildrenSize() > 0 : true) {
-								root.addChild(edit);
-								change.addTextEditGroup(
-										new TextEditGroup(RefactoringCoreMessages.InlineMethodRefactoring_edit_import, new TextEdit[] {edit}));
-							}
-						}
-					}
-				}
-			} finally {
-				if (inliner != null)
-					inliner.dispose();
+				UnitInlining inlining= new UnitInlining(unit, (CompilationUnitChange) fChangeManager.createChange(unit), new RefactoringStatus());
+				inlineCalls(inlining, sourceProvider, null, null);
+				return inlining;
+			}, Progress.subMonitor(sub, units.length * 2));
+		}
+		for (int i= 0; i < units.length; i++) {
+			ICompilationUnit unit= units[i];
+			UnitInlining inlining;
+			if (inlinings != null && result.getSeverity() < fTargetProvider.getStatusSeverity()) {
+				// no call has been skipped so far, so the unit has been processed as if it was the first one
+				inlining= inlinings.get(i);
+				result.merge(inlining.fStatus);
+				fChangeManager.manage(unit, inlining.fChange);
+			} else {
+				// calls are only inlined as long as no error has been found in the previous units
+				sub.subTask(Messages.format(RefactoringCoreMessages.InlineMethodRefactoring_processing,  BasicElementLabels.getFileName(unit)));
+				inlining= new UnitInlining(unit, (CompilationUnitChange)fChangeManager.get(unit), result);
+				inlineCalls(inlining, fSourceProvider, Progress.subMonitor(pm, 1), inlinings == null ? sub : null);
 			}
+			if (inlining.fKeepSource)
+				fDeleteSource= false;
+			if (inlining.fHasBodies && !inlining.fAdded)
+				fChangeManager.remove(unit);
 			sub.worked(1);
 			if (sub.isCanceled())
 				throw new OperationCanceledException();
@@ -362,6 +359,80 @@ public class InlineMethodRefactoring extends Refactoring {
 		return result;
 	}
 
+	/**
+	 * Inlines the calls in one compilation unit. Can be called concurrently for different units.
+	 *
+	 * @param inlining the unit, its change and the status to merge into
+	 * @param sourceProvider the source provider, confined to the current thread
+	 * @param pm the progress monitor for finding the affected body declarations, can be <code>null</code>
+	 * @param sub the progress monitor for finding the invocations, can be <code>null</code>
+	 * @throws CoreException if the calls cannot be inlined
+	 */
+	private void inlineCalls(UnitInlining inlining, SourceProvider sourceProvider, IProgressMonitor pm, IProgressMonitor sub) throws CoreException {
+		ICompilationUnit unit= inlining.fUnit;
+		CompilationUnitChange change= inlining.fChange;
+		RefactoringStatus result= inlining.fStatus;
+		CallInliner inliner= null;
+		try {
+			MultiTextEdit root= new MultiTextEdit();
+			change.setEdit(root);
+			BodyDeclaration[] bodies= fTargetProvider.getAffectedBodyDeclarations(unit, pm);
+			if (bodies.length == 0)
+				return;
+			inlining.fHasBodies= true;
+			inliner= new CallInliner(unit, (CompilationUnit) bodies[0].getRoot(), sourceProvider);
+			for (BodyDeclaration body : bodies) {
+				inliner.initialize(body);
+				RefactoringStatus nestedInvocations= new RefactoringStatus();
+				ASTNode[] invocations= removeNestedCalls(nestedInvocations, unit,
+					fTargetProvider.getInvocations(body, sub == null ? null : Progress.subMonitor(sub, 2)));
+				for (ASTNode invocation : invocations) {
+					result.merge(inliner.initialize(invocation, fTargetProvider.getStatusSeverity()));
+					if (result.hasFatalError())
+						break;
+					if (result.getSeverity() < fTargetProvider.getStatusSeverity()) {
+						inlining.fAdded= true;
+						TextEditGroup group= new TextEditGroup(RefactoringCoreMessages.InlineMethodRefactoring_edit_inline);
+						change.addTextEditGroup(group);
+						result.merge(inliner.perform(group));
+					} else {
+						inlining.fKeepSource= true;
+					}
+				}
+				// do this after we have inlined the method calls. We still want
+				// to generate the modifications.
+				if (!nestedInvocations.isOK()) {
+					result.merge(nestedInvocations);
+					inlining.fKeepSource= true;
+				}
+			}
+			if (inlining.fAdded) {
+				root.addChild(inliner.getModifications());
+				ImportRewrite rewrite= inliner.getImportEdit();
+				if (rewrite.hasRecordedChanges()) {
+					for (String s : rewrite.getAddedImports()) {
+						for (IType t : unit.getTypes()) {
+							if (s.startsWith(t.getFullyQualifiedName())) {
+								rewrite.removeImport(s);
+							}
+						}
+					}
+					if (rewrite.hasRecordedChanges()) {
+						TextEdit edit= rewrite.rewriteImports(null);
+						if (edit instanceof MultiTextEdit ? edit.getChildrenSize() > 0 : true) {
+							root.addChild(edit);
+							change.addTextEditGroup(
+									new TextEditGroup(RefactoringCoreMessages.InlineMethodRefactoring_edit_import, new TextEdit[] {edit}));
+						}
+					}
+				}
+			}
+		} finally {
+			if (inliner != null)
+				inliner.dispose();
+		}
+	}
+
 	@Override
 	public Change createChange(IProgressMonitor pm) throws CoreException {
 		if (fDeleteSource && fCurrentMode == Mode.INLINE_ALL) {
@@ -443,6 +514,25 @@ public class InlineMethodRefactoring extends Refactoring {
 		return null;
 	}
 
+	/**
+	 * Creates a source provider for the method to inline on a new AST of the source type root.
+	 *
+	 * @param key the binding key of the method to inline
+	 * @return the analyzed source provider
+	 * @throws CoreException if the method cannot be found or analyzed
+	 */
+	private SourceProvider createSourceProvider(String key) throws CoreException {
+		ITypeRoot typeRoot= fSourceProvider.getTypeRoot();
+		CompilationUnit root= new RefactoringASTParser(IASTSharedValues.SHARED_AST_LEVEL).parse(typeRoot, true);
+		ASTNode node= root.findDeclaringNode(key);
+		if (!(node instanceof MethodDeclaration))
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), RefactoringCoreMessages.InlineMethodRefactoring_error_noMethodDeclaration));
+		SourceProvider result= new SourceProvider(typeRoot, (MethodDeclaration) node);
+		result.checkActivation();
+		result.initialize();
+		return result;
+	}
+
 	private IFile[] getFilesToBeModified(ICompilationUnit[] units) {
 		List<IFile> result= new ArrayList<>(units.length + 1);
 		IFile file;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
@@ -464,7 +465,8 @@ public abstract class TargetProvider {
 
 	private static class MemberTypeTargetProvider extends TargetProvider {
 		private final IMethodBinding fMethodBinding;
-		private Map<BodyDeclaration, BodyData> fCurrentBodies;
+		// the units are processed concurrently, see InlineMethodRefactoring#checkFinalConditions(IProgressMonitor)
+		private final Map<BodyDeclaration, BodyData> fCurrentBodies= new ConcurrentHashMap<>();
 		public MemberTypeTargetProvider(IMethodBinding methodBinding) {
 			Assert.isNotNull(methodBinding);
 			fMethodBinding= methodBinding;
@@ -517,15 +519,16 @@ public abstract class TargetProvider {
 			ASTNode root= SharedASTProviderCore.getAST(unit, SharedASTProviderCore.WAIT_YES, pm);
 			InvocationFinder finder= new InvocationFinder(fMethodBinding);
 			root.accept(finder);
-			fCurrentBodies= finder.result;
-			Set<BodyDeclaration> result= fCurrentBodies.keySet();
+			fCurrentBodies.putAll(finder.result);
+			Set<BodyDeclaration> result= finder.result.keySet();
 			fastDone(pm);
 			return result.toArray(new BodyDeclaration[result.size()]);
 		}
 
 		@Override
 		public ASTNode[] getInvocations(BodyDeclaration declaration, IProgressMonitor pm) {
-			BodyData data= fCurrentBodies.get(declaration);
+			// the invocations of a body are requested once, don't hold on to the ASTs of processed units
+			BodyData data= fCurrentBodies.remove(declaration);
 			Assert.isNotNull(data);
 			fastDone(pm);
 			return data.getInvocations();
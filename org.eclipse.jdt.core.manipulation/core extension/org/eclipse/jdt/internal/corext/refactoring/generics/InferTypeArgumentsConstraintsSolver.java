@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,15 +15,17 @@
 package org.eclipse.jdt.internal.corext.refactoring.generics;
 
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -72,14 +74,27 @@ public class InferTypeArgumentsConstraintsSolver {
 	 * nodes in the constraint graph that remain to be (re-)processed. Entries
 	 * are <code>ConstraintVariable2</code>s.
 	 */
-	private LinkedList<ConstraintVariable2> fWorkList;
+	private ArrayDeque<ConstraintVariable2> fWorkList;
+
+	/**
+	 * Dense indices of the constraint variables, used to index {@link #fInWorkList}.
+	 */
+	private Map<ConstraintVariable2, Integer> fWorkListIndices;
+
+	/**
+	 * The indices of the constraint variables that are currently in the work-list.
+	 * A variable that is already waiting to be processed is not added again.
+	 */
+	private BitSet fInWorkList;
 
 	private InferTypeArgumentsUpdate fUpdate;
 
 
 	public InferTypeArgumentsConstraintsSolver(InferTypeArgumentsTCModel typeConstraintFactory) {
 		fTCModel= typeConstraintFactory;
-		fWorkList= new LinkedList<>();
+		fWorkList= new ArrayDeque<>();
+		fWorkListIndices= new IdentityHashMap<>();
+		fInWorkList= new BitSet();
 	}
 
 	public InferTypeArgumentsUpdate solveConstraints(IProgressMonitor pm) {
@@ -123,7 +138,7 @@ public class InferTypeArgumentsConstraintsSolver {
 		initializeTypeEstimates(allConstraintVariables);
 		if (pm.isCanceled())
 			throw new OperationCanceledException();
-		fWorkList.addAll(Arrays.asList(allConstraintVariables));
+		addToWorkList(allConstraintVariables);
 		runSolver(Progress.subMonitor(pm, 1));
 		chooseTypes(allConstraintVariables, Progress.subMonitor(pm, 1));
 		findCastsToRemove(fTCModel.getCastVariables());
@@ -192,6 +207,7 @@ public class InferTypeArgumentsConstraintsSolver {
 		while (! fWorkList.isEmpty()) {
 			// Get a variable whose type estimate has changed
 			ConstraintVariable2 cv= fWorkList.removeFirst();
+			fInWorkList.clear(getWorkListIndex(cv));
 			List<ITypeConstraint2> usedIn= fTCModel.getUsedIn(cv);
 			processConstraints(usedIn);
 			pm.worked(1);
@@ -249,7 +265,7 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for LHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			leftSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(leftSet.getContributingVariables()));
+			addToWorkList(leftSet.getContributingVariables());
 		}
 		if (! lhsSuperTypes.containsAll(rightEstimate)) {
 			TypeSet xsection= rightEstimate.intersectedWith(lhsSuperTypes);
@@ -258,8 +274,27 @@ public class InferTypeArgumentsConstraintsSolver {
 //				throw new IllegalStateException("Type estimate set is now empty for RHS in " + left + " <= " + right + "; estimates were " + leftEstimate + " <= " + rightEstimate); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 
 			rightSet.setTypeEstimate(xsection);
-			fWorkList.addAll(Arrays.asList(rightSet.getContributingVariables()));
+			addToWorkList(rightSet.getContributingVariables());
+		}
+	}
+
+	private void addToWorkList(ConstraintVariable2[] cvs) {
+		for (ConstraintVariable2 cv : cvs) {
+			int index= getWorkListIndex(cv);
+			if (!fInWorkList.get(index)) {
+				fInWorkList.set(index);
+				fWorkList.addLast(cv);
+			}
+		}
+	}
+
+	private int getWorkListIndex(ConstraintVariable2 cv) {
+		Integer index= fWorkListIndices.get(cv);
+		if (index == null) {
+			index= Integer.valueOf(fWorkListIndices.size());
+			fWorkListIndices.put(cv, index);
 		}
+		return index.intValue();
 	}
 
 	private void chooseTypes(ConstraintVariable2[] allConstraintVariables, IProgressMonitor pm) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -96,6 +96,7 @@ import org.eclipse.jdt.internal.corext.refactoring.util.ResourceUtil;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.Messages;
+import org.eclipse.jdt.internal.corext.util.ParallelWorkers;
 
 import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 import org.eclipse.jdt.internal.ui.util.Progress;
@@ -107,12 +108,15 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 
 	private static final String REWRITTEN= "InferTypeArgumentsRefactoring.rewritten"; //$NON-NLS-1$
 
+	private static final int BATCH_SIZE= 150;
+
 	private TextChangeManager fChangeManager;
 	private IJavaElement[] fElements;
 	private InferTypeArgumentsTCModel fTCModel;
 
 	private boolean fAssumeCloneReturnsSameType;
 	private boolean fLeaveUnconstrainedRaw;
+	private boolean fParallelConstraintCreation= true;
 
 	/**
 	 * Creates a new infer type arguments refactoring.
@@ -152,6 +156,26 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 		return fLeaveUnconstrainedRaw;
 	}
 
+	/**
+	 * Sets whether the compilation units are parsed on several worker threads.
+	 * <p>
+	 * Each worker parses its own share of the compilation units. The constraints are
+	 * still collected into the single type constraint model, one compilation unit
+	 * after the other in the order of the units, so the result is the same as when
+	 * parsing sequentially.
+	 * </p>
+	 *
+	 * @param parallel <code>true</code> to parse in parallel (the default),
+	 *            <code>false</code> to parse one batch after the other
+	 */
+	public void setParallelConstraintCreation(boolean parallel) {
+		fParallelConstraintCreation= parallel;
+	}
+
+	public boolean getParallelConstraintCreation() {
+		return fParallelConstraintCreation;
+	}
+
 	/*
 	 * @see org.eclipse.ltk.core.refactoring.Refactoring#checkInitialConditions(org.eclipse.core.runtime.IProgressMonitor)
 	 */
@@ -179,55 +203,21 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 				ArrayList<IJavaElement> javaElementsList= entry.getValue();
 				IJavaElement[] javaElements= javaElementsList.toArray(new IJavaElement[javaElementsList.size()]);
 				List<ICompilationUnit> cus= Arrays.asList(JavaModelUtil.getAllCompilationUnits(javaElements));
-				int batchSize= 150;
-				int batches= ((cus.size()-1) / batchSize) + 1;
 				IProgressMonitor projectMonitor= Progress.subMonitor(pm, 1);
-				projectMonitor.beginTask("", batches); //$NON-NLS-1$
-				projectMonitor.setTaskName(RefactoringCoreMessages.InferTypeArgumentsRefactoring_building);
-				for (int i= 0; i < batches; i++) {
-					List<ICompilationUnit> batch= cus.subList(i * batchSize, Math.min(cus.size(), (i + 1) * batchSize));
-					ICompilationUnit[] batchCus= batch.toArray(new ICompilationUnit[batch.size()]);
-					final IProgressMonitor batchMonitor= Progress.subMonitor(projectMonitor, 1);
-					batchMonitor.subTask(RefactoringCoreMessages.InferTypeArgumentsRefactoring_calculating_dependencies);
-					ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
-					parser.setProject(project);
-					parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
-					parser.setResolveBindings(true);
-					parser.createASTs(batchCus, new String[0], new ASTRequestor() {
-						@Override
-						public void acceptAST(final ICompilationUnit source, final CompilationUnit ast) {
-							batchMonitor.subTask(BasicElementLabels.getFileName(source));
-							SafeRunner.run(new ISafeRunnable() {
-								@Override
-								public void run() throws Exception {
-									for (IProblem problem : ast.getProblems()) {
-										if (problem.isError()) {
-											String cuName= JavaElementLabelsCore.getElementLabel(source, JavaElementLabelsCore.CU_QUALIFIED);
-											String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_in_cu_skipped, new Object[] {cuName});
-											result.addError(msg, JavaStatusContext.create(source, SourceRangeFactory.create(problem)));
-											return;
-										}
-									}
-									ast.accept(unitCollector);
-								}
-
-								@Override
-								public void handleException(Throwable exception) {
-									String cuName= JavaElementLabelsCore.getElementLabel(source, JavaElementLabelsCore.CU_QUALIFIED);
-									String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_internal_error, new Object[] {cuName});
-									JavaManipulationPlugin.log(new Status(IStatus.ERROR, CorextCore.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, msg, null));
-									String msg2= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_skipped, new Object[] {cuName});
-									result.addError(msg2, JavaStatusContext.create(source));
-								}
-							});
-							fTCModel.newCu();
-						}
-
-						@Override
-						public void acceptBinding(String bindingKey, IBinding binding) {
-							//do nothing
-						}
-					}, batchMonitor);
+				if (fParallelConstraintCreation && cus.size() > 1 && ParallelWorkers.getParallelism() > 1 && !ParallelWorkers.isWorkerThread()) {
+					createConstraintsInParallel(project, cus, unitCollector, result, projectMonitor);
+				} else {
+					int batchSize= BATCH_SIZE;
+					int batches= ((cus.size()-1) / batchSize) + 1;
+					projectMonitor.beginTask("", batches); //$NON-NLS-1$
+					projectMonitor.setTaskName(RefactoringCoreMessages.InferTypeArgumentsRefactoring_building);
+					for (int i= 0; i < batches; i++) {
+						List<ICompilationUnit> batch= cus.subList(i * batchSize, Math.min(cus.size(), (i + 1) * batchSize));
+						ICompilationUnit[] batchCus= batch.toArray(new ICompilationUnit[batch.size()]);
+						IProgressMonitor batchMonitor= Progress.subMonitor(projectMonitor, 1);
+						batchMonitor.subTask(RefactoringCoreMessages.InferTypeArgumentsRefactoring_calculating_dependencies);
+						createConstraints(project, batchCus, unitCollector, result, batchMonitor, null);
+					}
 				}
 				projectMonitor.done();
 				fTCModel.newCu();
@@ -256,6 +246,204 @@ public class InferTypeArgumentsRefactoring extends Refactoring {
 		}
 	}
 
+	/**
+	 * Parses the compilation units of a project on the worker threads and collects their
+	 * type constraints into {@link #fTCModel}. The units are split into rounds of at most
+	 * {@link #BATCH_SIZE} units per worker, so that no more units than in a sequential
+	 * batch are parsed by one parser.
+	 *
+	 * @param project the project of the compilation units
+	 * @param cus the compilation units
+	 * @param unitCollector the constraint creator
+	 * @param result the status to add errors to
+	 * @param pm the progress monitor
+	 * @throws CoreException if a worker failed
+	 */
+	private void createConstraintsInParallel(final IJavaProject project, List<ICompilationUnit> cus, final InferTypeArgumentsConstraintCreator unitCollector, final RefactoringStatus result, IProgressMonitor pm) throws CoreException {
+		int parallelism= ParallelWorkers.getParallelism();
+		int roundSize= parallelism * BATCH_SIZE;
+		pm.beginTask("", cus.size()); //$NON-NLS-1$
+		pm.setTaskName(RefactoringCoreMessages.InferTypeArgumentsRefactoring_building);
+		pm.subTask(RefactoringCoreMessages.InferTypeArgumentsRefactoring_calculating_dependencies);
+		for (int start= 0; start < cus.size(); start+= roundSize) {
+			List<ICompilationUnit> round= cus.subList(start, Math.min(cus.size(), start + roundSize));
+			int workers= Math.min(parallelism, round.size());
+			final UnitOrder order= new UnitOrder(round, workers);
+			List<Integer> workerIndexes= new ArrayList<>(workers);
+			for (int i= 0; i < workers; i++) {
+				workerIndexes.add(Integer.valueOf(i));
+			}
+			try {
+				ParallelWorkers.map(workerIndexes, worker -> {
+					try {
+						createConstraints(project, order.getUnits(worker.intValue()), unitCollector, result, null, order);
+					} finally {
+						order.finish(worker.intValue());
+					}
+					return worker;
+				}, Progress.subMonitor(pm, round.size()));
+			} finally {
+				// release the workers that still wait for their turn after a failure
+				order.abort();
+			}
+		}
+		pm.done();
+	}
+
+	/**
+	 * Parses a batch of compilation units and collects their type constraints into
+	 * {@link #fTCModel}. Can be called concurrently for different batches; the
+	 * constraints of one compilation unit are collected while holding the lock of
+	 * the model.
+	 *
+	 * @param project the project of the compilation units
+	 * @param batchCus the compilation units
+	 * @param unitCollector the constraint creator
+	 * @param result the status to add errors to
+	 * @param batchMonitor the progress monitor, or <code>null</code> if called on a worker thread
+	 * @param order the order in which concurrent batches visit their units, or
+	 *            <code>null</code> if called sequentially
+	 */
+	private void createConstraints(IJavaProject project, ICompilationUnit[] batchCus, final InferTypeArgumentsConstraintCreator unitCollector, final RefactoringStatus result, final IProgressMonitor batchMonitor, final UnitOrder order) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setProject(project);
+		parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
+		parser.setResolveBindings(true);
+		parser.createASTs(batchCus, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(final ICompilationUnit source, final CompilationUnit ast) {
+				if (batchMonitor != null)
+					batchMonitor.subTask(BasicElementLabels.getFileName(source));
+				if (order != null)
+					order.awaitTurn(source);
+				synchronized (fTCModel) {
+					SafeRunner.run(new ISafeRunnable() {
+						@Override
+						public void run() throws Exception {
+							for (IProblem problem : ast.getProblems()) {
+								if (problem.isError()) {
+									String cuName= JavaElementLabelsCore.getElementLabel(source, JavaElementLabelsCore.CU_QUALIFIED);
+									String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_in_cu_skipped, new Object[] {cuName});
+									result.addError(msg, JavaStatusContext.create(source, SourceRangeFactory.create(problem)));
+									return;
+								}
+							}
+							ast.accept(unitCollector);
+						}
+
+						@Override
+						public void handleException(Throwable exception) {
+							String cuName= JavaElementLabelsCore.getElementLabel(source, JavaElementLabelsCore.CU_QUALIFIED);
+							String msg= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_internal_error, new Object[] {cuName});
+							JavaManipulationPlugin.log(new Status(IStatus.ERROR, CorextCore.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, msg, null));
+							String msg2= Messages.format(RefactoringCoreMessages.InferTypeArgumentsRefactoring_error_skipped, new Object[] {cuName});
+							result.addError(msg2, JavaStatusContext.create(source));
+						}
+					});
+					fTCModel.newCu();
+				}
+				if (order != null)
+					order.done(source);
+			}
+
+			@Override
+			public void acceptBinding(String bindingKey, IBinding binding) {
+				//do nothing
+			}
+		}, batchMonitor);
+	}
+
+	/**
+	 * The order in which the workers of a parallel constraint creation visit the compilation
+	 * units. Worker <code>k</code> of <code>n</code> workers parses the units <code>k</code>,
+	 * <code>k + n</code>, <code>k + 2n</code>, ..., and visits a unit only after all units
+	 * before it have been visited. The constraints are therefore created in the same order as
+	 * in a sequential run, while the workers parse their next units.
+	 */
+	private static final class UnitOrder {
+
+		private final List<ICompilationUnit> fUnits;
+		private final Map<ICompilationUnit, Integer> fIndexes;
+		private final int fWorkers;
+		private final boolean[] fDone;
+		private int fNext;
+		private boolean fAborted;
+
+		UnitOrder(List<ICompilationUnit> units, int workers) {
+			fUnits= units;
+			fWorkers= workers;
+			fDone= new boolean[units.size()];
+			fIndexes= new HashMap<>();
+			for (int i= 0; i < units.size(); i++) {
+				fIndexes.put(units.get(i), Integer.valueOf(i));
+			}
+		}
+
+		ICompilationUnit[] getUnits(int worker) {
+			List<ICompilationUnit> units= new ArrayList<>();
+			for (int i= worker; i < fUnits.size(); i+= fWorkers) {
+				units.add(fUnits.get(i));
+			}
+			return units.toArray(new ICompilationUnit[units.size()]);
+		}
+
+		/**
+		 * Waits until all units before the given unit have been visited. Earlier units of the
+		 * same worker that the parser did not report are skipped.
+		 *
+		 * @param unit the unit to visit next
+		 * @throws OperationCanceledException if the constraint creation has been aborted
+		 */
+		synchronized void awaitTurn(ICompilationUnit unit) {
+			Integer index= fIndexes.get(unit);
+			if (index == null)
+				return;
+			for (int i= index.intValue() - fWorkers; i >= 0 && !fDone[i]; i-= fWorkers) {
+				setDone(i);
+			}
+			try {
+				while (fNext < index.intValue() && !fAborted) {
+					wait();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			}
+			if (fAborted)
+				throw new OperationCanceledException();
+		}
+
+		synchronized void done(ICompilationUnit unit) {
+			Integer index= fIndexes.get(unit);
+			if (index != null)
+				setDone(index.intValue());
+		}
+
+		/**
+		 * Marks all units of a worker as visited, including the ones the parser did not report.
+		 *
+		 * @param worker the worker that has finished
+		 */
+		synchronized void finish(int worker) {
+			for (int i= worker; i < fDone.length; i+= fWorkers) {
+				setDone(i);
+			}
+		}
+
+		synchronized void abort() {
+			fAborted= true;
+			notifyAll();
+		}
+
+		private void setDone(int index) {
+			fDone[index]= true;
+			while (fNext < fDone.length && fDone[fNext]) {
+				fNext++;
+			}
+			notifyAll();
+		}
+	}
+
 	private void clearGlobalState() {
 		TypeSet.resetCount();
 		EnumeratedTypeSet.resetCount();
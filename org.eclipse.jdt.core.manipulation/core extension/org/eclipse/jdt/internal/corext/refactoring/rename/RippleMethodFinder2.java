@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,7 +32,9 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
@@ -51,6 +53,7 @@ import org.eclipse.jdt.internal.corext.refactoring.RefactoringScopeFactory;
 import org.eclipse.jdt.internal.corext.refactoring.base.ReferencesInBinaryContext;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
+import org.eclipse.jdt.internal.corext.util.ParallelWorkers;
 import org.eclipse.jdt.internal.corext.util.SearchUtils;
 
 import org.eclipse.jdt.internal.ui.util.Progress;
@@ -87,55 +90,65 @@ public class RippleMethodFinder2 {
 			return fImplementation.get(key);
 		}
 	}
+	/**
+	 * Union-find over the types that declare the method. The types are numbered, and the sets are
+	 * kept as an array of parent indices with path compression.
+	 */
 	private static class UnionFind {
-		HashMap<IType, IType> fElementToRepresentative= new HashMap<>();
-
-		public void init(IType type) {
-			fElementToRepresentative.put(type, type);
+		private final Map<IType, Integer> fTypeToIndex;
+		private final IType[] fTypes;
+		private final int[] fParents;
+
+		public UnionFind(Collection<IType> types) {
+			fTypeToIndex= new HashMap<>(types.size() * 2);
+			fTypes= types.toArray(new IType[types.size()]);
+			fParents= new int[fTypes.length];
+			for (int i= 0; i < fTypes.length; i++) {
+				fTypeToIndex.put(fTypes[i], Integer.valueOf(i));
+				fParents[i]= i;
+			}
 		}
 
-		//path compression:
+		/**
+		 * @param element the type
+		 * @return the representative of the set of the type, or <code>null</code> if the type
+		 *         does not declare the method
+		 */
 		public IType find(IType element) {
-			IType root= element;
-			IType rep= fElementToRepresentative.get(root);
-			Set<IType> visited=new HashSet<>();
-			while (rep != null && visited.add(root)) {
-				root= rep;
-				rep= fElementToRepresentative.get(root);
-			}
-			if (rep == null)
+			Integer index= fTypeToIndex.get(element);
+			if (index == null)
 				return null;
+			return fTypes[findRoot(index.intValue())];
+		}
 
-			rep= fElementToRepresentative.get(element);
-			while (! rep.equals(root)) {
-				IType temp= element;
-				element= rep;
-				fElementToRepresentative.put(temp, root);
-				rep= fElementToRepresentative.get(element);
+		private int findRoot(int index) {
+			int root= index;
+			while (fParents[root] != root)
+				root= fParents[root];
+			//path compression:
+			while (fParents[index] != root) {
+				int next= fParents[index];
+				fParents[index]= root;
+				index= next;
 			}
 			return root;
 		}
 
-//		//straightforward:
-//		public IType find(IType element) {
-//			IType current= element;
-//			IType rep= (IType) fElementToRepresentative.get(current);
-//			while (rep != null && ! rep.equals(current)) {
-//				current= rep;
-//				rep= (IType) fElementToRepresentative.get(current);
-//			}
-//			if (rep == null)
-//				return null;
-//			else
-//				return current;
-//		}
-
 		public void union(IType rep1, IType rep2) {
-			fElementToRepresentative.put(rep1, rep2);
+			int root1= findRoot(fTypeToIndex.get(rep1).intValue());
+			int root2= findRoot(fTypeToIndex.get(rep2).intValue());
+			if (root1 != root2)
+				fParents[root1]= root2;
 		}
 	}
 
 
+	/**
+	 * Number of root types from which on a single hierarchy of all source folders that can contain
+	 * subtypes of the roots is built, instead of one hierarchy per root.
+	 */
+	private static final int SHARED_HIERARCHY_THRESHOLD= 16;
+
 	private RippleMethodFinder2(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit){
 		fMethod= method;
 		fExcludeBinaries= excludeBinaries;
@@ -289,6 +302,8 @@ public class RippleMethodFinder2 {
 			}
 		}
 
+		createRootHierarchies(Progress.subMonitor(pm, 1), owner);
+
 		//find all subtypes of related types:
 		HashSet<IType> relatedSubTypes= new HashSet<>();
 		List<IType> relatedTypesToProcess= new ArrayList<>(relatedTypes);
@@ -435,6 +450,86 @@ public class RippleMethodFinder2 {
 		return null;
 	}
 
+	/**
+	 * Creates the hierarchies of all root types up front. With many roots, one hierarchy of all
+	 * source folders that can contain subtypes of the roots is shared by all roots. Otherwise, the
+	 * hierarchies of the roots are created in parallel.
+	 *
+	 * @param pm the progress monitor
+	 * @param owner the working copy owner
+	 * @throws CoreException if creating a hierarchy fails
+	 */
+	private void createRootHierarchies(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		List<IType> roots= new ArrayList<>();
+		for (Collection<IType> repRoots : fRootReps.fImplementation.values()) {
+			for (IType root : repRoots) {
+				if (!fRootHierarchies.containsKey(root))
+					roots.add(root);
+			}
+		}
+		if (roots.isEmpty()) {
+			pm.done();
+			return;
+		}
+		if (roots.size() >= SHARED_HIERARCHY_THRESHOLD) {
+			IRegion region= createSubtypeRegion(roots);
+			if (region != null) {
+				ITypeHierarchy sharedHierarchy= JavaCore.newTypeHierarchy(region, owner, pm);
+				for (IType root : roots) {
+					fRootHierarchies.put(root, sharedHierarchy);
+				}
+				return;
+			}
+		}
+		List<ITypeHierarchy> hierarchies= ParallelWorkers.map(roots, root -> root.newTypeHierarchy(owner, null), pm);
+		for (int i= 0; i < roots.size(); i++) {
+			fRootHierarchies.put(roots.get(i), hierarchies.get(i));
+		}
+	}
+
+	/**
+	 * Returns a region with the source folders of all projects that can contain subtypes of the
+	 * given types, i.e. the projects of the types and the projects that require them.
+	 *
+	 * @param types the types
+	 * @return the region, or <code>null</code> if a type is binary and could have subtypes in
+	 *         libraries
+	 * @throws JavaModelException if accessing the projects fails
+	 */
+	private static IRegion createSubtypeRegion(List<IType> types) throws JavaModelException {
+		Set<String> projectNames= new HashSet<>();
+		for (IType type : types) {
+			if (type.isBinary())
+				return null;
+			projectNames.add(type.getJavaProject().getElementName());
+		}
+		IJavaProject[] allProjects= types.get(0).getJavaModel().getJavaProjects();
+		boolean added= true;
+		while (added) {
+			added= false;
+			for (IJavaProject project : allProjects) {
+				if (!projectNames.contains(project.getElementName())) {
+					for (String requiredName : project.getRequiredProjectNames()) {
+						if (projectNames.contains(requiredName)) {
+							added|= projectNames.add(project.getElementName());
+							break;
+						}
+					}
+				}
+			}
+		}
+		IRegion region= JavaCore.newRegion();
+		for (IJavaProject project : allProjects) {
+			if (projectNames.contains(project.getElementName())) {
+				for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+					if (root.getKind() == IPackageFragmentRoot.K_SOURCE && project.equals(root.getJavaProject()))
+						region.add(root);
+				}
+			}
+		}
+		return region;
+	}
+
 	private void findAllDeclarations(IProgressMonitor monitor, WorkingCopyOwner owner) throws CoreException {
 		fDeclarations= new HashSet<>();
 
@@ -499,10 +594,7 @@ public class RippleMethodFinder2 {
 
 	private void createUnionFind() throws JavaModelException {
 		fRootTypes= new HashSet<>(fTypeToMethod.fImplementation.keySet());
-		fUnionFind= new UnionFind();
-		for (IType type : fTypeToMethod.fImplementation.keySet()) {
-			fUnionFind.init(type);
-		}
+		fUnionFind= new UnionFind(fTypeToMethod.fImplementation.keySet());
 		for (IType type : fTypeToMethod.fImplementation.keySet()) {
 			uniteWithSupertypes(type, type);
 		}
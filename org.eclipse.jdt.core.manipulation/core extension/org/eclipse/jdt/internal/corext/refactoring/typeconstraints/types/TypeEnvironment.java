@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -117,14 +117,15 @@ public class TypeEnvironment {
 	private Map<TType, SuperWildcardType>    fSuperWildcardTypes= new HashMap<>();
 	private UnboundWildcardType fUnboundWildcardType= null;
 
-	private static final int MAX_ENTRIES= 1024;
-	private Map<TypeTuple, Boolean> fSubTypeCache= new LinkedHashMap<>(50, 0.75f, true) {
-		private static final long serialVersionUID= 1L;
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<TypeTuple, Boolean> eldest) {
-			return size() > MAX_ENTRIES;
-		}
-	};
+	/**
+	 * The subtype cache is split into small LRU maps, the stripes, which are
+	 * locked independently. This only keeps lookups in the cache consistent; the
+	 * other maps of the environment are not synchronized, so an environment
+	 * must still be used by one thread at a time.
+	 */
+	private static final int SUB_TYPE_CACHE_STRIPES= 16;
+	private static final int MAX_ENTRIES_PER_STRIPE= 4096;
+	private final List<Map<TypeTuple, Boolean>> fSubTypeCache= new ArrayList<>(SUB_TYPE_CACHE_STRIPES);
 
 	/**
 	 * Map from TType to its known subtypes, or <code>null</code> iff subtype
@@ -180,10 +181,40 @@ public class TypeEnvironment {
 			fSubTypes= new HashMap<>();
 		}
 		fRemoveCapures= removeCapures;
+		for (int i= 0; i < SUB_TYPE_CACHE_STRIPES; i++) {
+			fSubTypeCache.add(new LinkedHashMap<>(64, 0.75f, true) {
+				private static final long serialVersionUID= 1L;
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<TypeTuple, Boolean> eldest) {
+					return size() > MAX_ENTRIES_PER_STRIPE;
+				}
+			});
+		}
+	}
+
+	private Map<TypeTuple, Boolean> getSubTypeCacheStripe(TypeTuple key) {
+		int hash= key.hashCode();
+		return fSubTypeCache.get((hash ^ (hash >>> 16)) & (SUB_TYPE_CACHE_STRIPES - 1));
+	}
+
+	/**
+	 * Returns the cached result of a subtype check.
+	 *
+	 * @param key the (subtype, supertype) pair
+	 * @return the cached result, or <code>null</code> if the check is not cached
+	 */
+	Boolean getCachedIsSubType(TypeTuple key) {
+		Map<TypeTuple, Boolean> stripe= getSubTypeCacheStripe(key);
+		synchronized (stripe) {
+			return stripe.get(key);
+		}
 	}
 
-	Map<TypeTuple, Boolean> getSubTypeCache() {
-		return fSubTypeCache;
+	void cacheIsSubType(TypeTuple key, boolean isSubType) {
+		Map<TypeTuple, Boolean> stripe= getSubTypeCacheStripe(key);
+		synchronized (stripe) {
+			stripe.put(key, Boolean.valueOf(isSubType));
+		}
 	}
 
 	public TType create(ITypeBinding binding) {
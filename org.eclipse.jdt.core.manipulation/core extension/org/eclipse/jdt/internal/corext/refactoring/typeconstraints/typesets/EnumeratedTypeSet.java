@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -26,6 +27,11 @@ import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.TTypes;
 /**
  * A type-safe wrapper for {@code Set<TType>} that also adds {@code TType}-specific
  * functionality, e.g. subTypes() and superTypes().
+ * <p>
+ * Besides the members in insertion order, the set keeps a bit set over the type IDs
+ * of its {@link TypeSetEnvironment}, so that the set operations used by the type
+ * constraint solver do not need to hash every member.
+ * </p>
  */
 public class EnumeratedTypeSet extends TypeSet {
 	static private int sCount= 0;
@@ -41,7 +47,12 @@ public class EnumeratedTypeSet extends TypeSet {
 	/**
 	 * Set containing the TTypes in this EnumeratedTypeSet.
 	 */
-	Set<TType> fMembers= new LinkedHashSet<>();
+	private Set<TType> fMembers= new LinkedHashSet<>();
+
+	/**
+	 * The IDs of the TTypes in this EnumeratedTypeSet, see {@link TypeSetEnvironment#getTypeId(TType)}.
+	 */
+	private BitSet fMemberIds= new BitSet();
 
 	/**
 	 * Constructs a new EnumeratedTypeSet with the members of Set s in it.
@@ -53,7 +64,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(Iterator<TType> types, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		while (types.hasNext()) {
-			fMembers.add(types.next());
+			addMember(types.next());
 		}
 		sCount++;
 	}
@@ -77,7 +88,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public EnumeratedTypeSet(TType t, TypeSetEnvironment typeSetEnvironment) {
 		super(typeSetEnvironment);
 		Assert.isNotNull(t);
-		fMembers.add(t);
+		addMember(t);
 		sCount++;
 	}
 
@@ -95,16 +106,18 @@ public class EnumeratedTypeSet extends TypeSet {
 		if (o instanceof EnumeratedTypeSet) {
 			EnumeratedTypeSet other= (EnumeratedTypeSet) o;
 
+			if (getTypeSetEnvironment() == other.getTypeSetEnvironment())
+				return fMemberIds.equals(other.fMemberIds);
 			return fMembers.equals(other.fMembers);
 		} else if (o instanceof SingletonTypeSet) {
 			SingletonTypeSet other= (SingletonTypeSet) o;
 
-			return (fMembers.size() == 1) && fMembers.contains(other.anyMember());
+			return (fMembers.size() == 1) && contains(other.anyMember());
 		} else if (o instanceof TypeSet) {
 			TypeSet other= (TypeSet) o;
 
 			for(Iterator<TType> otherIter= other.iterator(); otherIter.hasNext(); ) {
-				if (!fMembers.contains(otherIter.next()))
+				if (!contains(otherIter.next()))
 					return false;
 			}
 			for (TType tType : fMembers) {
@@ -153,7 +166,8 @@ public class EnumeratedTypeSet extends TypeSet {
 			// if s2 has array types, the following will retain them, as it should.
 			EnumeratedTypeSet ets2= (EnumeratedTypeSet) s2;
 			fMembers= new LinkedHashSet<>();
-			fMembers.addAll(ets2.fMembers);
+			fMemberIds= new BitSet();
+			addAll(ets2);
 		} else
 			retainAll(s2);
 	}
@@ -167,7 +181,7 @@ public class EnumeratedTypeSet extends TypeSet {
 		if (isUniverse())
 			return makeClone(); // subtypes(universe) = universe
 
-		if (fMembers.contains(getJavaLangObject()))
+		if (contains(getJavaLangObject()))
 			return getTypeSetEnvironment().getUniverseTypeSet();
 
 		return getTypeSetEnvironment().createSubTypesSet(this);
@@ -200,7 +214,7 @@ public class EnumeratedTypeSet extends TypeSet {
 	public TypeSet makeClone() {
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
-		result.fMembers.addAll(fMembers);
+		result.addAll(this);
 		result.initComplete();
 		return result;
 	}
@@ -214,6 +228,7 @@ public class EnumeratedTypeSet extends TypeSet {
 			fMembers= new LinkedHashSet<>();
 		else
 			fMembers.clear();
+		fMemberIds= new BitSet();
 	}
 
 	@Override
@@ -228,20 +243,31 @@ public class EnumeratedTypeSet extends TypeSet {
 	public boolean add(TType t) {
 		// Doesn't make sense to do here what other methods do (copy-and-modify)
 		Assert.isTrue(!isUniverse(), "Someone's trying to expand the universe!"); //$NON-NLS-1$
-		return fMembers.add(t);
+		return addMember(t);
+	}
+
+	private boolean addMember(TType t) {
+		if (!fMembers.add(t))
+			return false;
+		fMemberIds.set(getTypeSetEnvironment().getTypeId(t));
+		return true;
 	}
 
 	@Override
 	public boolean contains(TType t) {
 		if (isUniverse())
 			return true;
-		return fMembers.contains(t);
+		int id= getTypeSetEnvironment().lookupTypeId(t);
+		return id >= 0 && fMemberIds.get(id);
 	}
 
 	public boolean remove(TType t) {
 		if (isUniverse())
 			fMembers= cloneSet(fMembers);
-		return fMembers.remove(t);
+		if (!fMembers.remove(t))
+			return false;
+		fMemberIds.clear(getTypeSetEnvironment().lookupTypeId(t));
+		return true;
 	}
 
 	private Set<TType> cloneSet(Set<TType> members) {
@@ -249,15 +275,22 @@ public class EnumeratedTypeSet extends TypeSet {
 	}
 
 	public boolean addAll(TypeSet s) {
-		if (s instanceof EnumeratedTypeSet) {
-			EnumeratedTypeSet ets= (EnumeratedTypeSet) s;
-
-			return fMembers.addAll(ets.fMembers);
-		} else {
-			EnumeratedTypeSet ets= s.enumerate();
+		EnumeratedTypeSet ets= s.enumerate();
 
-			return fMembers.addAll(ets.fMembers);
+		if (ets.getTypeSetEnvironment() == getTypeSetEnvironment()) {
+			BitSet added= (BitSet) ets.fMemberIds.clone();
+			added.andNot(fMemberIds);
+			if (added.isEmpty())
+				return false;
+			fMembers.addAll(ets.fMembers);
+			fMemberIds.or(added);
+			return true;
 		}
+		boolean changed= false;
+		for (TType t : ets.fMembers) {
+			changed|= addMember(t);
+		}
+		return changed;
 	}
 
 	@Override
@@ -278,13 +311,25 @@ public class EnumeratedTypeSet extends TypeSet {
 			return false;
 		EnumeratedTypeSet ets= s.enumerate();
 
+		if (ets.getTypeSetEnvironment() == getTypeSetEnvironment()) {
+			if (ets.fMembers.size() > fMembers.size())
+				return false;
+			BitSet missing= (BitSet) ets.fMemberIds.clone();
+			missing.andNot(fMemberIds);
+			return missing.isEmpty();
+		}
 		return fMembers.containsAll(ets.fMembers);
 	}
 
 	public boolean removeAll(EnumeratedTypeSet s) {
 		if (isUniverse())
 			fMembers= cloneSet(fMembers);
-		return fMembers.removeAll(s.fMembers);
+		if (s.getTypeSetEnvironment() != getTypeSetEnvironment())
+			return removeMembers(s.fMembers);
+		if (!fMemberIds.intersects(s.fMemberIds))
+			return false;
+		fMemberIds.andNot(s.fMemberIds);
+		return removeMembersNotInIds();
 	}
 
 	public boolean retainAll(TypeSet s) {
@@ -294,9 +339,40 @@ public class EnumeratedTypeSet extends TypeSet {
 
 		if (isUniverse()) {
 			fMembers= cloneSet(ets.fMembers);
+			fMemberIds= (BitSet) ets.fMemberIds.clone();
 			return true;
-		} else
-			return fMembers.retainAll(ets.fMembers);
+		} else if (ets.getTypeSetEnvironment() != getTypeSetEnvironment()) {
+			boolean changed= fMembers.retainAll(ets.fMembers);
+			if (changed)
+				recomputeMemberIds();
+			return changed;
+		} else {
+			int size= fMemberIds.cardinality();
+			fMemberIds.and(ets.fMemberIds);
+			if (fMemberIds.cardinality() == size)
+				return false;
+			return removeMembersNotInIds();
+		}
+	}
+
+	private boolean removeMembers(Set<TType> types) {
+		boolean changed= false;
+		for (TType t : types) {
+			changed|= remove(t);
+		}
+		return changed;
+	}
+
+	private boolean removeMembersNotInIds() {
+		TypeSetEnvironment environment= getTypeSetEnvironment();
+		return fMembers.removeIf(t -> !fMemberIds.get(environment.lookupTypeId(t)));
+	}
+
+	private void recomputeMemberIds() {
+		fMemberIds= new BitSet();
+		for (TType t : fMembers) {
+			fMemberIds.set(getTypeSetEnvironment().getTypeId(t));
+		}
 	}
 
 	@Override
@@ -313,23 +389,23 @@ public class EnumeratedTypeSet extends TypeSet {
 	public TypeSet upperBound() {
 		if (fMembers.size() == 1)
 			return new SingletonTypeSet(fMembers.iterator().next(), getTypeSetEnvironment());
-		if (fMembers.contains(getJavaLangObject()))
+		if (contains(getJavaLangObject()))
 			return new SingletonTypeSet(getJavaLangObject(), getTypeSetEnvironment());
 
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		// Add to result each element of fMembers that has no proper supertype in fMembers
-		result.fMembers.addAll(fMembers);
+		result.addAll(this);
 		for (TType t : fMembers) {
 			if (t.isArrayType()) {
 				ArrayType at= (ArrayType) t;
 				int numDims= at.getDimensions();
 				for(Iterator<TType> subIter=TTypes.getAllSubTypesIterator(at.getElementType()); subIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(subIter.next(), numDims));
+					result.remove(TTypes.createArrayType(subIter.next(), numDims));
 				}
 			} else {
 				for (Iterator<TType> iterator= TTypes.getAllSubTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
+					result.remove(iterator.next());
 				}
 			}
 		}
@@ -345,13 +421,13 @@ public class EnumeratedTypeSet extends TypeSet {
 		EnumeratedTypeSet result= new EnumeratedTypeSet(getTypeSetEnvironment());
 
 		// Add to result each element of fMembers that has no proper subtype in fMembers
-		result.fMembers.addAll(fMembers);
+		result.addAll(this);
 
 		for (TType t : fMembers) {
 			// java.lang.Object is only in the lower bound if fMembers consists
 			// of only java.lang.Object, but that case is handled above.
 			if (t.equals(getJavaLangObject())) {
-				result.fMembers.remove(t);
+				result.remove(t);
 				continue;
 			}
 
@@ -359,11 +435,11 @@ public class EnumeratedTypeSet extends TypeSet {
 				ArrayType at= (ArrayType) t;
 				int numDims= at.getDimensions();
 				for(Iterator<TType> superIter=TTypes.getAllSuperTypesIterator(at.getElementType()); superIter.hasNext(); ) {
-					result.fMembers.remove(TTypes.createArrayType(superIter.next(), numDims));
+					result.remove(TTypes.createArrayType(superIter.next(), numDims));
 				}
 			} else {
 				for (Iterator<TType> iterator= TTypes.getAllSuperTypesIterator(t); iterator.hasNext();) {
-					result.fMembers.remove(iterator.next());
+					result.remove(iterator.next());
 				}
 			}
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets;
 
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -33,6 +34,12 @@ public class TypeSetEnvironment {
 	private final Map<TType, SuperTypesOfSingleton> fSuperTypesOfSingletons= new LinkedHashMap<>();//@perf
 	private final Map<Object, SuperTypesSet> fSuperTypesSets= new LinkedHashMap<>();//@perf
 
+	/**
+	 * Dense IDs of the TTypes that are members of {@link EnumeratedTypeSet}s
+	 * created in this environment.
+	 */
+	private final Map<TType, Integer> fTypeIds= new HashMap<>();
+
 	private int fgCommonExprHits= 0;
 	private int fgCommonExprMisses= 0;
 
@@ -54,6 +61,31 @@ public class TypeSetEnvironment {
 		return fEmptyTypeSet;
 	}
 
+	/**
+	 * Returns the ID of the given type, assigning the next free ID if the type
+	 * does not have one yet.
+	 *
+	 * @param type the type
+	 * @return the ID, a non-negative number
+	 */
+	int getTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		if (id == null) {
+			id= Integer.valueOf(fTypeIds.size());
+			fTypeIds.put(type, id);
+		}
+		return id.intValue();
+	}
+
+	/**
+	 * @param type the type
+	 * @return the ID of the given type, or <code>-1</code> if it does not have one
+	 */
+	int lookupTypeId(TType type) {
+		Integer id= fTypeIds.get(type);
+		return id != null ? id.intValue() : -1;
+	}
+
 	public SubTypesOfSingleton createSubTypesOfSingleton(TType superType) {
 		if (superType.isJavaLangObject())
 			return this.getUniverseTypeSet();
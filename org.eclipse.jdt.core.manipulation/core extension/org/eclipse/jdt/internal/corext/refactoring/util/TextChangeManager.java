@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,16 +14,32 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.util;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.ltk.core.refactoring.GroupCategorySet;
 import org.eclipse.ltk.core.refactoring.TextChange;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
+import org.eclipse.jdt.internal.corext.util.ParallelWorkers;
+
 
 /**
  * A <code>TextChangeManager</code> manages associations between <code>ICompilationUnit</code>
@@ -31,6 +47,77 @@ import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
  */
 public class TextChangeManager {
 
+	/**
+	 * Creates the text edits for one work item of
+	 * {@link TextChangeManager#addTextEdits(List, EditCreator, IProgressMonitor)}.
+	 *
+	 * @param <T> the type of the work items
+	 */
+	@FunctionalInterface
+	public interface EditCreator<T> {
+		/**
+		 * Creates the text edits for the given work item. Called concurrently for different work
+		 * items, so implementations must not modify shared state.
+		 *
+		 * @param item the work item
+		 * @param collector the collector to add the text edits to
+		 * @throws CoreException if the edits could not be created
+		 */
+		void createEdits(T item, EditCollector collector) throws CoreException;
+	}
+
+	/**
+	 * Records the text edits created by an {@link EditCreator}. The edits are added to the managed
+	 * changes in the order in which they have been recorded.
+	 */
+	public static final class EditCollector {
+
+		private record PendingEdit(ICompilationUnit cu, String name, TextEdit edit, GroupCategorySet categories, TextChange change) {
+		}
+
+		private final List<PendingEdit> fEdits= new ArrayList<>();
+
+		/**
+		 * Records a text edit, see {@link TextChangeCompatibility#addTextEdit(TextChange, String, TextEdit)}.
+		 *
+		 * @param cu the compilation unit
+		 * @param name the name of the text edit group
+		 * @param edit the text edit
+		 */
+		public void addTextEdit(ICompilationUnit cu, String name, TextEdit edit) {
+			addTextEdit(cu, name, edit, null);
+		}
+
+		/**
+		 * Records a text edit, see
+		 * {@link TextChangeCompatibility#addTextEdit(TextChange, String, TextEdit, GroupCategorySet)}.
+		 *
+		 * @param cu the compilation unit
+		 * @param name the name of the text edit group
+		 * @param edit the text edit
+		 * @param categories the group categories, or <code>null</code>
+		 */
+		public void addTextEdit(ICompilationUnit cu, String name, TextEdit edit, GroupCategorySet categories) {
+			fEdits.add(new PendingEdit(cu, name, edit, categories, null));
+		}
+
+		/**
+		 * Records the replacement of the change of the given compilation unit, see
+		 * {@link TextChangeManager#manage(ICompilationUnit, TextChange)}.
+		 *
+		 * @param cu the compilation unit
+		 * @param change the change
+		 */
+		public void manage(ICompilationUnit cu, TextChange change) {
+			fEdits.add(new PendingEdit(cu, null, null, null, change));
+		}
+	}
+
+	/**
+	 * The number of chunks per worker thread the work items are partitioned into.
+	 */
+	private static final int CHUNKS_PER_WORKER= 4;
+
 	private Map<ICompilationUnit, TextChange> fMap= new HashMap<>(10);
 
 	private final boolean fKeepExecutedTextEdits;
@@ -64,13 +151,91 @@ public class TextChangeManager {
 	public TextChange get(ICompilationUnit cu) {
 		TextChange result= fMap.get(cu);
 		if (result == null) {
-			result= new CompilationUnitChange(cu.getElementName(), cu);
-			result.setKeepPreviewEdits(fKeepExecutedTextEdits);
+			result= createChange(cu);
 			fMap.put(cu, result);
 		}
 		return result;
 	}
 
+	/**
+	 * Creates a change for the given compilation unit with the settings of this manager, without
+	 * managing it. The change can later be added with {@link #manage(ICompilationUnit, TextChange)}.
+	 *
+	 * @param cu the compilation unit
+	 * @return the new change
+	 */
+	public TextChange createChange(ICompilationUnit cu) {
+		TextChange result= new CompilationUnitChange(cu.getElementName(), cu);
+		result.setKeepPreviewEdits(fKeepExecutedTextEdits);
+		return result;
+	}
+
+	/**
+	 * Creates text edits for the given work items in parallel and adds them to the managed changes.
+	 * <p>
+	 * The work items are partitioned into chunks that are processed by worker threads. The edits
+	 * of all chunks are then grouped by compilation unit and inserted into the changes of the
+	 * compilation units, again in parallel. The resulting changes are the same as if the edits had
+	 * been added one after the other in the order of the work items.
+	 * </p>
+	 *
+	 * @param items the work items, e.g. the search result groups of the affected compilation units
+	 * @param creator creates the edits for one work item
+	 * @param pm the progress monitor
+	 * @throws CoreException if the edits could not be created
+	 */
+	public <T> void addTextEdits(List<T> items, EditCreator<T> creator, IProgressMonitor pm) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(pm, 10);
+		int chunkSize= Math.max(1, items.size() / (ParallelWorkers.getParallelism() * CHUNKS_PER_WORKER));
+		List<List<T>> chunks= new ArrayList<>();
+		for (int i= 0; i < items.size(); i+= chunkSize) {
+			chunks.add(items.subList(i, Math.min(items.size(), i + chunkSize)));
+		}
+		List<EditCollector> collectors= ParallelWorkers.map(chunks, chunk -> {
+			EditCollector collector= new EditCollector();
+			for (T item : chunk) {
+				creator.createEdits(item, collector);
+			}
+			return collector;
+		}, subMonitor.split(7));
+
+		Map<ICompilationUnit, List<EditCollector.PendingEdit>> editsByUnit= new LinkedHashMap<>();
+		for (EditCollector collector : collectors) {
+			for (EditCollector.PendingEdit edit : collector.fEdits) {
+				editsByUnit.computeIfAbsent(edit.cu(), cu -> new ArrayList<>()).add(edit);
+			}
+		}
+		List<Entry<ICompilationUnit, List<EditCollector.PendingEdit>>> units= new ArrayList<>(editsByUnit.entrySet());
+		// each change is only modified by the worker processing its compilation unit
+		List<TextChange> changes= ParallelWorkers.map(units, unit -> applyEdits(unit.getKey(), fMap.get(unit.getKey()), unit.getValue()), subMonitor.split(3));
+		for (int i= 0; i < units.size(); i++) {
+			fMap.put(units.get(i).getKey(), changes.get(i));
+		}
+	}
+
+	private TextChange applyEdits(ICompilationUnit cu, TextChange change, List<EditCollector.PendingEdit> edits) {
+		for (EditCollector.PendingEdit edit : edits) {
+			if (edit.change() != null) {
+				change= edit.change();
+			} else {
+				if (change == null) {
+					change= createChange(cu);
+				}
+				try {
+					if (edit.categories() != null) {
+						TextChangeCompatibility.addTextEdit(change, edit.name(), edit.edit(), edit.categories());
+					} else {
+						TextChangeCompatibility.addTextEdit(change, edit.name(), edit.edit());
+					}
+				} catch (MalformedTreeException e) {
+					JavaManipulationPlugin.logErrorMessage("MalformedTreeException while processing cu " + cu); //$NON-NLS-1$
+					throw e;
+				}
+			}
+		}
+		return change;
+	}
+
 	/**
 	 * Removes the <code>TextChange</code> managed under the given key
 	 * <code>unit</code>.
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+
+/**
+ * Runs independent units of work, e.g. per compilation unit, on a dedicated pool of worker threads.
+ * <p>
+ * The work items usually issue blocking Java model or search engine requests. Running them on
+ * {@link java.util.concurrent.ForkJoinPool#commonPool()} could starve the JDT indexer, which uses
+ * the common pool itself, so the items run on a separate, fixed-size pool instead. Work that is
+ * submitted from a worker thread runs sequentially on that thread to avoid starving the pool.
+ * </p>
+ * <p>
+ * Results are returned in the order of the work items, independent of the order in which the
+ * workers finish. Progress is reported and cancellation is checked on the calling thread.
+ * </p>
+ */
+public final class ParallelWorkers {
+
+	/**
+	 * A unit of work.
+	 *
+	 * @param <T> the type of the work items
+	 * @param <R> the type of the results
+	 */
+	@FunctionalInterface
+	public interface Worker<T, R> {
+		/**
+		 * Processes one work item. Called concurrently for different items.
+		 *
+		 * @param item the work item
+		 * @return the result for the item
+		 * @throws CoreException if the item cannot be processed
+		 */
+		R run(T item) throws CoreException;
+	}
+
+	private static final class WorkerThread extends Thread {
+		WorkerThread(Runnable r, String name) {
+			super(r, name);
+		}
+	}
+
+	private static final int POLL_INTERVAL_MS= 50;
+
+	private static ExecutorService fgExecutor;
+
+	private ParallelWorkers() {
+	}
+
+	/**
+	 * Returns the number of work items that are processed at the same time.
+	 *
+	 * @return the parallelism, at least 1
+	 */
+	public static int getParallelism() {
+		return Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors() - 1));
+	}
+
+	/**
+	 * Returns whether the current thread is a worker thread. Work submitted from a worker thread
+	 * runs sequentially, so it must not wait for other items of the same submission.
+	 *
+	 * @return <code>true</code> if called on a worker thread
+	 */
+	public static boolean isWorkerThread() {
+		return Thread.currentThread() instanceof WorkerThread;
+	}
+
+	/**
+	 * Processes the given work items in parallel.
+	 *
+	 * @param items the work items
+	 * @param worker the worker that processes one item
+	 * @param monitor the progress monitor, one unit of work per item, can be <code>null</code>
+	 * @return the results, in the order of the items
+	 * @throws CoreException the first exception thrown by the worker, in the order of the items
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public static <T, R> List<R> map(List<? extends T> items, Worker<T, R> worker, IProgressMonitor monitor) throws CoreException {
+		SubMonitor subMonitor= SubMonitor.convert(monitor, items.size());
+		List<R> results= new ArrayList<>(items.size());
+		if (items.size() <= 1 || getParallelism() <= 1 || isWorkerThread()) {
+			for (T item : items) {
+				if (subMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				results.add(worker.run(item));
+				subMonitor.worked(1);
+			}
+			return results;
+		}
+
+		AtomicBoolean stop= new AtomicBoolean();
+		AtomicInteger done= new AtomicInteger();
+		List<Future<R>> futures= new ArrayList<>(items.size());
+		ExecutorService executor= getExecutor();
+		for (T item : items) {
+			futures.add(executor.submit(() -> {
+				if (stop.get()) {
+					throw new OperationCanceledException();
+				}
+				R result= worker.run(item);
+				done.incrementAndGet();
+				return result;
+			}));
+		}
+		int reported= 0;
+		try {
+			for (Future<R> future : futures) {
+				while (true) {
+					try {
+						results.add(future.get(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS));
+						break;
+					} catch (TimeoutException e) {
+						if (subMonitor.isCanceled()) {
+							throw new OperationCanceledException();
+						}
+					} finally {
+						int current= done.get();
+						subMonitor.worked(current - reported);
+						reported= current;
+					}
+				}
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause= e.getCause();
+			if (cause instanceof CoreException) {
+				throw (CoreException) cause;
+			} else if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IllegalStateException(cause);
+		} finally {
+			stop.set(true);
+			for (Future<R> future : futures) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	private static synchronized ExecutorService getExecutor() {
+		if (fgExecutor == null || fgExecutor.isShutdown()) {
+			ThreadFactory factory= new ThreadFactory() {
+				private final AtomicInteger fCounter= new AtomicInteger(1);
+
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t= new WorkerThread(r, "JDT Parallel Worker-" + fCounter.getAndIncrement()); //$NON-NLS-1$
+					t.setDaemon(true);
+					return t;
+				}
+			};
+			fgExecutor= Executors.newFixedThreadPool(getParallelism(), factory);
+		}
+		return fgExecutor;
+	}
+
+	/**
+	 * Shuts down the worker threads. Called when the plug-in is stopped; a later call to
+	 * {@link #map(List, Worker, IProgressMonitor)} creates new worker threads.
+	 */
+	public static synchronized void shutdown() {
+		if (fgExecutor != null) {
+			fgExecutor.shutdownNow();
+			fgExecutor= null;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
 package org.eclipse.jdt.internal.corext.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -24,21 +28,36 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.ITypeHierarchyChangedListener;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * The cache is bounded by the total number of types contained in the cached hierarchies (the
+ * <em>weight</em>) rather than by the number of hierarchies. The bound can be configured with the
+ * system property <code>jdt.superTypeHierarchyCache.maxTypes</code>. Lookups go through an index
+ * from each contained type to the hierarchies containing it and don't take the cache lock.
+ * </p>
+ * <p>
+ * Entries are evicted in insertion order, but an entry that has been used since it was last
+ * considered for eviction gets a second chance and moves to the end of the order.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private final ITypeHierarchy fTypeHierarchy;
+		private final IType[] fTypes;
+		private final Map<IType, MethodOverrideTester> fMethodOverrideTesters= new ConcurrentHashMap<>();
+		private volatile boolean fAccessed;
+		private volatile boolean fDisposed;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
+			fTypes= hierarchy.getAllTypes();
 			fTypeHierarchy.addTypeHierarchyChangedListener(this);
-			markAsAccessed();
 		}
 
 		@Override
@@ -50,18 +69,43 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		public IType[] getTypes() {
+			return fTypes;
+		}
+
+		/**
+		 * @return the number of types in the hierarchy, used as the weight of this entry
+		 */
+		public int getWeight() {
+			return Math.max(1, fTypes.length);
+		}
+
+		public MethodOverrideTester getMethodOverrideTester(IType type) {
+			return fMethodOverrideTesters.computeIfAbsent(type, t -> new MethodOverrideTester(t, fTypeHierarchy));
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fAccessed= true;
+		}
+
+		/**
+		 * @return <code>true</code> if the entry has been accessed since the last call
+		 */
+		public boolean clearAccessed() {
+			boolean accessed= fAccessed;
+			fAccessed= false;
+			return accessed;
 		}
 
-		public long getLastAccess() {
-			return fLastAccess;
+		public boolean isValid() {
+			return !fDisposed && fTypeHierarchy.exists();
 		}
 
 		public void dispose() {
-			if (fTypeHierarchy != null) {
+			if (!fDisposed) {
+				fDisposed= true;
 				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
-				fTypeHierarchy= null;
+				fMethodOverrideTesters.clear();
 			}
 		}
 
@@ -72,14 +116,36 @@ public class SuperTypeHierarchyCache {
 
 	}
 
+	private static final int DEFAULT_MAX_WEIGHT= 5000;
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * The maximal number of types in all cached hierarchies together.
+	 */
+	private static final int MAX_WEIGHT= Math.max(1, Integer.getInteger("jdt.superTypeHierarchyCache.maxTypes", DEFAULT_MAX_WEIGHT).intValue()); //$NON-NLS-1$
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static final Object fgLock= new Object();
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	/**
+	 * The cached entries keyed by the focus type of their hierarchy, in eviction order. Guarded by
+	 * {@link #fgLock}.
+	 */
+	private static final LinkedHashMap<IType, HierarchyCacheEntry> fgHierarchyCache= new LinkedHashMap<>();
+
+	/**
+	 * Maps every type contained in a cached hierarchy to all cache entries that contain it, the
+	 * newest last. The arrays are replaced, never modified. Written under {@link #fgLock}, read
+	 * without lock.
+	 */
+	private static final Map<IType, HierarchyCacheEntry[]> fgTypeIndex= new ConcurrentHashMap<>();
+
+	private static final LongAdder fgCacheHits= new LongAdder();
+	private static final LongAdder fgCacheMisses= new LongAdder();
+	private static final LongAdder fgEvictions= new LongAdder();
+
+	/**
+	 * The sum of the weights of all cached entries. Guarded by {@link #fgLock}.
+	 */
+	private static int fgCurrentWeight= 0;
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,32 +163,7 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
-		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
-			}
-		}
-		return test;
-	}
-
-	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
-		}
+		return getHierarchyEntry(type, null).getMethodOverrideTester(type);
 	}
 
 	/**
@@ -138,45 +179,60 @@ public class SuperTypeHierarchyCache {
 	 * @throws JavaModelException if a problem occurs
 	 */
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
-		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
-		if (hierarchy == null) {
-			fgCacheMisses++;
-			hierarchy= type.newSupertypeHierarchy(progressMonitor);
-			addTypeHierarchyToCache(hierarchy);
+		return getHierarchyEntry(type, progressMonitor).getTypeHierarchy();
+	}
+
+	private static HierarchyCacheEntry getHierarchyEntry(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
+		HierarchyCacheEntry entry= findHierarchyEntryInCache(type);
+		if (entry == null) {
+			fgCacheMisses.increment();
+			ITypeHierarchy hierarchy= type.newSupertypeHierarchy(progressMonitor); // don't hold the lock while computing
+			entry= addTypeHierarchyToCache(hierarchy);
 		} else {
-			fgCacheHits++;
-		}
-		return hierarchy;
-	}
-
-	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
-		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
-				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
+			fgCacheHits.increment();
+		}
+		return entry;
+	}
+
+	private static HierarchyCacheEntry addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
+		HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+		synchronized (fgLock) {
+			// hierarchies of supertypes of the new focus type are subsumed by the new hierarchy
+			List<HierarchyCacheEntry> obsoleteEntries= new ArrayList<>();
+			for (HierarchyCacheEntry entry : fgHierarchyCache.values()) {
+				if (!entry.isValid() || hierarchy.contains(entry.getTypeHierarchy().getType())) {
+					obsoleteEntries.add(entry);
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+			}
+			for (HierarchyCacheEntry entry : obsoleteEntries) {
+				removeHierarchyEntryFromCache(entry);
+			}
+
+			int weight= newEntry.getWeight();
+			while (fgCurrentWeight + weight > MAX_WEIGHT && !fgHierarchyCache.isEmpty()) {
+				Map.Entry<IType, HierarchyCacheEntry> oldest= fgHierarchyCache.firstEntry();
+				if (oldest.getValue().clearAccessed()) {
+					fgHierarchyCache.putLast(oldest.getKey(), oldest.getValue());
+				} else {
+					removeHierarchyEntryFromCache(oldest.getValue());
+					fgEvictions.increment();
 				}
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
-			fgHierarchyCache.add(newEntry);
+
+			HierarchyCacheEntry previous= fgHierarchyCache.putLast(hierarchy.getType(), newEntry);
+			if (previous != null) {
+				unindex(previous);
+				previous.dispose();
+			}
+			fgCurrentWeight+= weight;
+			for (IType curr : newEntry.getTypes()) {
+				fgTypeIndex.merge(curr, new HierarchyCacheEntry[] { newEntry }, SuperTypeHierarchyCache::append);
+			}
+			if (JavaManipulationPlugin.DEBUG_SUPER_TYPE_HIERARCHY_CACHE) {
+				System.out.println("SuperTypeHierarchyCache - added " + newEntry + " (" + weight + " types), " + getStatistics()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
 		}
+		return newEntry;
 	}
 
 
@@ -186,43 +242,72 @@ public class SuperTypeHierarchyCache {
 	 * @return <code>true</code> if a hierarchy for the given type is cached
 	 */
 	public static boolean hasInCache(IType type) {
-		return findTypeHierarchyInCache(type) != null;
+		return findHierarchyEntryInCache(type) != null;
 	}
 
 
-	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
+	private static HierarchyCacheEntry findHierarchyEntryInCache(IType type) {
+		HierarchyCacheEntry[] entries= fgTypeIndex.get(type);
+		if (entries == null) {
+			return null;
+		}
+		for (int i= entries.length - 1; i >= 0; i--) {
+			HierarchyCacheEntry entry= entries[i];
+			if (entry.isValid()) {
+				entry.markAsAccessed();
+				return entry;
 			}
+			removeHierarchyEntryFromCache(entry);
 		}
 		return null;
 	}
 
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
+		synchronized (fgLock) {
+			IType focus= entry.getTypeHierarchy().getType();
+			if (fgHierarchyCache.get(focus) == entry) {
+				fgHierarchyCache.remove(focus);
+				unindex(entry);
+			}
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
 		}
 	}
 
+	private static void unindex(HierarchyCacheEntry entry) {
+		fgCurrentWeight-= entry.getWeight();
+		for (IType curr : entry.getTypes()) {
+			// types shared with other cached hierarchies stay mapped to those
+			fgTypeIndex.computeIfPresent(curr, (type, entries) -> remove(entries, entry));
+		}
+	}
+
+	private static HierarchyCacheEntry[] append(HierarchyCacheEntry[] entries, HierarchyCacheEntry[] added) {
+		HierarchyCacheEntry[] result= Arrays.copyOf(entries, entries.length + added.length);
+		System.arraycopy(added, 0, result, entries.length, added.length);
+		return result;
+	}
+
+	private static HierarchyCacheEntry[] remove(HierarchyCacheEntry[] entries, HierarchyCacheEntry removed) {
+		int count= 0;
+		HierarchyCacheEntry[] result= new HierarchyCacheEntry[entries.length];
+		for (HierarchyCacheEntry entry : entries) {
+			if (entry != removed) {
+				result[count++]= entry;
+			}
+		}
+		if (count == entries.length) {
+			return entries;
+		}
+		return count == 0 ? null : Arrays.copyOf(result, count);
+	}
+
 
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return fgCacheHits.intValue();
 	}
 
 	/**
@@ -230,7 +315,23 @@ public class SuperTypeHierarchyCache {
 	 * @return Returns a int
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return fgCacheMisses.intValue();
+	}
+
+	/**
+	 * Returns a human readable summary of the cache state, for tracing.
+	 *
+	 * @return the hits, misses, evictions, number of cached hierarchies and their total weight
+	 */
+	public static String getStatistics() {
+		int size;
+		int weight;
+		synchronized (fgLock) {
+			size= fgHierarchyCache.size();
+			weight= fgCurrentWeight;
+		}
+		return "hits: " + fgCacheHits.sum() + ", misses: " + fgCacheMisses.sum() + ", evictions: " + fgEvictions.sum() //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", hierarchies: " + size + ", types: " + weight + '/' + MAX_WEIGHT; //$NON-NLS-1$ //$NON-NLS-2$
 	}
 
 	private SuperTypeHierarchyCache() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ package org.eclipse.jdt.internal.corext.refactoring.code;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -25,18 +26,28 @@ import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jdt.core.dom.ASTMatcher;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnnotationTypeDeclaration;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
 import org.eclipse.jdt.core.dom.Assignment;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
 import org.eclipse.jdt.core.dom.EnumDeclaration;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.FieldAccess;
 import org.eclipse.jdt.core.dom.IBinding;
 import org.eclipse.jdt.core.dom.IVariableBinding;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.Javadoc;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.PostfixExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
 import org.eclipse.jdt.core.dom.QualifiedName;
 import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+import org.eclipse.jdt.core.dom.StringLiteral;
 import org.eclipse.jdt.core.dom.SuperFieldAccess;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 
@@ -148,12 +159,87 @@ public class SnippetFinder extends GenericVisitor {
 		}
 	}
 
+	/**
+	 * Computes a structural hash for every node of a subtree in one pass. Two subtrees
+	 * that are matched by {@link Matcher} always have the same hash, so the (expensive)
+	 * matcher only needs to run on nodes whose hash equals the one of the snippet node.
+	 * <p>
+	 * Like the matcher, the hash ignores the names of local variables. Javadoc comments
+	 * are matched by their text, so their tags are not part of the hash.
+	 * </p>
+	 */
+	private static class StructuralHasher extends ASTVisitor {
+		private static final int LOCAL_VARIABLE= 0x4c4f43;
+
+		private final Map<ASTNode, Integer> fHashes;
+		private int[] fStack= new int[32];
+		private int fDepth;
+
+		public StructuralHasher(Map<ASTNode, Integer> hashes) {
+			super(true);
+			fHashes= hashes;
+		}
+
+		@Override
+		public boolean preVisit2(ASTNode node) {
+			if (fDepth == fStack.length) {
+				int[] stack= new int[fStack.length * 2];
+				System.arraycopy(fStack, 0, stack, 0, fDepth);
+				fStack= stack;
+			}
+			fStack[fDepth++]= 31 * node.getNodeType() + getLeafHash(node);
+			return !(node instanceof Javadoc);
+		}
+
+		@Override
+		public void postVisit(ASTNode node) {
+			int hash= fStack[--fDepth];
+			fHashes.put(node, Integer.valueOf(hash));
+			if (fDepth > 0)
+				fStack[fDepth - 1]= 31 * fStack[fDepth - 1] + hash;
+		}
+
+		private static int getLeafHash(ASTNode node) {
+			switch (node.getNodeType()) {
+				case ASTNode.SIMPLE_NAME:
+					SimpleName name= (SimpleName) node;
+					int declaration= name.isDeclaration() ? 1 : 0;
+					IVariableBinding variable= ASTNodes.getVariableBinding(name);
+					if (variable != null && !variable.isField())
+						return LOCAL_VARIABLE + declaration; // may be mapped to a local with another name
+					if (name.getLocationInParent() == SimpleType.NAME_PROPERTY)
+						return declaration; // 'var' has the binding of the inferred type
+					return name.getIdentifier().hashCode() + declaration;
+				case ASTNode.NUMBER_LITERAL:
+					return ((NumberLiteral) node).getToken().hashCode();
+				case ASTNode.STRING_LITERAL:
+					return ((StringLiteral) node).getEscapedValue().hashCode();
+				case ASTNode.CHARACTER_LITERAL:
+					return ((CharacterLiteral) node).getEscapedValue().hashCode();
+				case ASTNode.BOOLEAN_LITERAL:
+					return ((BooleanLiteral) node).booleanValue() ? 1 : 0;
+				case ASTNode.INFIX_EXPRESSION:
+					return ((InfixExpression) node).getOperator().toString().hashCode();
+				case ASTNode.PREFIX_EXPRESSION:
+					return ((PrefixExpression) node).getOperator().toString().hashCode();
+				case ASTNode.POSTFIX_EXPRESSION:
+					return ((PostfixExpression) node).getOperator().toString().hashCode();
+				case ASTNode.ASSIGNMENT:
+					return ((Assignment) node).getOperator().toString().hashCode();
+				default:
+					return 0;
+			}
+		}
+	}
+
 	private List<Match> fResult= new ArrayList<>(2);
 	private Match fMatch;
 	private ASTNode[] fSnippet;
 	private int fIndex;
 	private Matcher fMatcher;
 	private int fTypes;
+	private Map<ASTNode, Integer> fHashes;
+	private int[] fSnippetHashes;
 
 	private SnippetFinder(ASTNode[] snippet) {
 		super(true);
@@ -165,6 +251,7 @@ public class SnippetFinder extends GenericVisitor {
 	public static List<Match> perform(ASTNode start, ASTNode[] snippet) {
 		Assert.isTrue(start instanceof AbstractTypeDeclaration || start instanceof AnonymousClassDeclaration);
 		SnippetFinder finder= new SnippetFinder(snippet);
+		finder.computeHashes(start);
 		start.accept(finder);
 		for (Iterator<Match> iter = finder.fResult.iterator(); iter.hasNext();) {
 			Match match = iter.next();
@@ -255,9 +342,29 @@ public class SnippetFinder extends GenericVisitor {
 		return true;
 	}
 
+	private void computeHashes(ASTNode start) {
+		fHashes= new IdentityHashMap<>();
+		start.accept(new StructuralHasher(fHashes));
+		fSnippetHashes= new int[fSnippet.length];
+		for (int i= 0; i < fSnippet.length; i++) {
+			fSnippetHashes[i]= getHash(fSnippet[i]);
+		}
+	}
+
+	private int getHash(ASTNode node) {
+		Integer hash= fHashes.get(node);
+		if (hash == null) {
+			node.accept(new StructuralHasher(fHashes));
+			hash= fHashes.get(node);
+		}
+		return hash.intValue();
+	}
+
 	private boolean matches(ASTNode node) {
 		if (isSnippetNode(node))
 			return false;
+		if (getHash(node) != fSnippetHashes[fIndex])
+			return false;
 		if (node.subtreeMatch(fMatcher, fSnippet[fIndex]) && fMatch.hasCorrectNesting(node)) {
 			fMatch.add(node);
 			fIndex++;
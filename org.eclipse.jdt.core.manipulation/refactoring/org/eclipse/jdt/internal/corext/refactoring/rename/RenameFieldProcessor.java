@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -124,6 +124,7 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 	private boolean fIsCompactConstructor;
 	/* Record Related Fields End*/
 	private SearchResultGroup[] fReferences;
+	private List<SearchMatch> fPrecomputedReferences;
 	private TextChangeManager fChangeManager;
 	protected boolean fUpdateReferences;
 	protected boolean fUpdateTextualMatches;
@@ -711,7 +712,22 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 		return RefactoringScopeFactory.create(fField, true, false);
 	}
 
+	/**
+	 * Sets the references to the field, found by a search the caller has already performed. The
+	 * processor then uses these matches instead of searching the references itself.
+	 *
+	 * @param references the references to the field in compilation units. The list must contain
+	 *            all references, and must not be modified later.
+	 */
+	public void setPrecomputedReferences(List<SearchMatch> references) {
+		fPrecomputedReferences= references;
+	}
+
 	private SearchResultGroup[] getReferences(IProgressMonitor pm, RefactoringStatus status) throws CoreException{
+		if (fPrecomputedReferences != null) {
+			pm.done();
+			return filterAccessorMethods(RefactoringSearchEngine.groupByCu(fPrecomputedReferences, status), true);
+		}
 		String binaryRefsDescription= Messages.format(RefactoringCoreMessages.ReferencesInBinaryContext_ref_in_binaries_description , BasicElementLabels.getJavaElementName(getCurrentElementName()));
 		ReferencesInBinaryContext binaryRefs= new ReferencesInBinaryContext(binaryRefsDescription);
 
@@ -943,18 +959,17 @@ public class RenameFieldProcessor extends JavaRenameProcessor implements IRefere
 
 	}
 
-	private void addReferenceUpdates(IProgressMonitor pm) {
-		pm.beginTask("", fReferences.length); //$NON-NLS-1$
+	private void addReferenceUpdates(IProgressMonitor pm) throws CoreException {
 		String editName= RefactoringCoreMessages.RenameFieldRefactoring_Update_field_reference;
-		for (SearchResultGroup reference : fReferences) {
+		GroupCategorySet categorySet= fIsComposite ? fCategorySet : null;
+		fChangeManager.addTextEdits(Arrays.asList(fReferences), (reference, collector) -> {
 			ICompilationUnit cu= reference.getCompilationUnit();
 			if (cu == null)
-				continue;
+				return;
 			for (SearchMatch result : reference.getSearchResults()) {
-				addTextEdit(fChangeManager.get(cu), editName, createTextChange(result));
+				collector.addTextEdit(cu, editName, createTextChange(result), categorySet);
 			}
-			pm.worked(1);
-		}
+		}, pm);
 	}
 
 	private TextEdit createTextChange(SearchMatch match) {
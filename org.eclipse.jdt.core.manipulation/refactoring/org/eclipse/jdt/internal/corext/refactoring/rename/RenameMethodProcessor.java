@@ -23,7 +23,6 @@ import java.util.Set;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.core.resources.IFile;
 
@@ -802,11 +801,12 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 	 * @throws CoreException if change creation failed
 	 */
 	protected void addOccurrences(TextChangeManager manager, IProgressMonitor pm, RefactoringStatus status) throws CoreException/*thrown in subtype*/{
-		pm.beginTask("", fOccurrences.length);				 //$NON-NLS-1$
-		for (SearchResultGroup occurrence : fOccurrences) {
+		String editName= RefactoringCoreMessages.RenameMethodRefactoring_update_occurrence;
+		GroupCategorySet categorySet= getTextEditCategories();
+		manager.addTextEdits(Arrays.asList(fOccurrences), (occurrence, collector) -> {
 			ICompilationUnit cu= occurrence.getCompilationUnit();
 			if (cu == null)
-				continue;
+				return;
 			// Split matches into declaration and non-declaration matches
 
 			List<SearchMatch> declarationsInThisCu= new ArrayList<>();
@@ -840,33 +840,33 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 					// creates a completely new change object.
 					TextChange changeForThisCu= rewrite.createChange(true);
 					changeForThisCu.setKeepPreviewEdits(true);
-					manager.manage(cu, changeForThisCu);
+					collector.manage(cu, changeForThisCu);
 				}
 
 				// Update the normal methods
 				for (SearchMatch element : declarationsInThisCu) {
-					simpleUpdate(element, cu, manager.get(cu));
+					collector.addTextEdit(cu, editName, createReplaceEdit(element, cu), categorySet);
 				}
 			}
 
 			// Second, handle references
 			if (fUpdateReferences) {
 				for (SearchMatch element : referencesInThisCu) {
-					simpleUpdate(element, cu, manager.get(cu));
+					collector.addTextEdit(cu, editName, createReplaceEdit(element, cu), categorySet);
 				}
 			}
-
-			pm.worked(1);
-			if (pm.isCanceled())
-				throw new OperationCanceledException();
-		}
+		}, pm);
 		pm.done();
 	}
 
-	private void simpleUpdate(SearchMatch element, ICompilationUnit cu, TextChange textChange) {
-		String editName= RefactoringCoreMessages.RenameMethodRefactoring_update_occurrence;
-		ReplaceEdit replaceEdit= createReplaceEdit(element, cu);
-		addTextEdit(textChange, editName, replaceEdit);
+	/**
+	 * Returns the group categories of the text edits created by this processor.
+	 *
+	 * @return the group categories, or <code>null</code> if this processor is not part of a
+	 *         composite refactoring
+	 */
+	protected final GroupCategorySet getTextEditCategories() {
+		return fIsComposite ? fCategorySet : null;
 	}
 
 	protected final ReplaceEdit createReplaceEdit(SearchMatch searchResult, ICompilationUnit cu) {
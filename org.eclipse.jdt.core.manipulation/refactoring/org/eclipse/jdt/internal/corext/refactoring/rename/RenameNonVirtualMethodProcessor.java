@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.rename;
 
+import java.util.Arrays;
+
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 
@@ -21,7 +23,6 @@ import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.ltk.core.refactoring.GroupCategorySet;
 import org.eclipse.ltk.core.refactoring.RefactoringStatus;
 import org.eclipse.ltk.core.refactoring.RefactoringStatusContext;
-import org.eclipse.ltk.core.refactoring.TextChange;
 import org.eclipse.ltk.core.refactoring.participants.CheckConditionsContext;
 
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -136,8 +137,9 @@ public class RenameNonVirtualMethodProcessor extends RenameMethodProcessor {
 		// declaration update must be registered first
 		addDeclarationUpdate(manager);
 		if (getUpdateReferences())
-			addReferenceUpdates(manager, pm);
-		pm.worked(1);
+			addReferenceUpdates(manager, Progress.subMonitor(pm, 1));
+		else
+			pm.worked(1);
 	}
 
 	private ICompilationUnit getDeclaringCU() {
@@ -172,19 +174,17 @@ public class RenameNonVirtualMethodProcessor extends RenameMethodProcessor {
 		addTextEdit(manager.get(getDeclaringCU()), editName, replaceEdit);
 	}
 
-	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) {
-		for (SearchResultGroup group : getOccurrences()) {
+	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) throws CoreException {
+		String editName= RefactoringCoreMessages.RenamePrivateMethodRefactoring_update;
+		GroupCategorySet categorySet= getTextEditCategories();
+		manager.addTextEdits(Arrays.asList(getOccurrences()), (group, collector) -> {
 			ICompilationUnit cu= group.getCompilationUnit();
-			TextChange change= manager.get(cu);
 			for (SearchMatch match : group.getSearchResults()) {
 				if (!(match instanceof MethodDeclarationMatch)) {
-					ReplaceEdit replaceEdit= createReplaceEdit(match, cu);
-					String editName= RefactoringCoreMessages.RenamePrivateMethodRefactoring_update;
-					addTextEdit(change, editName, replaceEdit);
+					collector.addTextEdit(cu, editName, createReplaceEdit(match, cu), categorySet);
 				}
 			}
-		}
-		pm.done();
+		}, pm);
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,11 +16,11 @@ package org.eclipse.jdt.internal.corext.refactoring.rename;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map.Entry;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -33,7 +33,6 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IResource;
 
-import org.eclipse.text.edits.MalformedTreeException;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 
@@ -71,7 +70,6 @@ import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
-import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
 import org.eclipse.jdt.internal.core.manipulation.StubUtility;
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
@@ -1051,7 +1049,7 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 			}
 		}
 
-		private HashMap<ICompilationUnit, ImportChange> fImportChanges= new HashMap<>();
+		private Map<ICompilationUnit, ImportChange> fImportChanges= new LinkedHashMap<>();
 
 		public ImportChange getImportChange(ICompilationUnit cu) {
 			ImportChange importChange= fImportChanges.get(cu);
@@ -1063,7 +1061,8 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 		}
 
 		public void rewriteImports(TextChangeManager changeManager, IProgressMonitor pm) throws CoreException {
-			for (Entry<ICompilationUnit, ImportChange> entry : fImportChanges.entrySet()) {
+			String name= RefactoringCoreMessages.RenamePackageRefactoring_update_imports;
+			changeManager.addTextEdits(new ArrayList<>(fImportChanges.entrySet()), (entry, collector) -> {
 				ICompilationUnit cu= entry.getKey();
 				ImportChange importChange= entry.getValue();
 				ImportRewrite importRewrite= StubUtility.createImportRewrite(cu, true);
@@ -1082,16 +1081,10 @@ public class RenamePackageProcessor extends JavaRenameProcessor implements
 				}
 
 				if (importRewrite.hasRecordedChanges()) {
-					TextEdit importEdit= importRewrite.rewriteImports(pm);
-					String name= RefactoringCoreMessages.RenamePackageRefactoring_update_imports;
-					try {
-						TextChangeCompatibility.addTextEdit(changeManager.get(cu), name, importEdit);
-					} catch (MalformedTreeException e) {
-						JavaManipulationPlugin.logErrorMessage("MalformedTreeException while processing cu " + cu); //$NON-NLS-1$
-						throw e;
-					}
+					TextEdit importEdit= importRewrite.rewriteImports(null);
+					collector.addTextEdit(cu, name, importEdit);
 				}
-			}
+			}, pm);
 		}
 	}
 
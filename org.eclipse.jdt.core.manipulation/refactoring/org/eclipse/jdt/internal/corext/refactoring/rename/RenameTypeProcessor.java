@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -85,6 +85,7 @@ import org.eclipse.jdt.core.refactoring.descriptors.JavaRefactoringDescriptor;
 import org.eclipse.jdt.core.refactoring.descriptors.RenameJavaElementDescriptor;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
 import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.TypeReferenceMatch;
@@ -95,6 +96,7 @@ import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.refactoring.Checks;
+import org.eclipse.jdt.internal.corext.refactoring.CuCollectingSearchRequestor;
 import org.eclipse.jdt.internal.corext.refactoring.JDTRefactoringDescriptorComment;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringArguments;
 import org.eclipse.jdt.internal.corext.refactoring.JavaRefactoringDescriptorUtil;
@@ -161,6 +163,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 	private boolean fUpdateSimilarElements;
 	private Map<IJavaElement, String> fFinalSimilarElementToName= null;
 	private int fRenamingStrategy;
+	private boolean fBatchSimilarElementSearch= true;
 
 	// Preloaded information for the UI.
 	private LinkedHashMap<IJavaElement, String> fPreloadedElementToName= null;
@@ -408,6 +411,16 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		return fUpdateSimilarElements;
 	}
 
+	/**
+	 * Sets whether the references to similarly named fields are searched with a single search
+	 * instead of one search per field. Enabled by default.
+	 *
+	 * @param batch <code>true</code> to search the references of all fields at once
+	 */
+	public void setBatchSimilarElementSearch(boolean batch) {
+		fBatchSimilarElementSearch= batch;
+	}
+
 	@Override
 	public int getMatchStrategy() {
 		return fRenamingStrategy;
@@ -1200,21 +1213,19 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		}
 	}
 
-	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) {
-		pm.beginTask("", fReferences.length); //$NON-NLS-1$
-		for (SearchResultGroup reference : fReferences) {
+	private void addReferenceUpdates(TextChangeManager manager, IProgressMonitor pm) throws CoreException {
+		String name= RefactoringCoreMessages.RenameTypeRefactoring_update_reference;
+		String newName= getNewElementName();
+		manager.addTextEdits(Arrays.asList(fReferences), (reference, collector) -> {
 			ICompilationUnit cu= reference.getCompilationUnit();
 			if (cu == null)
-				continue;
-
-			String name= RefactoringCoreMessages.RenameTypeRefactoring_update_reference;
+				return;
 
 			for (SearchMatch match : reference.getSearchResults()) {
-				ReplaceEdit replaceEdit= new ReplaceEdit(match.getOffset(), match.getLength(), getNewElementName());
-				TextChangeCompatibility.addTextEdit(manager.get(cu), name, replaceEdit, CATEGORY_TYPE_RENAME);
+				ReplaceEdit replaceEdit= new ReplaceEdit(match.getOffset(), match.getLength(), newName);
+				collector.addTextEdit(cu, name, replaceEdit, CATEGORY_TYPE_RENAME);
 			}
-			pm.worked(1);
-		}
+		}, pm);
 	}
 
 	private void computeQualifiedNameMatches(IProgressMonitor pm) {
@@ -1303,9 +1314,15 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		int current= 0;
 		final int max= fPreloadedElementToName.size();
 
-		progressMonitor.beginTask("", max * 3); //$NON-NLS-1$
+		progressMonitor.beginTask("", max * 4); //$NON-NLS-1$
 		progressMonitor.setTaskName(RefactoringCoreMessages.RenameTypeProcessor_checking_similarly_named_declarations_refactoring_conditions);
 
+		Map<IField, List<SearchMatch>> similarFieldReferences= null;
+		if (fBatchSimilarElementSearch && getUpdateReferences())
+			similarFieldReferences= searchSimilarFieldReferences(Progress.subMonitor(progressMonitor, max));
+		else
+			progressMonitor.worked(max);
+
 		for (Entry<IJavaElement, String> entry : fPreloadedElementToName.entrySet()) {
 
 			IJavaElement element= entry.getKey();
@@ -1355,7 +1372,10 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 			}
 			if (element instanceof IField) {
 				final IField currentField= (IField) element;
-				processor= createFieldRenameProcessor(currentField, newName);
+				RenameFieldProcessor fieldProcessor= createFieldRenameProcessor(currentField, newName);
+				if (similarFieldReferences != null && similarFieldReferences.containsKey(currentField))
+					fieldProcessor.setPrecomputedReferences(similarFieldReferences.get(currentField));
+				processor= fieldProcessor;
 
 				status.merge(checkForConflictingRename(currentField, newName));
 				if (status.hasFatalError())
@@ -1660,6 +1680,86 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 		processor.setUpdateReferences(getUpdateReferences());
 	}
 
+	/**
+	 * Searches the references to all selected similarly named fields with one OR pattern instead
+	 * of one search per field. The matches are attributed to the fields by their name, so fields
+	 * that share their name with another selected field are left to their own search. The search
+	 * runs in the union of the projects of all fields, so every field only keeps the matches in
+	 * the scope its own search would use.
+	 *
+	 * @param pm the progress monitor
+	 * @return the references to each searched field, or <code>null</code> if some matches could
+	 *         not be attributed and the field processors have to search themselves
+	 * @throws CoreException if the search failed
+	 */
+	private Map<IField, List<SearchMatch>> searchSimilarFieldReferences(IProgressMonitor pm) throws CoreException {
+		Map<String, IField> fieldsByName= new HashMap<>();
+		Set<String> sharedNames= new HashSet<>();
+		for (IJavaElement element : fPreloadedElementToName.keySet()) {
+			if (element instanceof IField && fPreloadedElementToSelection.get(element).booleanValue()) {
+				if (fieldsByName.put(element.getElementName(), (IField) element) != null)
+					sharedNames.add(element.getElementName());
+			}
+		}
+		fieldsByName.keySet().removeAll(sharedNames);
+		if (fieldsByName.size() < 2) {
+			pm.done();
+			return null;
+		}
+
+		IField[] fields= fieldsByName.values().toArray(new IField[fieldsByName.size()]);
+		ReferencesInBinaryContext binaryRefs= new ReferencesInBinaryContext(""); //$NON-NLS-1$
+		Map<IField, IJavaSearchScope> scopes= new HashMap<>();
+		for (IField field : fields) {
+			scopes.put(field, RefactoringScopeFactory.create(field, true, false));
+		}
+		SimilarFieldReferenceCollector collector= new SimilarFieldReferenceCollector(fieldsByName, scopes, binaryRefs);
+		SearchPattern pattern= RefactoringSearchEngine.createOrPattern(fields, IJavaSearchConstants.REFERENCES);
+		new SearchEngine().search(pattern, SearchUtils.getDefaultSearchParticipants(), RefactoringScopeFactory.createProjectsScope(fields, false), collector, pm);
+		if (collector.hasUnattributedMatches() || !binaryRefs.getMatches().isEmpty())
+			return null; // let the processors search and report these matches
+		return collector.getReferences();
+	}
+
+	/**
+	 * Distributes the matches of a search for references to several fields by the name of the
+	 * referenced field. Matches outside the search scope of the referenced field are dropped.
+	 */
+	private static final class SimilarFieldReferenceCollector extends CuCollectingSearchRequestor {
+
+		private final Map<String, IField> fFieldsByName;
+		private final Map<IField, IJavaSearchScope> fScopes;
+		private final Map<IField, List<SearchMatch>> fReferences= new HashMap<>();
+		private boolean fHasUnattributedMatches;
+
+		public SimilarFieldReferenceCollector(Map<String, IField> fieldsByName, Map<IField, IJavaSearchScope> scopes, ReferencesInBinaryContext binaryRefs) {
+			super(binaryRefs);
+			fFieldsByName= fieldsByName;
+			fScopes= scopes;
+			for (IField field : fieldsByName.values()) {
+				fReferences.put(field, new ArrayList<>());
+			}
+		}
+
+		@Override
+		protected void acceptSearchMatch(ICompilationUnit unit, SearchMatch match) throws CoreException {
+			String matchText= unit.getBuffer().getText(match.getOffset(), match.getLength());
+			IField field= fFieldsByName.get(matchText);
+			if (field == null)
+				fHasUnattributedMatches= true;
+			else if (fScopes.get(field).encloses(unit))
+				fReferences.get(field).add(match);
+		}
+
+		public boolean hasUnattributedMatches() {
+			return fHasUnattributedMatches;
+		}
+
+		public Map<IField, List<SearchMatch>> getReferences() {
+			return fReferences;
+		}
+	}
+
 	private RenameFieldProcessor createFieldRenameProcessor(final IField field, final String newName) {
 		final RenameFieldProcessor processor= new RenameFieldProcessor(field, fChangeManager, CATEGORY_FIELD_RENAME);
 		processor.setNewElementName(newName);
@@ -0,0 +1,523 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.rename;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IResourceProxy;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+
+/**
+ * Index of the words in the comments and string literals of the Java files of a project, used by
+ * the {@link TextMatchUpdater} to scan only the files that can contain a textual match.
+ * <p>
+ * A word is a maximal run of letters, digits and underscores, which is what the
+ * {@link RefactoringScanner} uses as word boundaries. A file can only contain a textual match of a
+ * name if it contains every word of the name.
+ * </p>
+ * <p>
+ * The index of a project is built on first use, and is kept up to date from resource deltas:
+ * changed files are re-indexed on the next query. The index only knows the saved contents of the
+ * files; callers have to scan working copies themselves. The index is saved when the plug-in is
+ * stopped, and checked against the modification stamps of the files when it is used in the next
+ * session.
+ * </p>
+ */
+public final class TextMatchIndex implements IResourceChangeListener {
+
+	private static final String INDEX_FILE= "textMatchIndex.dat"; //$NON-NLS-1$
+	private static final int FORMAT_VERSION= 2;
+	private static final String JAVA_EXTENSION= ".java"; //$NON-NLS-1$
+
+	/**
+	 * Longer words are not indexed, so that every word fits into the modified UTF-8 encoding of
+	 * {@link DataOutputStream#writeUTF(String)}. Names with longer words cannot be looked up.
+	 */
+	private static final int MAX_WORD_LENGTH= 1024;
+
+	private static final int CONTENT_FLAGS= IResourceDelta.CONTENT | IResourceDelta.REPLACED | IResourceDelta.ENCODING;
+
+	private static TextMatchIndex fgDefault;
+
+	/**
+	 * The ids of the words of one file, together with the modification stamp of the indexed
+	 * contents. The word ids are <code>null</code> if the file could not be decoded and always has
+	 * to be scanned.
+	 */
+	private record FileEntry(long stamp, int[] wordIds) {
+	}
+
+	private static final class ProjectIndex {
+		final Map<IPath, FileEntry> fFiles= new HashMap<>();
+		/**
+		 * The words of all files, each stored once. The id of a word is its index in
+		 * {@link #fWords}. Ids of words that are no longer contained in any file are not reused; such
+		 * words are dropped when the index is saved.
+		 */
+		final Map<String, Integer> fWordIds= new HashMap<>();
+		final List<String> fWords= new ArrayList<>();
+		/** The files containing a word, by word id, or <code>null</code> if there are none. */
+		final List<Set<IPath>> fWordFiles= new ArrayList<>();
+		final Set<IPath> fUnindexed= new HashSet<>();
+		/**
+		 * Project relative paths of the files to re-index. Added to by the resource change listener
+		 * without holding the lock of the index, so that deltas are not blocked by a running update.
+		 */
+		final Set<IPath> fDirty= ConcurrentHashMap.newKeySet();
+		/** Whether the files have been checked against the workspace in this session. */
+		boolean fVerified;
+
+		int getWordId(String word) {
+			Integer id= fWordIds.get(word);
+			if (id == null) {
+				id= Integer.valueOf(fWords.size());
+				fWordIds.put(word, id);
+				fWords.add(word);
+				fWordFiles.add(null);
+			}
+			return id.intValue();
+		}
+
+		int[] getWordIds(String[] words) {
+			if (words == null)
+				return null;
+			int[] ids= new int[words.length];
+			for (int i= 0; i < words.length; i++) {
+				ids[i]= getWordId(words[i]);
+			}
+			return ids;
+		}
+
+		Set<IPath> getFiles(String word) {
+			Integer id= fWordIds.get(word);
+			return id == null ? null : fWordFiles.get(id.intValue());
+		}
+
+		void put(IPath path, FileEntry entry) {
+			remove(path);
+			fFiles.put(path, entry);
+			if (entry.wordIds() == null) {
+				fUnindexed.add(path);
+				return;
+			}
+			for (int id : entry.wordIds()) {
+				Set<IPath> files= fWordFiles.get(id);
+				if (files == null) {
+					files= new HashSet<>();
+					fWordFiles.set(id, files);
+				}
+				files.add(path);
+			}
+		}
+
+		void remove(IPath path) {
+			FileEntry entry= fFiles.remove(path);
+			fUnindexed.remove(path);
+			if (entry != null && entry.wordIds() != null) {
+				for (int id : entry.wordIds()) {
+					Set<IPath> files= fWordFiles.get(id);
+					if (files != null && files.remove(path) && files.isEmpty())
+						fWordFiles.set(id, null);
+				}
+			}
+		}
+	}
+
+	private final Map<String, ProjectIndex> fProjects= new HashMap<>();
+	private boolean fLoaded;
+	private boolean fListening;
+
+	private TextMatchIndex() {
+	}
+
+	/**
+	 * Returns the shared index.
+	 *
+	 * @return the index
+	 */
+	public static synchronized TextMatchIndex getDefault() {
+		if (fgDefault == null)
+			fgDefault= new TextMatchIndex();
+		return fgDefault;
+	}
+
+	/**
+	 * Saves the shared index, if it has been used, and stops tracking resource changes. Called when
+	 * the plug-in is stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			fgDefault.dispose();
+			fgDefault= null;
+		}
+	}
+
+	/**
+	 * Returns the Java files of the given project that can contain the given name in a comment or
+	 * a string literal.
+	 *
+	 * @param project the project
+	 * @param name the name, as passed to the {@link RefactoringScanner}
+	 * @param pm the progress monitor, used when files have to be indexed
+	 * @return the files, sorted by path, or <code>null</code> if the index cannot be used for this
+	 *         name and all files have to be scanned
+	 * @throws CoreException if the files of the project cannot be accessed
+	 */
+	public List<IFile> getCandidateFiles(IProject project, String name, IProgressMonitor pm) throws CoreException {
+		List<String> nameWords= getWords(name.toCharArray(), 0, name.length());
+		if (nameWords.isEmpty())
+			return null;
+		for (String word : nameWords) {
+			if (word.length() > MAX_WORD_LENGTH)
+				return null;
+		}
+
+		ProjectIndex index;
+		synchronized (this) {
+			if (!fListening) {
+				ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+				fListening= true;
+			}
+			if (!fLoaded) {
+				load();
+				fLoaded= true;
+			}
+			index= fProjects.get(project.getName());
+			if (index == null) {
+				index= new ProjectIndex();
+				fProjects.put(project.getName(), index);
+			}
+		}
+
+		synchronized (index) {
+			update(project, index, pm);
+			Set<IPath> paths= null;
+			for (String word : nameWords) {
+				Set<IPath> files= index.getFiles(word);
+				if (files == null) {
+					paths= new HashSet<>();
+					break;
+				}
+				if (paths == null) {
+					paths= new HashSet<>(files);
+				} else {
+					paths.retainAll(files);
+				}
+			}
+			paths.addAll(index.fUnindexed);
+			List<IFile> result= new ArrayList<>(paths.size());
+			for (IPath path : paths) {
+				result.add(project.getFile(path));
+			}
+			result.sort((f1, f2) -> f1.getFullPath().toString().compareTo(f2.getFullPath().toString()));
+			return result;
+		}
+	}
+
+	private void update(IProject project, ProjectIndex index, IProgressMonitor pm) throws CoreException {
+		try {
+			if (!index.fVerified) {
+				// compare the index with the files, it may have been loaded from a previous session
+				Set<IPath> removed= new HashSet<>(index.fFiles.keySet());
+				project.accept((IResourceProxy proxy) -> {
+					if (proxy.getType() != IResource.FILE)
+						return true;
+					if (proxy.getName().endsWith(JAVA_EXTENSION)) {
+						IPath path= proxy.requestFullPath().removeFirstSegments(1);
+						FileEntry entry= index.fFiles.get(path);
+						removed.remove(path);
+						if (entry == null || entry.stamp() != proxy.getModificationStamp())
+							index.fDirty.add(path);
+					}
+					return false;
+				}, IResource.NONE);
+				index.fDirty.addAll(removed);
+				index.fVerified= true;
+			}
+			if (index.fDirty.isEmpty())
+				return;
+
+			IJavaProject javaProject= JavaCore.create(project);
+			String sourceLevel= javaProject.getOption(JavaCore.COMPILER_SOURCE, true);
+			String complianceLevel= javaProject.getOption(JavaCore.COMPILER_COMPLIANCE, true);
+			IScanner scanner= ToolFactory.createScanner(true, true, false, sourceLevel, complianceLevel);
+
+			pm.beginTask(RefactoringCoreMessages.TextMatchUpdater_searching + project.getFullPath(), index.fDirty.size());
+			for (IPath path : new ArrayList<>(index.fDirty)) {
+				if (pm.isCanceled())
+					throw new OperationCanceledException();
+				// remove before reading the file, a change reported meanwhile marks it dirty again
+				index.fDirty.remove(path);
+				try {
+					IFile file= project.getFile(path);
+					index.remove(path);
+					if (file.exists()) {
+						long stamp= file.getModificationStamp();
+						index.put(path, new FileEntry(stamp, index.getWordIds(indexFile(file, scanner))));
+					}
+				} catch (CoreException | RuntimeException e) {
+					index.fDirty.add(path);
+					throw e;
+				}
+				pm.worked(1);
+			}
+		} finally {
+			pm.done();
+		}
+	}
+
+	/**
+	 * @param file the file
+	 * @param scanner the scanner to use
+	 * @return the words in the comments and string literals of the file, or <code>null</code> if
+	 *         the encoding of the file is not supported
+	 * @throws CoreException if the file cannot be read
+	 */
+	private static String[] indexFile(IFile file, IScanner scanner) throws CoreException {
+		char[] source;
+		try (InputStream in= file.getContents(true)) {
+			source= new String(in.readAllBytes(), file.getCharset()).toCharArray();
+		} catch (UnsupportedEncodingException e) {
+			return null;
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JavaManipulationPlugin.getPluginId(), e.getMessage(), e));
+		}
+		Set<String> words= new LinkedHashSet<>();
+		scanner.setSource(source);
+		try {
+			int token= scanner.getNextToken();
+			while (token != ITerminalSymbols.TokenNameEOF) {
+				switch (token) {
+					case ITerminalSymbols.TokenNameStringLiteral :
+					case ITerminalSymbols.TokenNameCOMMENT_JAVADOC :
+					case ITerminalSymbols.TokenNameCOMMENT_LINE :
+					case ITerminalSymbols.TokenNameCOMMENT_BLOCK :
+						int start= scanner.getCurrentTokenStartPosition();
+						int end= scanner.getCurrentTokenEndPosition() + 1;
+						for (String word : getWords(source, start, end)) {
+							if (word.length() <= MAX_WORD_LENGTH)
+								words.add(word);
+						}
+				}
+				token= scanner.getNextToken();
+			}
+		} catch (InvalidInputException e) {
+			// RefactoringScanner stops at the same position
+		}
+		return words.toArray(new String[words.size()]);
+	}
+
+	private static List<String> getWords(char[] chars, int start, int end) {
+		List<String> words= new ArrayList<>();
+		int wordStart= -1;
+		for (int i= start; i <= end; i++) {
+			boolean isWordPart= i < end && isWordPart(chars[i]);
+			if (isWordPart && wordStart == -1) {
+				wordStart= i;
+			} else if (!isWordPart && wordStart != -1) {
+				words.add(new String(chars, wordStart, i - wordStart));
+				wordStart= -1;
+			}
+		}
+		return words;
+	}
+
+	private static boolean isWordPart(char ch) {
+		// the word boundaries of RefactoringScanner#isWholeWord(String, int, int)
+		return Character.isLetterOrDigit(ch) || ch == '_';
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null)
+			return;
+		synchronized (this) {
+			for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+				String projectName= projectDelta.getResource().getName();
+				ProjectIndex index= fProjects.get(projectName);
+				if (index == null)
+					continue;
+				if (projectDelta.getKind() == IResourceDelta.REMOVED || (projectDelta.getFlags() & IResourceDelta.OPEN) != 0) {
+					fProjects.remove(projectName);
+					continue;
+				}
+				collectDirtyFiles(projectDelta, index);
+			}
+		}
+	}
+
+	private static void collectDirtyFiles(IResourceDelta delta, ProjectIndex index) {
+		IResource resource= delta.getResource();
+		if (resource.getType() == IResource.FILE) {
+			if (resource.getName().endsWith(JAVA_EXTENSION)) {
+				int kind= delta.getKind();
+				if (kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED || (delta.getFlags() & CONTENT_FLAGS) != 0)
+					index.fDirty.add(resource.getProjectRelativePath());
+			}
+			return;
+		}
+		for (IResourceDelta child : delta.getAffectedChildren()) {
+			collectDirtyFiles(child, index);
+		}
+	}
+
+	private synchronized void dispose() {
+		if (fListening) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+			fListening= false;
+		}
+		if (fLoaded)
+			save();
+	}
+
+	private static File getIndexFile() {
+		JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		if (plugin == null)
+			return null;
+		return plugin.getStateLocation().append(INDEX_FILE).toFile();
+	}
+
+	private void load() {
+		File file= getIndexFile();
+		if (file == null || !file.isFile())
+			return;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION)
+				return;
+			int projectCount= in.readInt();
+			for (int i= 0; i < projectCount; i++) {
+				String projectName= in.readUTF();
+				ProjectIndex index= new ProjectIndex();
+				int wordCount= in.readInt();
+				for (int j= 0; j < wordCount; j++) {
+					index.getWordId(in.readUTF());
+				}
+				int fileCount= in.readInt();
+				for (int j= 0; j < fileCount; j++) {
+					IPath path= IPath.fromPortableString(in.readUTF());
+					long stamp= in.readLong();
+					int idCount= in.readInt();
+					int[] ids= idCount < 0 ? null : new int[idCount];
+					for (int k= 0; k < idCount; k++) {
+						ids[k]= in.readInt();
+						if (ids[k] < 0 || ids[k] >= wordCount)
+							throw new IOException("Invalid word id " + ids[k]); //$NON-NLS-1$
+					}
+					index.put(path, new FileEntry(stamp, ids));
+				}
+				fProjects.put(projectName, index);
+			}
+		} catch (IOException e) {
+			// start from scratch
+			fProjects.clear();
+			JavaManipulationPlugin.log(e);
+		}
+	}
+
+	private void save() {
+		File file= getIndexFile();
+		if (file == null)
+			return;
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(fProjects.size());
+			for (Entry<String, ProjectIndex> project : fProjects.entrySet()) {
+				ProjectIndex index= project.getValue();
+				synchronized (index) {
+					out.writeUTF(project.getKey());
+					Map<IPath, FileEntry> files= new HashMap<>(index.fFiles);
+					files.keySet().removeAll(index.fDirty);
+					// only the words of the saved files are written, numbered anew
+					int[] newIds= new int[index.fWords.size()];
+					Arrays.fill(newIds, -1);
+					List<String> words= new ArrayList<>();
+					for (FileEntry entry : files.values()) {
+						if (entry.wordIds() == null)
+							continue;
+						for (int id : entry.wordIds()) {
+							if (newIds[id] == -1) {
+								newIds[id]= words.size();
+								words.add(index.fWords.get(id));
+							}
+						}
+					}
+					out.writeInt(words.size());
+					for (String word : words) {
+						out.writeUTF(word);
+					}
+					out.writeInt(files.size());
+					for (Entry<IPath, FileEntry> entry : files.entrySet()) {
+						out.writeUTF(entry.getKey().toPortableString());
+						out.writeLong(entry.getValue().stamp());
+						int[] ids= entry.getValue().wordIds();
+						if (ids == null) {
+							out.writeInt(-1);
+							continue;
+						}
+						out.writeInt(ids.length);
+						for (int id : ids) {
+							out.writeInt(newIds[id]);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			file.delete();
+			JavaManipulationPlugin.log(e);
+		}
+	}
+}
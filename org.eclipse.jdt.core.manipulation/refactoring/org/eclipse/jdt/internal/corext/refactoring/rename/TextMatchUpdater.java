@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
@@ -68,6 +70,7 @@ public class TextMatchUpdater {
 	private final boolean fOnlyQualified;
 
 	private final RefactoringScanner fScanner;
+	private final String fCurrentName;
 	private final String fNewName;
 	private final int fCurrentNameLength;
 
@@ -81,6 +84,7 @@ public class TextMatchUpdater {
 		fOnlyQualified= onlyQualified;
 
 		fNewName= newName;
+		fCurrentName= currentName;
 		fCurrentNameLength= currentName.length();
 		fScanner= new RefactoringScanner(currentName, currentQualifier);
 	}
@@ -101,7 +105,7 @@ public class TextMatchUpdater {
 			for (IProject project : projectsInScope) {
 				if (pm.isCanceled())
 					throw new OperationCanceledException();
-				addTextMatches(project, Progress.subMonitor(pm, 1));
+				addIndexedTextMatches(project, Progress.subMonitor(pm, 1));
 			}
 		} finally{
 			pm.done();
@@ -121,6 +125,51 @@ public class TextMatchUpdater {
 		return projectsInScope.toArray(new IProject[projectsInScope.size()]);
 	}
 
+	/**
+	 * Scans the compilation units of the project that contain the current name in a comment or
+	 * string according to the {@link TextMatchIndex}, and all working copies of the project.
+	 *
+	 * @param project the project
+	 * @param pm the progress monitor
+	 * @throws JavaModelException if scanning a compilation unit fails
+	 */
+	private void addIndexedTextMatches(IProject project, IProgressMonitor pm) throws JavaModelException {
+		try {
+			pm.beginTask("", 2); //$NON-NLS-1$
+			List<IFile> files= TextMatchIndex.getDefault().getCandidateFiles(project, fCurrentName, Progress.subMonitor(pm, 1));
+			if (files == null) {
+				addTextMatches(project, Progress.subMonitor(pm, 1));
+				return;
+			}
+			// the index only knows the saved contents
+			Set<IFile> workingCopies= new LinkedHashSet<>();
+			for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+				IResource resource= workingCopy.getResource();
+				if (resource instanceof IFile && project.equals(resource.getProject()))
+					workingCopies.add((IFile) resource);
+			}
+			workingCopies.removeAll(files);
+			files.addAll(workingCopies);
+
+			IProgressMonitor subMonitor= Progress.subMonitor(pm, 1);
+			String task= RefactoringCoreMessages.TextMatchUpdater_searching + project.getFullPath();
+			subMonitor.beginTask(task, files.size());
+			subMonitor.subTask(task);
+			for (IFile file : files) {
+				if (subMonitor.isCanceled())
+					throw new OperationCanceledException();
+				addTextMatches(file, Progress.subMonitor(subMonitor, 1));
+			}
+			subMonitor.done();
+		} catch (JavaModelException e) {
+			throw e;
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
+		} finally {
+			pm.done();
+		}
+	}
+
 	private void addTextMatches(IResource resource, IProgressMonitor pm) throws JavaModelException{
 		try{
 			String task= RefactoringCoreMessages.TextMatchUpdater_searching + resource.getFullPath();
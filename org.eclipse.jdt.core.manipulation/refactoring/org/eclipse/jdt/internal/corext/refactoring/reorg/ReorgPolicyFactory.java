@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,8 +22,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.regex.Matcher;
@@ -1346,19 +1348,25 @@ public final class ReorgPolicyFactory {
 				return;
 			IPackageFragment destination= getDestinationAsPackageFragment();
 			if (destination != null) {
-				ICompilationUnit[] cus= getCus();
-				pm.beginTask("", cus.length); //$NON-NLS-1$
-				pm.subTask(RefactoringCoreMessages.MoveRefactoring_scanning_qualified_names);
-				for (ICompilationUnit cu : cus) {
-					IType[] types= cu.getTypes();
-					IProgressMonitor typesMonitor= Progress.subMonitor(pm, 1);
-					typesMonitor.beginTask("", types.length); //$NON-NLS-1$
-					for (IType type : types) {
-						handleType(type, destination, Progress.subMonitor(typesMonitor, 1));
-						if (typesMonitor.isCanceled())
-							throw new OperationCanceledException();
+				// search all types of a project at once, so that every file is scanned only once
+				Map<IProject, Map<String, String>> newNamesByProject= new LinkedHashMap<>();
+				for (ICompilationUnit cu : getCus()) {
+					for (IType type : cu.getTypes()) {
+						IProject project= type.getJavaProject().getProject();
+						Map<String, String> newNames= newNamesByProject.get(project);
+						if (newNames == null) {
+							newNames= new LinkedHashMap<>();
+							newNamesByProject.put(project, newNames);
+						}
+						newNames.put(type.getFullyQualifiedName(), destination.getElementName() + "." + type.getTypeQualifiedName()); //$NON-NLS-1$
 					}
-					typesMonitor.done();
+				}
+				pm.beginTask("", newNamesByProject.size()); //$NON-NLS-1$
+				pm.subTask(RefactoringCoreMessages.MoveRefactoring_scanning_qualified_names);
+				for (Entry<IProject, Map<String, String>> entry : newNamesByProject.entrySet()) {
+					QualifiedNameFinder.process(fQualifiedNameSearchResult, entry.getValue(), fFilePatterns, entry.getKey(), Progress.subMonitor(pm, 1));
+					if (pm.isCanceled())
+						throw new OperationCanceledException();
 				}
 			}
 			pm.done();
@@ -1613,11 +1621,6 @@ public final class ReorgPolicyFactory {
 			return fUpdateReferences;
 		}
 
-		private void handleType(IType type, IPackageFragment destination, IProgressMonitor pm) {
-			QualifiedNameFinder.process(fQualifiedNameSearchResult, type.getFullyQualifiedName(), destination.getElementName() + "." + type.getTypeQualifiedName(), //$NON-NLS-1$
-					fFilePatterns, type.getJavaProject().getProject(), pm);
-		}
-
 		@Override
 		public boolean hasAllInputSet() {
 			if (getResourceDestination() == null && getJavaElementDestination() == null)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.util;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.regex.Pattern;
@@ -61,7 +65,7 @@ public class QualifiedNameFinder {
 	private static class ResultCollector extends TextSearchRequestor {
 
 		private final String fNewValue;
-		private final QualifiedNameSearchResult fResult;
+		protected final QualifiedNameSearchResult fResult;
 
 		public ResultCollector(QualifiedNameSearchResult result, String newValue) {
 			fResult= result;
@@ -95,31 +99,179 @@ public class QualifiedNameFinder {
 		public boolean acceptPatternMatch(TextSearchMatchAccess matchAccess) throws CoreException {
 			int start= matchAccess.getMatchOffset();
 			int length= matchAccess.getMatchLength();
+			if (!isEmbedded(matchAccess, start, length))
+				addEdit(fResult, matchAccess.getFile(), start, length, fNewValue);
+			return true;
+		}
+	}
+
+	/**
+	 * Collects the matches of several qualified names. The search engine reports one match at the
+	 * start of every file, and the collector then finds the occurrences of all names in the file
+	 * with one pass of a {@link NameAutomaton}.
+	 */
+	private static class MultiNameCollector extends ResultCollector {
+
+		private final NameAutomaton fAutomaton;
+		private final String[] fNewValues;
+
+		public MultiNameCollector(QualifiedNameSearchResult result, NameAutomaton automaton, String[] newValues) {
+			super(result, null);
+			fAutomaton= automaton;
+			fNewValues= newValues;
+		}
 
-			// skip embedded FQNs (bug 130764):
-			if (start > 0) {
-				char before= matchAccess.getFileContentChar(start - 1);
-				if (before == '.' || Character.isJavaIdentifierPart(before))
-					return true;
+		@Override
+		public boolean acceptPatternMatch(TextSearchMatchAccess matchAccess) throws CoreException {
+			int length= matchAccess.getFileContentLength();
+			String content= matchAccess.getFileContent(0, length);
+			int[] lastEnds= new int[fNewValues.length];
+			int state= 0;
+			for (int i= 0; i < length; i++) {
+				state= fAutomaton.next(state, content.charAt(i));
+				for (int match= fAutomaton.getMatch(state); match != -1; match= fAutomaton.getNextMatch(match)) {
+					int matchLength= fAutomaton.getName(match).length();
+					int start= i + 1 - matchLength;
+					// the single name search does not report overlapping occurrences of a name
+					if (start < lastEnds[match])
+						continue;
+					lastEnds[match]= i + 1;
+					if (!isEmbedded(matchAccess, start, matchLength))
+						addEdit(fResult, matchAccess.getFile(), start, matchLength, fNewValues[match]);
+				}
 			}
-			int fileContentLength= matchAccess.getFileContentLength();
-			int end= start + length;
-			if (end < fileContentLength) {
-				char after= matchAccess.getFileContentChar(end);
-				if (Character.isJavaIdentifierPart(after))
-					return true;
+			return false;
+		}
+	}
+
+	/**
+	 * Aho-Corasick automaton for a set of names. The transitions of a state are kept in sorted
+	 * arrays, the failure transitions are resolved when the automaton is built.
+	 */
+	private static final class NameAutomaton {
+
+		private final String[] fNames;
+		private char[][] fLabels= new char[16][];
+		private int[][] fTargets= new int[16][];
+		private int[] fFailures;
+		/** The name that ends in a state, or -1. */
+		private int[] fOutputs= new int[16];
+		/** For every name, the next shorter name that is a suffix of it, or -1. */
+		private final int[] fNextOutputs;
+		private int fStateCount;
+
+		public NameAutomaton(String[] names) {
+			fNames= names;
+			fNextOutputs= new int[names.length];
+			newState();
+			for (int i= 0; i < names.length; i++) {
+				String name= names[i];
+				int state= 0;
+				for (int j= 0; j < name.length(); j++) {
+					int target= getTarget(state, name.charAt(j));
+					if (target == -1) {
+						target= newState();
+						addTransition(state, name.charAt(j), target);
+					}
+					state= target;
+				}
+				fOutputs[state]= i;
 			}
+			computeFailures();
+		}
 
-			IFile file= matchAccess.getFile();
-			synchronized(fResult) {
-				TextChange change= fResult.getChange(file);
-				TextChangeCompatibility.addTextEdit(
-					change,
-					RefactoringCoreMessages.QualifiedNameFinder_update_name,
-					new ReplaceEdit(start, length, fNewValue), QUALIFIED_NAMES);
+		private int newState() {
+			if (fStateCount == fOutputs.length) {
+				int capacity= fStateCount * 2;
+				fLabels= Arrays.copyOf(fLabels, capacity);
+				fTargets= Arrays.copyOf(fTargets, capacity);
+				fOutputs= Arrays.copyOf(fOutputs, capacity);
 			}
+			fLabels[fStateCount]= new char[0];
+			fTargets[fStateCount]= new int[0];
+			fOutputs[fStateCount]= -1;
+			return fStateCount++;
+		}
 
-			return true;
+		private void addTransition(int state, char label, int target) {
+			char[] labels= fLabels[state];
+			int[] targets= fTargets[state];
+			int index= -Arrays.binarySearch(labels, label) - 1;
+			char[] newLabels= new char[labels.length + 1];
+			int[] newTargets= new int[targets.length + 1];
+			System.arraycopy(labels, 0, newLabels, 0, index);
+			System.arraycopy(targets, 0, newTargets, 0, index);
+			newLabels[index]= label;
+			newTargets[index]= target;
+			System.arraycopy(labels, index, newLabels, index + 1, labels.length - index);
+			System.arraycopy(targets, index, newTargets, index + 1, targets.length - index);
+			fLabels[state]= newLabels;
+			fTargets[state]= newTargets;
+		}
+
+		private int getTarget(int state, char label) {
+			int index= Arrays.binarySearch(fLabels[state], label);
+			return index < 0 ? -1 : fTargets[state][index];
+		}
+
+		private void computeFailures() {
+			fFailures= new int[fStateCount];
+			Arrays.fill(fNextOutputs, -1);
+			ArrayDeque<Integer> queue= new ArrayDeque<>();
+			for (int target : fTargets[0]) {
+				queue.add(Integer.valueOf(target));
+			}
+			while (!queue.isEmpty()) {
+				int state= queue.remove().intValue();
+				char[] labels= fLabels[state];
+				for (int i= 0; i < labels.length; i++) {
+					int target= fTargets[state][i];
+					int failure= next(fFailures[state], labels[i]);
+					fFailures[target]= failure;
+					if (fOutputs[target] != -1)
+						fNextOutputs[fOutputs[target]]= getMatch(failure);
+					else
+						fOutputs[target]= -2 - getMatch(failure); // inherited output, see getMatch(int)
+					queue.add(Integer.valueOf(target));
+				}
+			}
+		}
+
+		/**
+		 * @param state the current state
+		 * @param ch the next character
+		 * @return the state after reading the character
+		 */
+		public int next(int state, char ch) {
+			while (true) {
+				int target= getTarget(state, ch);
+				if (target != -1)
+					return target;
+				if (state == 0)
+					return 0;
+				state= fFailures[state];
+			}
+		}
+
+		/**
+		 * @param state a state
+		 * @return the longest name that ends in the given state, or -1
+		 */
+		public int getMatch(int state) {
+			int output= fOutputs[state];
+			return output >= -1 ? output : -2 - output;
+		}
+
+		/**
+		 * @param match a name
+		 * @return the next shorter name that is a suffix of the given name, or -1
+		 */
+		public int getNextMatch(int match) {
+			return fNextOutputs[match];
+		}
+
+		public String getName(int match) {
+			return fNames[match];
 		}
 	}
 
@@ -148,6 +300,76 @@ public class QualifiedNameFinder {
 		engine.search(createScope(filePatterns, root), collector, searchPattern, monitor);
 	}
 
+	/**
+	 * Finds the occurrences of several qualified names. Unlike calling
+	 * {@link #process(QualifiedNameSearchResult, String, String, String, IProject, IProgressMonitor)}
+	 * for each name, every file is read and scanned only once.
+	 *
+	 * @param result the result to add the changes to
+	 * @param newValues a map from the qualified names to their new values
+	 * @param filePatterns the file name patterns of the files to search
+	 * @param root the project whose referencing projects are searched as well
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 */
+	public static void process(QualifiedNameSearchResult result, Map<String, String> newValues, String filePatterns, IProject root, IProgressMonitor monitor) {
+		Assert.isNotNull(newValues);
+		Assert.isNotNull(root);
+
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+
+		if (filePatterns == null || filePatterns.length() == 0 || newValues.isEmpty()) {
+			// Eat progress.
+			monitor.beginTask("", 1); //$NON-NLS-1$
+			monitor.worked(1);
+			return;
+		}
+
+		String[] names= new String[newValues.size()];
+		String[] values= new String[names.length];
+		int i= 0;
+		for (Entry<String, String> entry : newValues.entrySet()) {
+			names[i]= entry.getKey();
+			values[i++]= entry.getValue();
+		}
+		MultiNameCollector collector= new MultiNameCollector(result, new NameAutomaton(names), values);
+		// a single match at the start of every non-empty file:
+		Pattern filePattern= Pattern.compile("\\A.", Pattern.DOTALL); //$NON-NLS-1$
+
+		TextSearchEngine.create().search(createScope(filePatterns, root), collector, filePattern, monitor);
+	}
+
+	/**
+	 * @param matchAccess the file
+	 * @param start the start of the match
+	 * @param length the length of the match
+	 * @return whether the match is part of a longer name and must not be updated (bug 130764)
+	 */
+	private static boolean isEmbedded(TextSearchMatchAccess matchAccess, int start, int length) {
+		if (start > 0) {
+			char before= matchAccess.getFileContentChar(start - 1);
+			if (before == '.' || Character.isJavaIdentifierPart(before))
+				return true;
+		}
+		int end= start + length;
+		if (end < matchAccess.getFileContentLength()) {
+			char after= matchAccess.getFileContentChar(end);
+			if (Character.isJavaIdentifierPart(after))
+				return true;
+		}
+		return false;
+	}
+
+	private static void addEdit(QualifiedNameSearchResult result, IFile file, int start, int length, String newValue) {
+		synchronized(result) {
+			TextChange change= result.getChange(file);
+			TextChangeCompatibility.addTextEdit(
+				change,
+				RefactoringCoreMessages.QualifiedNameFinder_update_name,
+				new ReplaceEdit(start, length, newValue), QUALIFIED_NAMES);
+		}
+	}
+
 	private static TextSearchScope createScope(String filePatterns, IProject root) {
 		HashSet<IProject> res= new HashSet<>();
 		res.add(root);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -103,6 +103,12 @@ public abstract class AbstractCompletionTest {
 	private char fTrigger;
 	private boolean fWaitBeforeCompleting;
 
+	@Before
+	public void clearUsageData() {
+		// proposals applied by earlier tests must not change the order of proposals
+		JavaPlugin.getDefault().getRelevanceStore().clear();
+	}
+
 	@Before
 	public void setUp() throws Exception {
 		Hashtable<String, String> options= TestOptions.getDefaultOptions();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2025 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -28,13 +30,17 @@ import org.junit.Test;
 import org.eclipse.core.runtime.preferences.IEclipsePreferences;
 import org.eclipse.core.runtime.preferences.InstanceScope;
 
+import org.eclipse.jdt.core.CompletionProposal;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory;
 import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory.RHSHistory;
+import org.eclipse.jdt.internal.ui.text.java.RelevanceComputer;
+import org.eclipse.jdt.internal.ui.text.java.RelevanceStore;
 
 /**
  * @since 3.2
@@ -244,6 +250,79 @@ public class ContentAssistHistoryTest {
 		assertEqualMap(map(LIST, list(ARRAY_LIST), COLLECTION, list(ARRAY_LIST), ITERABLE, list(ARRAY_LIST), CHAR_SEQUENCE, list(STRING)), loaded.getEntireHistory());
 	}
 
+	@Test
+	public void testRelevanceStore() throws Exception {
+		long listKey= RelevanceStore.hash(RelevanceStore.hash(RelevanceStore.KEY_SEED, "Ljava.util.List;"), ARRAY_LIST);
+		long collectionKey= RelevanceStore.hash(RelevanceStore.hash(RelevanceStore.KEY_SEED, "Ljava.util.Collection;".toCharArray()), ARRAY_LIST.toCharArray());
+		int hour= 1000;
+
+		Path file= Files.createTempFile("relevance", ".dat");
+		try {
+			RelevanceStore store= new RelevanceStore(file, 1024);
+			store.record(listKey, hour);
+			store.record(listKey, hour);
+			store.record(collectionKey, hour);
+			assertEquals(2, store.getScore(listKey, hour), 0.001f);
+			assertEquals(1, store.getScore(listKey, hour + RelevanceStore.HALF_LIFE_HOURS), 0.001f);
+			assertEquals(1, store.getScore(collectionKey, hour), 0.001f);
+
+			// choices with low scores are dropped when the store is full
+			for (int i= 0; i < 2000; i++) {
+				store.record(RelevanceStore.hash(RelevanceStore.KEY_SEED, "T" + i), hour);
+			}
+			assertTrue(store.size() <= 768);
+			assertEquals(2, store.getScore(listKey, hour), 0.001f);
+			store.close();
+
+			RelevanceStore reopened= new RelevanceStore(file, 1024);
+			assertEquals(2, reopened.getScore(listKey, hour), 0.001f);
+			reopened.close();
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	public void testUsageBoostBelowCoreRelevance() throws Exception {
+		char[] listSignature= "Ljava.util.List;".toCharArray();
+		CompletionProposal field= createProposal(CompletionProposal.FIELD_REF, 10, "Ljava.util.Collections;", "EMPTY_LIST", "Ljava.util.List;");
+		CompletionProposal method= createProposal(CompletionProposal.METHOD_REF, 10, "Ljava.util.List;", "size", "()I");
+		CompletionProposal type= createProposal(CompletionProposal.TYPE_REF, 10, "java.util", null, "Ljava.util.ArrayList;");
+		CompletionProposal moreRelevant= createProposal(CompletionProposal.PACKAGE_REF, 11, null, null, "java.util");
+
+		RelevanceStore store= JavaPlugin.getDefault().getRelevanceStore();
+		store.clear();
+		try {
+			int unusedField= RelevanceComputer.computeRelevance(field);
+			for (int i= 0; i < 1000; i++) {
+				RelevanceComputer.rememberUsage(null, field);
+				RelevanceComputer.rememberUsage(null, method);
+				RelevanceComputer.rememberUsage(null, type);
+				RelevanceComputer.rememberUsage(listSignature, type);
+			}
+			assertTrue(RelevanceComputer.computeRelevance(field) > unusedField);
+
+			int bound= RelevanceComputer.computeRelevance(moreRelevant);
+			assertTrue(RelevanceComputer.computeRelevance(field) < bound);
+			assertTrue(RelevanceComputer.computeRelevance(method) < bound);
+			// type proposals are boosted for their declaration and for the expected type
+			assertTrue(RelevanceComputer.computeRelevance(type) + RelevanceComputer.computeExpectedTypeUsageBoost(listSignature, type) < bound);
+		} finally {
+			store.clear();
+		}
+	}
+
+	private static CompletionProposal createProposal(int kind, int relevance, String declarationSignature, String name, String signature) {
+		CompletionProposal proposal= CompletionProposal.create(kind, 0);
+		proposal.setRelevance(relevance);
+		if (declarationSignature != null)
+			proposal.setDeclarationSignature(declarationSignature.toCharArray());
+		if (name != null)
+			proposal.setName(name.toCharArray());
+		proposal.setSignature(signature.toCharArray());
+		return proposal;
+	}
+
 	private static void assertEqualMap(Map<String, List<String>> expected, Map<String, RHSHistory> actual) {
 		assertEqualMap("", expected, actual);
 	}
@@ -0,0 +1,20 @@
+package duplicates_in;
+
+public class A_test993 {
+	void foo() {
+		int i= 10;
+		/*[*/bar(i);
+		bar(i + 1);/*]*/
+	}
+
+	void baz() {
+		int j= 20;
+		bar(j);
+		bar(j + 1);
+		bar(j);
+		bar(j + 2);
+	}
+
+	void bar(int x) {
+	}
+}
@@ -0,0 +1,23 @@
+package duplicates_out;
+
+public class A_test993 {
+	void foo() {
+		int i= 10;
+		extracted(i);
+	}
+
+	protected void extracted(int i) {
+		/*[*/bar(i);
+		bar(i + 1);/*]*/
+	}
+
+	void baz() {
+		int j= 20;
+		extracted(j);
+		bar(j);
+		bar(j + 2);
+	}
+
+	void bar(int x) {
+	}
+}
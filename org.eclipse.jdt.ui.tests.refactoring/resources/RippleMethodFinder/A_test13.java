@@ -0,0 +1,57 @@
+package p;
+interface I0 {
+	void /*target*/m(int i);
+}
+interface I1 {
+	void m(int i);
+}
+interface I2 {
+	void m(int i);
+}
+interface I3 {
+	void m(int i);
+}
+interface I4 {
+	void m(int i);
+}
+interface I5 {
+	void /*ripple*/m(int i);
+}
+interface I6 {
+	void m(int i);
+}
+interface I7 {
+	void m(int i);
+}
+interface I8 {
+	void m(int i);
+}
+interface I9 {
+	void m(int i);
+}
+interface I10 {
+	void m(int i);
+}
+interface I11 {
+	void m(int i);
+}
+interface I12 {
+	void m(int i);
+}
+interface I13 {
+	void m(int i);
+}
+interface I14 {
+	void m(int i);
+}
+interface I15 {
+	void m(int i);
+}
+interface I16 {
+	void m(int i);
+}
+abstract class Married implements I0, I5 {
+}
+class Other implements I3 {
+	public void m(int i) {}
+}
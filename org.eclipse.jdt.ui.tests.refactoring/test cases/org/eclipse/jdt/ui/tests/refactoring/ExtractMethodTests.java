@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -2408,6 +2408,11 @@ public class ExtractMethodTests extends AbstractJunit4SelectionTestCase {
 		duplicatesTest();
 	}
 
+	@Test
+	public void test993() throws Exception {
+		duplicatesTest();
+	}
+
 	//---- Test code in initializers -----------------------------------------------
 
 	@Test
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,6 +57,7 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 
 	private boolean fAssumeCloneReturnsSameType= true;
 	private boolean fLeaveUnconstrainedRaw= true;
+	private boolean fParallelConstraintCreation= true;
 
 	public InferTypeArgumentsTests() {
 		rts= new Java1d6Setup();
@@ -97,6 +98,7 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 
 		refactoring.setAssumeCloneReturnsSameType(fAssumeCloneReturnsSameType);
 		refactoring.setLeaveUnconstrainedRaw(fLeaveUnconstrainedRaw);
+		refactoring.setParallelConstraintCreation(fParallelConstraintCreation);
 
 		PerformRefactoringOperation op= new PerformRefactoringOperation(
 				refactoring, CheckConditionsOperation.FINAL_CONDITIONS);
@@ -272,6 +274,33 @@ public class InferTypeArgumentsTests extends GenericRefactoringTest {
 
 	}
 
+	@Test
+	public void testJUnitSequential() throws Exception {
+		fAssumeCloneReturnsSameType= false;
+		fLeaveUnconstrainedRaw= true;
+		fParallelConstraintCreation= false;
+		IJavaProject javaProject= JavaProjectHelper.createJavaProject("InferTypeArguments", "bin");
+		try {
+			IPackageFragmentRoot jdk= JavaProjectHelper.addRTJar(javaProject);
+			assertNotNull(jdk);
+
+			File junitSrcArchive= JavaTestPlugin.getDefault().getFileInPlugin(JavaProjectHelper.JUNIT_SRC_381);
+			assertNotNull(junitSrcArchive);
+            assertTrue(junitSrcArchive.exists());
+
+			IPackageFragmentRoot src= JavaProjectHelper.addSourceContainerWithImport(javaProject, "src", junitSrcArchive, JavaProjectHelper.JUNIT_SRC_ENCODING);
+
+			boolean performed= perform(new IJavaElement[] { javaProject }, RefactoringStatus.OK, RefactoringStatus.OK);
+			assertTrue(performed);
+
+			compareWithZipFile(src, "junit381-noUI-generified-src.zip");
+		} finally {
+			if (javaProject != null && javaProject.exists())
+				JavaProjectHelper.delete(javaProject);
+		}
+
+	}
+
 	@Test
 	public void testJUnitWithCloneNotRaw() throws Exception {
 		fAssumeCloneReturnsSameType= true;
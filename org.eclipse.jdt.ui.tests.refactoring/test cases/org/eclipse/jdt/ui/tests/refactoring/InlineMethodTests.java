@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1347,6 +1347,42 @@ public class InlineMethodTests extends AbstractJunit4SelectionTestCase {
 		performGenericTest();
 	}
 
+	/* *********************** Parallel Tests ******************************* */
+
+	@Test
+	public void testParallelInlineAll() throws Exception {
+		IPackageFragment pack= fgTestSetup.getSimplePackage();
+		String source= """
+			package simple_in;
+			public class ParallelSource {
+				public static int toInline(int x) {
+					return x * 2;
+				}
+			}
+			""";
+		ICompilationUnit unit= pack.createCompilationUnit("ParallelSource.java", source, true, null);
+		String caller= """
+			package simple_in;
+			public class ParallelCaller%d {
+				int foo(int a) {
+					return %s;
+				}
+			}
+			""";
+		ICompilationUnit[] callers= new ICompilationUnit[4];
+		for (int i= 0; i < callers.length; i++) {
+			callers[i]= pack.createCompilationUnit("ParallelCaller" + i + ".java", caller.formatted(i, "ParallelSource.toInline(a)"), true, null);
+		}
+		IMethod method= getMethodToInline(unit.getTypes()[0]);
+		InlineMethodRefactoring refactoring= InlineMethodRefactoring.create(unit, new RefactoringASTParser(AST.getJLSLatest()).parse(unit, true), method.getNameRange().getOffset(), method.getNameRange().getLength());
+		refactoring.setDeleteSource(false);
+
+		performTest(unit, refactoring, COMPARE_WITH_OUTPUT, source, false);
+		for (int i= 0; i < callers.length; i++) {
+			compareSource(callers[i].getSource(), caller.formatted(i, "a * 2"));
+		}
+	}
+
 	/* *********************** Binary Tests ******************************* */
 
 	@Test
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,14 +14,25 @@
 package org.eclipse.jdt.ui.tests.refactoring;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Collections;
 
 import org.junit.Test;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringScanner.TextMatch;
+import org.eclipse.jdt.internal.corext.refactoring.rename.TextMatchIndex;
 
 import org.eclipse.jdt.ui.tests.refactoring.infra.TextRangeUtil;
 import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
@@ -113,4 +124,30 @@ public class RefactoringScannerTests extends GenericRefactoringTest {
 				new Position(38, 20),
 		});
 	}
+
+	@Test
+	public void testIndex() throws Exception{
+		IProject project= rts.getProject().getProject();
+		ICompilationUnit cu= createCU(rts.getPackageP(), "Indexed.java", """
+			package p;
+			/** Uses org.eclipse.TestPattern */
+			class Indexed {
+				String s= "TestPatternX";
+			}
+			""");
+		try {
+			TextMatchIndex index= TextMatchIndex.getDefault();
+			IFile file= (IFile) cu.getResource();
+			assertTrue(index.getCandidateFiles(project, "TestPattern", new NullProgressMonitor()).contains(file));
+			assertTrue(index.getCandidateFiles(project, "eclipse.TestPattern", new NullProgressMonitor()).contains(file));
+			assertFalse(index.getCandidateFiles(project, "Indexed", new NullProgressMonitor()).contains(file));
+			assertTrue(index.getCandidateFiles(project, "TestPatternX", new NullProgressMonitor()).contains(file));
+
+			file.setContents(getStream("package p;\nclass Indexed {\n\t// Indexed\n}\n"), IResource.NONE, null);
+			assertFalse(index.getCandidateFiles(project, "TestPattern", new NullProgressMonitor()).contains(file));
+			assertTrue(index.getCandidateFiles(project, "Indexed", new NullProgressMonitor()).contains(file));
+		} finally {
+			cu.delete(true, null);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1926,4 +1926,50 @@ public class RenameTypeTests extends GenericRefactoringTest {
 		// Test references in annotations and type parameters
 		helper3("Try", "Bla", true, false, true);
 	}
+
+	@Test
+	public void testSimilarElements35() throws Exception {
+		// Test that batching the search for the references to similarly named fields gives
+		// the same result as one search per field
+		String unbatched= renameSimilarFields(getPackageP(), false);
+		String batched= renameSimilarFields(getPackageQ(), true);
+		assertEquals(unbatched.replace("package p;", "package q;"), batched);
+	}
+
+	private String renameSimilarFields(IPackageFragment pack, boolean batch) throws Exception {
+		String packageDeclaration= "package " + pack.getElementName() + ";\n";
+		ICompilationUnit holder= createCU(pack, "Item.java", packageDeclaration + """
+			public class Item {
+				Item item;
+				Item firstItem;
+				Item lastItem;
+				static Item defaultItem;
+			}
+			""");
+		ICompilationUnit user= createCU(pack, "User.java", packageDeclaration + """
+			class User {
+				Item get(Item holder) {
+					holder.firstItem= holder.lastItem;
+					return holder.item != null ? holder.item : Item.defaultItem;
+				}
+			}
+			""");
+		RenameJavaElementDescriptor descriptor= createRefactoringDescriptor(getType(holder, "Item"), "Entry");
+		setTheOptions(descriptor, true, false, true, null, RenamingNameSuggestor.STRATEGY_EMBEDDED);
+		Refactoring ref= createRefactoring(descriptor);
+		((RenameTypeProcessor) ((RenameRefactoring) ref).getProcessor()).setBatchSimilarElementSearch(batch);
+
+		assertNull("was supposed to pass", performRefactoring(ref));
+
+		String expected= packageDeclaration + """
+			class User {
+				Entry get(Entry holder) {
+					holder.firstEntry= holder.lastEntry;
+					return holder.entry != null ? holder.entry : Entry.defaultEntry;
+				}
+			}
+			""";
+		assertEqualLines(expected, user.getSource());
+		return pack.getCompilationUnit("Entry.java").getSource() + user.getSource();
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -138,5 +138,10 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 	public void test12() throws Exception {
 		perform();
 	}
+	@Test
+	public void test13() throws Exception {
+		// enough root types to share one hierarchy between them
+		perform();
+	}
 
 }
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+
+import org.eclipse.ltk.core.refactoring.TextChange;
+import org.eclipse.ltk.core.refactoring.TextEditChangeGroup;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.corext.refactoring.changes.TextChangeCompatibility;
+import org.eclipse.jdt.internal.corext.refactoring.util.TextChangeManager;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class TextChangeManagerTest extends GenericRefactoringTest {
+
+	private static final int UNIT_COUNT= 100;
+
+	private interface EditSink {
+		void addTextEdit(ICompilationUnit cu, String name, TextEdit edit);
+	}
+
+	private List<ICompilationUnit> fUnits;
+	private ICompilationUnit fShared;
+
+	public TextChangeManagerTest() {
+		rts= new RefactoringTestSetup();
+	}
+
+	private void createUnits() throws Exception {
+		fUnits= new ArrayList<>();
+		StringBuilder shared= new StringBuilder("package p;\nclass Shared {\n");
+		for (int i= 0; i < UNIT_COUNT; i++) {
+			String source= "package p;\nclass U" + i + " {\n\tint foo;\n\tint bar= foo + foo;\n}\n";
+			fUnits.add(createCU(getPackageP(), "U" + i + ".java", source));
+			shared.append("\tint f").append(i).append(";\n");
+		}
+		shared.append("}\n");
+		fShared= createCU(getPackageP(), "Shared.java", shared.toString());
+	}
+
+	/*
+	 * Renames 'foo' in the given unit and the field of the unit in the shared unit, so that the
+	 * edits of all items end up in one change.
+	 */
+	private void createEdits(ICompilationUnit cu, EditSink sink) throws JavaModelException {
+		String source= cu.getSource();
+		for (int i= source.indexOf("foo"); i >= 0; i= source.indexOf("foo", i + 1)) {
+			sink.addTextEdit(cu, "rename foo", new ReplaceEdit(i, 3, "fred"));
+		}
+		String field= "f" + fUnits.indexOf(cu);
+		int offset= fShared.getSource().indexOf("\tint " + field + ";") + 5;
+		sink.addTextEdit(fShared, "rename " + field, new ReplaceEdit(offset, field.length(), "g" + field));
+	}
+
+	@Test
+	public void parallelMatchesSequential() throws Exception {
+		createUnits();
+
+		TextChangeManager sequential= new TextChangeManager();
+		for (ICompilationUnit cu : fUnits) {
+			createEdits(cu, (unit, name, edit) -> TextChangeCompatibility.addTextEdit(sequential.get(unit), name, edit));
+		}
+
+		TextChangeManager parallel= new TextChangeManager();
+		parallel.addTextEdits(fUnits, (cu, collector) -> createEdits(cu, collector::addTextEdit), new NullProgressMonitor());
+
+		TextChange[] expected= sequential.getAllChanges();
+		TextChange[] actual= parallel.getAllChanges();
+		assertEquals(UNIT_COUNT + 1, actual.length);
+		assertEquals(expected.length, actual.length);
+		for (int i= 0; i < expected.length; i++) {
+			assertEquals(expected[i].getName(), actual[i].getName());
+			assertArrayEquals(expected[i].getName(), getGroupNames(expected[i]), getGroupNames(actual[i]));
+			assertEquals(expected[i].getPreviewContent(new NullProgressMonitor()), actual[i].getPreviewContent(new NullProgressMonitor()));
+		}
+	}
+
+	@Test
+	public void cancel() throws Exception {
+		createUnits();
+
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		TextChangeManager manager= new TextChangeManager();
+		try {
+			manager.addTextEdits(fUnits, (cu, collector) -> {
+				monitor.setCanceled(true);
+				createEdits(cu, collector::addTextEdit);
+			}, monitor);
+			fail("addTextEdits not canceled");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		assertEquals(0, manager.getAllChanges().length);
+	}
+
+	private static String[] getGroupNames(TextChange change) {
+		TextEditChangeGroup[] groups= change.getTextEditChangeGroups();
+		String[] names= new String[groups.length];
+		for (int i= 0; i < groups.length; i++) {
+			names[i]= groups[i].getName();
+		}
+		return names;
+	}
+}
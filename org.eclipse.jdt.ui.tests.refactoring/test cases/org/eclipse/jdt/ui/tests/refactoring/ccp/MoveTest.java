@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -968,6 +968,23 @@ public class MoveTest extends GenericRefactoringTest {
 						new MoveArguments(otherPackage.getResource(), processor.getUpdateReferences())});
 	}
 
+	@Test
+	public void testDestination_yes_cusToOtherPackageWithQualifiedNames() throws Exception {
+		IPackageFragment otherPackage= getRoot().createPackageFragment("otherPackage", true, new NullProgressMonitor());
+		ICompilationUnit cu1= getPackageP().createCompilationUnit("A.java", "package p;class A{}", false, new NullProgressMonitor());
+		ICompilationUnit cu2= getPackageP().createCompilationUnit("B.java", "package p;class B{}", false, new NullProgressMonitor());
+		IFile file= getRoot().getJavaProject().getProject().getFile("names.txt");
+		file.create(getStream("p.A, p.B, p.AB, x.p.A\n<p.B>"), true, null);
+
+		JavaMoveProcessor processor= verifyEnabled(new IResource[0], new IJavaElement[] { cu1, cu2 }, createReorgQueries());
+		verifyValidDestination(processor, otherPackage);
+		processor.setUpdateQualifiedNames(true);
+		processor.setFilePatterns("*.txt");
+		assertNull(performRefactoring(processor, true));
+
+		assertEqualLines("otherPackage.A, otherPackage.B, p.AB, x.p.A\n<otherPackage.B>", getContents(file));
+	}
+
 	@Test
 	public void testDestination_yes_cuFromRootIssue649() throws Exception {
 		IPackageFragment otherPackage= getRoot().createPackageFragment("otherPackage", true, new NullProgressMonitor());
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.junit.platform.suite.api.Suite;
 	RenameTypePerfAcceptanceTests.class,
 	RenameTypePerfTests1.class,
 	RenameTypePerfTests2.class,
+	RenameTypeSimilarFieldsPerfTests.class,
 
 	RenameMethodPerfTests1.class,
 	RenameMethodPerfTests2.class,
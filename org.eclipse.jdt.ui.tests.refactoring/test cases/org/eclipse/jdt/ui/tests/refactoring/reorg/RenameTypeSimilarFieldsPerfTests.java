@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring.reorg;
+
+import org.junit.FixMethodOrder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runners.MethodSorters;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.ltk.core.refactoring.participants.RenameRefactoring;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenameTypeProcessor;
+import org.eclipse.jdt.internal.corext.refactoring.rename.RenamingNameSuggestor;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringPerformanceTestSetup;
+
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RenameTypeSimilarFieldsPerfTests extends RepeatingRefactoringPerformanceTestCaseCommon {
+
+	@Rule
+	public RefactoringPerformanceTestSetup rpts= new RefactoringPerformanceTestSetup();
+
+	private boolean fBatch;
+
+	@Test
+	public void testACold_10_10() throws Exception {
+		fBatch= true;
+		executeRefactoring(10, 10, false, 3);
+	}
+
+	@Test
+	public void testB_100_10_batched() throws Exception {
+		fBatch= true;
+		tagAsSummary("Rename type with similar fields - 100 CUs, 10 Refs, batched search", Dimension.ELAPSED_PROCESS);
+		executeRefactoring(100, 10, true, 10);
+	}
+
+	@Test
+	public void testC_100_10_unbatched() throws Exception {
+		fBatch= false;
+		executeRefactoring(100, 10, true, 10);
+	}
+
+	@Override
+	protected void doExecuteRefactoring(int numberOfCus, int numberOfRefs, boolean measure) throws Exception {
+		ICompilationUnit cunit= generateSources(numberOfCus, numberOfRefs);
+		IType type= cunit.findPrimaryType();
+		RenameTypeProcessor processor= new RenameTypeProcessor(type);
+		processor.setNewElementName("Entry");
+		processor.setUpdateSimilarDeclarations(true);
+		processor.setMatchStrategy(RenamingNameSuggestor.STRATEGY_EXACT);
+		processor.setBatchSimilarElementSearch(fBatch);
+		executeRefactoring(new RenameRefactoring(processor), measure);
+	}
+
+	private ICompilationUnit generateSources(int numberOfCus, int numberOfRefs) throws Exception {
+		IPackageFragment definition= fTestProject.getSourceFolder().createPackageFragment("def", false, null);
+		String str= """
+			package def;
+			public class Item {
+			}
+			""";
+		ICompilationUnit result= definition.createCompilationUnit("Item.java", str, false, null);
+
+		IPackageFragment references= fTestProject.getSourceFolder().createPackageFragment("ref", false, null);
+		for (int i= 0; i < numberOfCus; i++) {
+			createReferenceCu(references, i, numberOfRefs);
+		}
+		return result;
+	}
+
+	private void createReferenceCu(IPackageFragment pack, int index, int numberOfRefs) throws Exception {
+		StringBuilder buf= new StringBuilder();
+		buf.append("package " + pack.getElementName() + ";\n");
+		buf.append("import def.Item;\n");
+		buf.append("public class Ref" + index + " {\n");
+		buf.append("    Item item;\n");
+		for (int i= 0; i < numberOfRefs - 1; i++) {
+			buf.append("    Item get" + i + "(Ref" + index + " other) { return other.item; }\n");
+		}
+		buf.append("}\n");
+		pack.createCompilationUnit("Ref" + index + ".java", buf.toString(), false, null);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.refactoring.typeconstraints;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
@@ -21,7 +22,10 @@ import static org.junit.Assert.assertTrue;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -45,6 +49,8 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.internal.corext.dom.HierarchicalASTVisitor;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.EnumeratedTypeSet;
+import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.typesets.TypeSetEnvironment;
 
 import org.eclipse.jdt.ui.tests.refactoring.infra.AbstractJunit4CUTestCase;
 import org.eclipse.jdt.ui.tests.refactoring.infra.RefactoringTestPlugin;
@@ -238,6 +244,7 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		node.accept(collector);
 		testBindings(collector.getResult());
 		testAssignment(collector.getWildcards());
+		testEnumeratedTypeSets(collector.getResult());
 	}
 
 	private void testBindings(ITypeBinding[] bindings) throws Exception {
@@ -304,6 +311,40 @@ public class TypeEnvironmentTests extends AbstractJunit4CUTestCase {
 		}
 	}
 
+	private void testEnumeratedTypeSets(ITypeBinding[] bindings) {
+		TypeEnvironment environment= new TypeEnvironment();
+		TypeSetEnvironment typeSetEnvironment= new TypeSetEnvironment(environment);
+		Set<TType> allTypes= new LinkedHashSet<>();
+		for (int i= bindings.length - 1; i >= 0; i--) {
+			allTypes.add(environment.create(bindings[i]));
+		}
+		Set<TType> evenTypes= new LinkedHashSet<>();
+		int index= 0;
+		for (TType type : allTypes) {
+			if (index++ % 2 == 0)
+				evenTypes.add(type);
+		}
+		EnumeratedTypeSet even= new EnumeratedTypeSet(evenTypes.iterator(), typeSetEnvironment);
+		EnumeratedTypeSet all= new EnumeratedTypeSet(allTypes.iterator(), typeSetEnvironment);
+		assertEquals("Not same order", new ArrayList<>(allTypes), Arrays.asList(all.toArray()));
+		assertTrue(all.containsAll(even));
+		assertEquals(evenTypes.size() == allTypes.size(), even.containsAll(all));
+		assertEquals(even, all.intersectedWith(even));
+
+		EnumeratedTypeSet retained= (EnumeratedTypeSet) all.makeClone();
+		retained.retainAll(even);
+		assertEquals("Not same order", new ArrayList<>(evenTypes), Arrays.asList(retained.toArray()));
+		assertEquals(even, retained);
+		assertEquals(even.hashCode(), retained.hashCode());
+
+		retained.removeAll(even);
+		assertTrue(retained.isEmpty());
+		for (TType type : allTypes) {
+			assertEquals(evenTypes.contains(type), even.contains(type));
+			assertFalse(retained.contains(type));
+		}
+	}
+
 	private void testFlags(ITypeBinding binding, TType type) {
 		assertEquals("Different class flag", binding.isClass(), type.isClass());
 		assertEquals("Different enum flag", binding.isEnum(), type.isEnum());
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.performance.views;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.eclipse.test.performance.Dimension;
+
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+
+import org.eclipse.jdt.internal.corext.util.ParallelWorkers;
+import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+
+import org.eclipse.jdt.ui.tests.performance.JdtPerformanceTestCaseCommon;
+
+import org.eclipse.jdt.internal.ui.util.PatternMatcher;
+
+/**
+ * Matches the filters of the open type dialog against 500000 synthetic type names, once with the
+ * string based methods of {@link TypeInfoFilter} and once with the methods that work on packed
+ * characters in parallel chunks.
+ */
+public class TypeInfoFilterPerfTest extends JdtPerformanceTestCaseCommon {
+
+	private static final int NAME_COUNT= 500000;
+	private static final int CHUNK_SIZE= 8192;
+
+	private static final String[] WORDS= { "Abstract", "Array", "List", "Map", "Hash", "Tree", "Type", "Hierarchy", "Java",
+			"Element", "Search", "Engine", "Null", "Pointer", "Class", "Cast", "Content", "Provider", "Label", "String",
+			"Buffer", "Builder", "Compilation", "Unit", "Refactoring", "Change", "Text", "Edit", "Io", "Url" };
+	private static final String[] SUFFIXES= { "", "", "Impl", "Factory", "Exception", "Test", "Util", "2" };
+	private static final String[] PACKAGES= { "java.util", "java.io", "org.eclipse.jdt.core", "org.eclipse.jdt.internal.ui",
+			"org.eclipse.core.runtime", "com.example.app.model", "" };
+
+	private static final String[] PATTERNS= { "S", "Str", "HM", "NPE", "CCE<", "ArLi", "JavaEl", "*Factory", "*Ex?eption",
+			"TypeHier ", "java.util.L", "o.e.j.c.IJE", "*.Hash", "AbstractTypeHierarchyProviderImpl" };
+
+	private static String[] fgSimpleNames;
+	private static String[] fgContainerNames;
+
+	private static char[] fgChars;
+	private static int[] fgStarts;
+	private static long[] fgSignatures;
+	private static char[][] fgContainerChars;
+
+	@BeforeClass
+	public static void createNames() {
+		Random random= new Random(4711);
+		fgSimpleNames= new String[NAME_COUNT];
+		fgContainerNames= new String[NAME_COUNT];
+		StringBuilder chars= new StringBuilder(NAME_COUNT * 24);
+		fgStarts= new int[NAME_COUNT + 1];
+		fgSignatures= new long[NAME_COUNT];
+		fgContainerChars= new char[NAME_COUNT][];
+		for (int i= 0; i < NAME_COUNT; i++) {
+			StringBuilder name= new StringBuilder();
+			if (random.nextInt(20) == 0) {
+				name.append('I');
+			}
+			int words= 1 + random.nextInt(4);
+			for (int j= 0; j < words; j++) {
+				name.append(WORDS[random.nextInt(WORDS.length)]);
+			}
+			name.append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+			String packageName= PACKAGES[random.nextInt(PACKAGES.length)];
+			String containerName= packageName;
+			if (random.nextInt(10) == 0) {
+				String outer= WORDS[random.nextInt(WORDS.length)];
+				containerName= packageName.isEmpty() ? outer : packageName + '.' + outer;
+			}
+			fgSimpleNames[i]= name.toString();
+			fgContainerNames[i]= containerName;
+			fgStarts[i]= chars.length();
+			chars.append(name);
+			fgStarts[i + 1]= chars.length();
+			fgContainerChars[i]= containerName.toCharArray();
+		}
+		fgChars= chars.toString().toCharArray();
+		for (int i= 0; i < NAME_COUNT; i++) {
+			fgSignatures[i]= PatternMatcher.getCamelCaseSignature(fgChars, fgStarts[i], fgStarts[i + 1]);
+		}
+	}
+
+	@Test
+	public void testStringFilter() throws Exception {
+		for (int i= 0; i < 10; i++) {
+			startMeasuring();
+			for (String pattern : PATTERNS) {
+				matchStrings(createFilter(pattern));
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	@Test
+	public void testPackedFilter() throws Exception {
+		for (String pattern : PATTERNS) {
+			TypeInfoFilter filter= createFilter(pattern);
+			assertArrayEquals(pattern, matchStrings(filter), matchChars(filter));
+		}
+		for (int i= 0; i < 10; i++) {
+			startMeasuring();
+			for (String pattern : PATTERNS) {
+				matchChars(createFilter(pattern));
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformanceInRelativeBand(Dimension.ELAPSED_PROCESS, -100, +10);
+	}
+
+	private static TypeInfoFilter createFilter(String pattern) {
+		return new TypeInfoFilter(pattern, SearchEngine.createWorkspaceScope(), IJavaSearchConstants.TYPE, null);
+	}
+
+	private static int[] matchStrings(TypeInfoFilter filter) {
+		int[] rows= new int[NAME_COUNT];
+		int size= 0;
+		for (int i= 0; i < NAME_COUNT; i++) {
+			// creates the same strings as a TypeNameMatch
+			String fullyQualifiedName= fgContainerNames[i].isEmpty() ? fgSimpleNames[i] : fgContainerNames[i] + '.' + fgSimpleNames[i];
+			String simpleName= fullyQualifiedName.substring(fullyQualifiedName.lastIndexOf('.') + 1);
+			if (filter.matchesName(simpleName) && filter.matchesPackage(fgContainerNames[i])) {
+				rows[size++]= i;
+			}
+		}
+		return trim(rows, size);
+	}
+
+	private static int[] matchChars(TypeInfoFilter filter) throws Exception {
+		List<int[]> chunks= new ArrayList<>();
+		for (int from= 0; from < NAME_COUNT; from+= CHUNK_SIZE) {
+			chunks.add(new int[] { from, Math.min(NAME_COUNT, from + CHUNK_SIZE) });
+		}
+		List<int[]> results= ParallelWorkers.map(chunks, chunk -> {
+			int[] rows= new int[chunk[1] - chunk[0]];
+			int size= 0;
+			for (int i= chunk[0]; i < chunk[1]; i++) {
+				if (filter.matchesName(fgChars, fgStarts[i], fgStarts[i + 1], fgSignatures[i])
+						&& filter.matchesPackage(fgContainerChars[i], 0, fgContainerChars[i].length)) {
+					rows[size++]= i;
+				}
+			}
+			return trim(rows, size);
+		}, null);
+		int[] rows= new int[NAME_COUNT];
+		int size= 0;
+		for (int[] result : results) {
+			System.arraycopy(result, 0, rows, size, result.length);
+			size+= result.length;
+		}
+		return trim(rows, size);
+	}
+
+	private static int[] trim(int[] rows, int size) {
+		int[] result= new int[size];
+		System.arraycopy(rows, 0, result, 0, size);
+		return result;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,12 +30,16 @@ import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IInitializer;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallGraph;
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -113,6 +117,59 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedMethods, cachedCalls);
     }
 
+	@Test
+	public void callersPrefetched() throws Exception {
+        helper.createSimpleClasses();
+
+        IMethod secondLevelMethod= helper.getMethod3();
+
+        MethodWrapper wrapper= getSingleCallerRoot(helper.getMethod1());
+        MethodWrapper[] calls= wrapper.getCalls(new NullProgressMonitor());
+        CallHierarchy.getDefault().prefetchCallers(calls, new NullProgressMonitor());
+
+        Collection<IMember> expectedSecondLevelMethods= new ArrayList<>();
+        expectedSecondLevelMethods.add(helper.getMethod4());
+        MethodWrapper wrapper2= helper.findMethodWrapper(secondLevelMethod, calls);
+        helper.assertCalls(expectedSecondLevelMethods, wrapper2.getCalls(new NullProgressMonitor()));
+
+        // the shared caller cache must not survive a saved change
+        ICompilationUnit cu= secondLevelMethod.getCompilationUnit();
+        cu.getBuffer().setContents(cu.getSource().replace("method4() { method3(); }", "method4() { }"));
+        cu.save(null, true);
+
+        MethodWrapper newRoot= getSingleCallerRoot(secondLevelMethod);
+        helper.assertCalls(new ArrayList<>(), newRoot.getCalls(new NullProgressMonitor()));
+    }
+
+	@Test
+	public void callGraph() throws Exception {
+        helper.createSimpleClasses();
+
+        IMethod method1= helper.getMethod1();
+        IJavaProject[] projects= { method1.getJavaProject(), helper.getMethod3().getJavaProject() };
+        CallGraph callGraph= CallHierarchyCore.getDefault().buildCallGraph(projects, new NullProgressMonitor());
+        try {
+            assertTrue(callGraph.isIndexed(method1));
+
+            Collection<IMember> expectedCallers= new ArrayList<>();
+            expectedCallers.add(helper.getMethod2());
+            expectedCallers.add(helper.getMethod3());
+            helper.assertCalls(expectedCallers, getSingleCallerRoot(method1).getCalls(new NullProgressMonitor()));
+
+            Collection<IMember> expectedCallees= new ArrayList<>();
+            expectedCallees.add(helper.getMethod3());
+            helper.assertCalls(expectedCallees, getSingleCalleeRoot(helper.getMethod4()).getCalls(new NullProgressMonitor()));
+
+            List<IMember> transitiveCallers= Arrays.asList(callGraph.getTransitiveCallers(method1, new NullProgressMonitor()));
+            assertEquals(3, transitiveCallers.size());
+            assertTrue(transitiveCallers.contains(helper.getMethod2()));
+            assertTrue(transitiveCallers.contains(helper.getMethod3()));
+            assertTrue(transitiveCallers.contains(helper.getMethod4()));
+        } finally {
+            CallHierarchyCore.getDefault().disposeCallGraph();
+        }
+    }
+
 	@Test
 	public void callees() throws Exception {
         helper.createSimpleClasses();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,14 +13,26 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.util.DisplayHelper;
+
+import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
@@ -38,6 +50,9 @@ import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementImageProvider;
+import org.eclipse.jdt.internal.ui.viewsupport.JavaElementLabelCache;
+
 public class JavaElementLabelsTest extends CoreTests {
 
 	@Rule
@@ -670,4 +685,35 @@ public class JavaElementLabelsTest extends CoreTests {
 		lab= JavaElementLabels.getTextLabel(foo2, JavaElementLabels.ALL_DEFAULT | JavaElementLabels.ALL_FULLY_QUALIFIED | JavaElementLabels.M_PARAMETER_ANNOTATIONS);
 		assertEqualString(lab, "org.test.Annotations.foo2(@Ann(value=\"\", cl=Annotations.class, ints={1, 2, -19}, ch='\\u0000', sh=32767, r=@Retention(value=RetentionPolicy.SOURCE)) String)");
 	}
+
+	@Test
+	public void testLabelCache() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("org.test", false, null);
+		ICompilationUnit cu= pack1.createCompilationUnit("Outer.java", "package org.test;\npublic class Outer {\n}\n", false, null);
+		cu.close();
+
+		List<Object> computed= new ArrayList<>();
+		JavaElementLabelCache cache= new JavaElementLabelCache(new JavaElementImageProvider(), elements -> computed.addAll(Arrays.asList(elements)));
+		try {
+			long flags= JavaElementLabels.ALL_DEFAULT;
+			JavaElementLabelCache.Labels labels= cache.getLabels(cu, flags, JavaElementImageProvider.OVERLAY_ICONS);
+			assertTrue(labels.isPlaceholder());
+			assertEqualString(labels.getText(), "Outer.java");
+
+			Job.getJobManager().join(cache, null);
+			DisplayHelper.driveEventQueue(Display.getDefault());
+			assertArrayEquals(new Object[] { cu }, computed.toArray());
+
+			labels= cache.getLabels(cu, flags, JavaElementImageProvider.OVERLAY_ICONS);
+			assertFalse(labels.isPlaceholder());
+			assertEqualString(labels.getText(), JavaElementLabels.getTextLabel(cu, flags));
+
+			// removed elements are dropped from the cache
+			cu.delete(true, null);
+			assertTrue(cache.getLabels(cu, flags, JavaElementImageProvider.OVERLAY_ICONS).isPlaceholder());
+		} finally {
+			cache.dispose();
+		}
+	}
 }
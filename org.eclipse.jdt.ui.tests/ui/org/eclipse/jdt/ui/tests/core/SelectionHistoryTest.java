@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.ui.tests.core;
 
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.text.Collator;
 import java.util.Arrays;
 import java.util.Comparator;
 
+import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -28,6 +32,8 @@ import org.eclipse.jdt.internal.corext.util.History;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 public class SelectionHistoryTest {
 	@Rule
 	public ProjectTestSetup pts= new ProjectTestSetup();
@@ -124,6 +130,21 @@ public class SelectionHistoryTest {
 
 	}
 
+	private static final class PersistentTestHistory extends History<String, String> {
+
+		public PersistentTestHistory() {
+			super("SelectionHistoryTest.xml");
+			load();
+		}
+		@Override
+		protected void setAttributes(Object object, Element element) {element.setAttribute("name", (String) object);}
+		@Override
+		protected String createFromElement(Element element) {return element.getAttribute("name");}
+		@Override
+		protected String getKey(String object) {return object;}
+
+	}
+
 	@Test
 	public void organizeImportHistory01() throws Exception {
 		History<String, String> history= new TestHistory();
@@ -190,4 +211,40 @@ public class SelectionHistoryTest {
 		Arrays.sort(strings, comparator);
 		assertEquals(strings, expected);
 	}
+
+	@Test
+	public void persistHistory() throws Exception {
+		File stateLocation= JavaPlugin.getDefault().getStateLocation().toFile();
+		File xmlFile= new File(stateLocation, "SelectionHistoryTest.xml");
+		File logFile= new File(stateLocation, "SelectionHistoryTest.dat");
+		try {
+			Files.writeString(xmlFile.toPath(), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<histroyRootNode>
+				<infoNode name="a"/>
+				<infoNode name="b"/>
+				</histroyRootNode>
+				""");
+			History<String, String> history= new PersistentTestHistory();
+			Assert.assertEquals(0, history.getPosition("a"));
+			Assert.assertEquals(1, history.getPosition("b"));
+			history.accessed("c");
+			history.save();
+			assertTrue(logFile.exists());
+
+			history.accessed("a");
+			history.remove("b");
+			long length= logFile.length();
+			history.save();
+			assertTrue(logFile.length() > length);
+
+			history= new PersistentTestHistory();
+			Assert.assertEquals(-1, history.getPosition("b"));
+			Assert.assertEquals(0, history.getPosition("c"));
+			Assert.assertEquals(1, history.getPosition("a"));
+		} finally {
+			xmlFile.delete();
+			logFile.delete();
+		}
+	}
 }
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchySnapshotStore;
+
+public class TypeHierarchySnapshotStoreTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private IJavaProject fJavaProject;
+	private File fDirectory;
+	private TypeHierarchySnapshotStore fStore;
+
+	private IPackageFragmentRoot fSourceFolder;
+	private IType fTypeA;
+
+	@Before
+	public void setUp() throws Exception {
+		fJavaProject= pts.getProject();
+		fDirectory= Files.createTempDirectory("TypeHierarchySnapshotStoreTest").toFile();
+		fStore= new TypeHierarchySnapshotStore(fDirectory);
+
+		fSourceFolder= JavaProjectHelper.addSourceContainer(fJavaProject, "src");
+		IPackageFragment pack= fSourceFolder.createPackageFragment("pack", true, null);
+		ICompilationUnit cuA= pack.getCompilationUnit("A.java");
+		fTypeA= cuA.createType("public class A {\n}\n", null, true, null);
+		ICompilationUnit cuB= pack.getCompilationUnit("B.java");
+		cuB.createType("public class B extends A {\n}\n", null, true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.clear(fJavaProject, pts.getDefaultClasspath());
+		for (File file : getSnapshotFiles()) {
+			file.delete();
+		}
+		fDirectory.delete();
+	}
+
+	private File[] getSnapshotFiles() {
+		File[] files= fDirectory.listFiles();
+		return files != null ? files : new File[0];
+	}
+
+	private static Set<IType> getAllTypes(ITypeHierarchy hierarchy) {
+		return new HashSet<>(Arrays.asList(hierarchy.getAllTypes()));
+	}
+
+	@Test
+	public void roundTrip() throws Exception {
+		ITypeHierarchy hierarchy= fTypeA.newTypeHierarchy(null);
+		fStore.store(hierarchy, null);
+		assertEquals(1, getSnapshotFiles().length);
+
+		ITypeHierarchy snapshot= fStore.load(fTypeA, null);
+		assertNotNull(snapshot);
+		assertEquals(fTypeA, snapshot.getType());
+		assertEquals(getAllTypes(hierarchy), getAllTypes(snapshot));
+		assertArrayEquals(hierarchy.getSubtypes(fTypeA), snapshot.getSubtypes(fTypeA));
+	}
+
+	@Test
+	public void staleSourceFolderStamp() throws Exception {
+		fStore.store(fTypeA.newTypeHierarchy(null), null);
+		assertEquals(1, getSnapshotFiles().length);
+
+		fSourceFolder.getResource().touch(null);
+
+		assertNull(fStore.load(fTypeA, null));
+		assertEquals("stale snapshot not deleted", 0, getSnapshotFiles().length);
+	}
+
+	@Test
+	public void corruptFile() throws Exception {
+		fStore.store(fTypeA.newTypeHierarchy(null), null);
+		File[] files= getSnapshotFiles();
+		assertEquals(1, files.length);
+
+		Files.write(files[0].toPath(), new byte[] { 1, 2, 3, 4, 5 });
+
+		assertNull(fStore.load(fTypeA, null));
+		assertFalse("corrupt snapshot not deleted", files[0].exists());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,11 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.Before;
@@ -28,6 +32,7 @@ import org.eclipse.jface.text.IDocument;
 import org.eclipse.ui.IEditorPart;
 
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
@@ -36,12 +41,18 @@ import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
 
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 import org.eclipse.jdt.ui.tests.util.TestUtils;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.typehierarchy.HierarchyLabelProvider;
+import org.eclipse.jdt.internal.ui.typehierarchy.SubTypeHierarchyViewer.SubTypeHierarchyContentProvider;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyContentProvider.MoreTypesNode;
+import org.eclipse.jdt.internal.ui.typehierarchy.TypeHierarchyLifeCycle;
 
 public class TypeHierarchyTest {
 	@Rule
@@ -270,4 +281,74 @@ public class TypeHierarchyTest {
 		assertEquals("Should contain 3 types, contains: " + allTypes.length, 3, allTypes.length);
 		assertEquals("Update count should be 1, is: " + updateCount[0], 1, updateCount[0]);
 	}
+
+	@Test
+	public void superTypeHierarchyCache() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu1= pack1.getCompilationUnit("A.java");
+		IType type1= cu1.createType("public class A {\n}\n", null, true, null);
+
+		ICompilationUnit cu2= pack1.getCompilationUnit("B.java");
+		IType type2= cu2.createType("public class B extends A {\n}\n", null, true, null);
+
+		ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(type2);
+		assertTrue("Focus type should be cached", SuperTypeHierarchyCache.hasInCache(type2));
+		assertTrue("Supertype should be cached", SuperTypeHierarchyCache.hasInCache(type1));
+
+		// the hierarchy of a supertype is served from the hierarchy of the subtype
+		assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(type1));
+
+		MethodOverrideTester tester= SuperTypeHierarchyCache.getMethodOverrideTester(type2);
+		assertSame(hierarchy, tester.getTypeHierarchy());
+		assertSame(tester, SuperTypeHierarchyCache.getMethodOverrideTester(type2));
+
+		cu2.getBuffer().setContents("package pack1;\npublic class B {\n}\n");
+		cu2.save(null, true);
+
+		// the changed hierarchy has been evicted together with its override testers
+		assertFalse("Changed hierarchy should be evicted", SuperTypeHierarchyCache.hasInCache(type1));
+		assertNotSame(tester, SuperTypeHierarchyCache.getMethodOverrideTester(type2));
+	}
+
+	@Test
+	public void pagedTypeChildrenLabels() throws Exception {
+		IPackageFragmentRoot root1= JavaProjectHelper.addSourceContainer(fJavaProject1, "src");
+		IPackageFragment pack1= root1.createPackageFragment("pack1", true, null);
+
+		ICompilationUnit cu= pack1.getCompilationUnit("A.java");
+		IType type= cu.createType("public class A {\n}\n", null, true, null);
+		for (int i= 0; i < 5; i++) {
+			pack1.getCompilationUnit("B" + i + ".java").createType("public class B" + i + " extends A {\n}\n", null, true, null);
+		}
+
+		TypeHierarchyLifeCycle lifeCycle= new TypeHierarchyLifeCycle(false);
+		lifeCycle.doHierarchyRefresh(new IJavaElement[] { type }, null);
+		SubTypeHierarchyContentProvider contentProvider= new SubTypeHierarchyContentProvider(lifeCycle);
+		contentProvider.setPageSize(3);
+		HierarchyLabelProvider labelProvider= new HierarchyLabelProvider(lifeCycle);
+		labelProvider.setPagingContentProvider(contentProvider);
+		try {
+			Object[] children= contentProvider.getChildren(type);
+			assertEquals(4, children.length);
+			assertTrue(children[3] instanceof MoreTypesNode);
+			MoreTypesNode more= (MoreTypesNode) children[3];
+			assertEquals(type, more.getParent());
+			assertEquals(2, more.getRemaining());
+			assertEquals("2 more types...", labelProvider.getText(more));
+
+			assertEquals(5, contentProvider.getPagedTypeChildCount(type));
+			assertTrue(labelProvider.getText(type), labelProvider.getText(type).endsWith(" (5)"));
+			assertEquals(-1, contentProvider.getPagedTypeChildCount((IType) children[0]));
+			assertFalse(labelProvider.getText(children[0]), labelProvider.getText(children[0]).endsWith(")"));
+
+			contentProvider.showMoreTypes(more);
+			assertEquals(5, contentProvider.getChildren(type).length);
+		} finally {
+			labelProvider.dispose();
+			contentProvider.dispose();
+			lifeCycle.freeHierarchy();
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -22,6 +23,7 @@ import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.After;
@@ -33,8 +35,11 @@ import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.testplugin.JavaTestPlugin;
 import org.eclipse.jdt.testplugin.StringAsserts;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
@@ -49,10 +54,14 @@ import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.TypeNameMatch;
 import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
+import org.eclipse.jdt.internal.ui.util.PatternMatcher;
+
 public class TypeInfoTest {
 	@Rule
 	public ProjectTestSetup pts= new ProjectTestSetup();
@@ -224,6 +233,132 @@ public class TypeInfoTest {
 		assertNotEquals(type1, type2);
 	}
 
+	@Test
+	public void testTypeNameIndex() throws Exception {
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= root.createPackageFragment("pack", true, null);
+		ICompilationUnit cu= pack.createCompilationUnit("XyzzyOuter.java", """
+			package pack;
+			public class XyzzyOuter {
+				public interface XyzzyInner {}
+			}
+			class XyzzySecondary {}
+			""", true, null);
+
+		TypeNameIndex index= TypeNameIndex.getInstance();
+		index.getTable();
+		Job.getJobManager().join(TypeNameIndex.FAMILY, null);
+		TypeNameIndex.Table table= index.getTable();
+		assertNotNull(table);
+
+		IJavaSearchScope scope= SearchEngine.createWorkspaceScope();
+		int[] rows= table.match(new TypeInfoFilter("Xyzzy", scope, IJavaSearchConstants.TYPE, null), null, null);
+		assertEquals(3, rows.length);
+		int[] refined= table.match(new TypeInfoFilter("XyzzyI", scope, IJavaSearchConstants.TYPE, null), rows, null);
+		assertEquals(1, refined.length);
+		TypeNameMatch inner= table.createMatch(refined[0]);
+		assertEquals("pack.XyzzyOuter.XyzzyInner", inner.getFullyQualifiedName());
+		assertTrue(inner.getType().exists());
+
+		refined= table.match(new TypeInfoFilter("XyzzyS", scope, IJavaSearchConstants.TYPE, null), rows, null);
+		assertEquals(1, refined.length);
+		IType secondary= table.createMatch(refined[0]).getType();
+		assertTrue(secondary.exists());
+		assertEquals(cu, secondary.getCompilationUnit());
+
+		assertEquals(1, table.match(new TypeInfoFilter("Xyzzy", scope, IJavaSearchConstants.INTERFACE, null), null, null).length);
+		assertEquals(1, table.match(new TypeInfoFilter("pack.XyzzyOuter.X", scope, IJavaSearchConstants.TYPE, null), null, null).length);
+
+		// the index is updated from the deltas
+		pack.createCompilationUnit("XyzzyAdded.java", """
+			package pack;
+			public class XyzzyAdded {}
+			""", true, null);
+		table= index.getTable();
+		assertNotNull(table);
+		assertEquals(4, table.match(new TypeInfoFilter("Xyzzy", scope, IJavaSearchConstants.TYPE, null), null, null).length);
+
+		// unsaved primary working copies are indexed when they are reconciled
+		cu.becomeWorkingCopy(null);
+		try {
+			cu.getBuffer().setContents("""
+				package pack;
+				public class XyzzyOuter {
+					public interface XyzzyInner {}
+				}
+				class XyzzySecondary {}
+				class XyzzyUnsaved {}
+				""");
+			cu.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			table= index.getTable();
+			assertNotNull(table);
+			assertEquals(5, table.match(new TypeInfoFilter("Xyzzy", scope, IJavaSearchConstants.TYPE, null), null, null).length);
+		} finally {
+			cu.discardWorkingCopy();
+		}
+
+		cu.delete(true, null);
+		table= index.getTable();
+		assertNotNull(table);
+		rows= table.match(new TypeInfoFilter("Xyzzy", scope, IJavaSearchConstants.TYPE, null), null, null);
+		assertEquals(1, rows.length);
+		assertEquals("pack.XyzzyAdded", table.createMatch(rows[0]).getFullyQualifiedName());
+
+		// removing a package does not discard the index
+		pack.delete(true, null);
+		table= index.getTable();
+		assertNotNull(table);
+		assertEquals(0, table.match(new TypeInfoFilter("Xyzzy", scope, IJavaSearchConstants.TYPE, null), null, null).length);
+	}
+
+	@Test
+	public void testHistoryConsistencyCheck() throws Exception {
+		IPackageFragmentRoot root= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack= root.createPackageFragment("pack", true, null);
+		ICompilationUnit cu1= pack.createCompilationUnit("HistoryKept.java", "package pack;\npublic class HistoryKept {}\n", true, null);
+		ICompilationUnit cu2= pack.createCompilationUnit("HistoryDeleted.java", "package pack;\npublic class HistoryDeleted {}\n", true, null);
+		TypeNameMatch kept= SearchEngine.createTypeNameMatch(cu1.getType("HistoryKept"), Flags.AccPublic);
+		TypeNameMatch deleted= SearchEngine.createTypeNameMatch(cu2.getType("HistoryDeleted"), Flags.AccPublic);
+
+		OpenTypeHistory history= OpenTypeHistory.getInstance();
+		history.accessed(kept);
+		history.accessed(deleted);
+		try {
+			TypeNameMatch[] types= history.getTypeInfos();
+			assertEquals(deleted, types[0]);
+			assertEquals(kept, types[1]);
+
+			cu2.delete(true, null);
+			history.checkConsistency(new NullProgressMonitor());
+			List<TypeNameMatch> remaining= Arrays.asList(history.getTypeInfos());
+			assertTrue(remaining.contains(kept));
+			assertFalse(remaining.contains(deleted));
+		} finally {
+			history.remove(kept);
+			history.remove(deleted);
+		}
+	}
+
+	@Test
+	public void testPackedNameMatching() {
+		String[] names= { "NullPointerException", "NPE", "Npe", "nullPointerException", "HashMap", "HashMap2", "IHashMapProvider",
+				"Hashtable", "CCE", "ClassCastException", "Ünicode", "A*B", "Outer", "X" };
+		String[] patterns= { "NPE", "NuPoEx", "NPE<", "npe", "npe ", "HM", "HMap", "HM<", "Hash*", "*map?", "IHMP", "hash", "Ü", "A\\*B",
+				"Cla*Exc*", "X ", "*" };
+		for (String pattern : patterns) {
+			TypeInfoFilter filter= new TypeInfoFilter(pattern, SearchEngine.createWorkspaceScope(), IJavaSearchConstants.TYPE, null);
+			for (String name : names) {
+				char[] chars= ("." + name + ".").toCharArray();
+				long signature= PatternMatcher.getCamelCaseSignature(chars, 1, chars.length - 1);
+				assertEquals(pattern + " / " + name, filter.matchesName(name), filter.matchesName(chars, 1, chars.length - 1, signature));
+			}
+		}
+		TypeInfoFilter filter= new TypeInfoFilter("o.e.Inner.X", SearchEngine.createWorkspaceScope(), IJavaSearchConstants.TYPE, null);
+		char[] container= "org.eclipse.Inner".toCharArray();
+		assertTrue(filter.matchesPackage(container, 0, container.length));
+		assertFalse(filter.matchesPackage(container, 0, 11));
+	}
+
 	@Test
 	public void testSimplifySearchText() {
 		// simple filename:
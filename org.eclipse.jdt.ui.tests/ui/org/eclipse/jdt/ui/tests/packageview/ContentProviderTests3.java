@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,9 @@ import org.junit.jupiter.api.Test;
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
 import org.eclipse.jdt.testplugin.JavaTestPlugin;
 
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.TreeItem;
+
 import org.eclipse.core.runtime.Path;
 
 import org.eclipse.core.resources.IFile;
@@ -54,6 +57,7 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 
+import org.eclipse.jdt.internal.ui.packageview.PackageExplorerContentProvider;
 import org.eclipse.jdt.internal.ui.util.CoreUtility;
 
 
@@ -209,6 +213,98 @@ public class ContentProviderTests3{
 	}
 
 
+	@Test
+	public void testCoalesceRefreshes() throws Exception {
+		PackageExplorerContentProvider provider= (PackageExplorerContentProvider) fProvider;
+		long merged= provider.getMergedUpdateCount();
+
+		IJavaElementDelta delta= TestDelta.createDelta(fPack4, IJavaElementDelta.REMOVED);
+		for (int i= 0; i < 3; i++) {
+			sendEventFromOtherThread(delta);
+		}
+		provider.runPendingUpdates();
+
+		assertTrue(fMyPart.wasObjectRefreshed(fRoot1), "Correct Refresh"); //$NON-NLS-1$
+		assertEquals(1, fMyPart.getRefreshedObject().size(), "Single refresh"); //$NON-NLS-1$
+		assertEquals(merged + 2, provider.getMergedUpdateCount(), "Merged refreshes"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCoalesceChildRefreshes() throws Exception {
+		PackageExplorerContentProvider provider= (PackageExplorerContentProvider) fProvider;
+		Object parent= fProvider.getParent(fPack6);
+		assertFalse(fRoot1.equals(parent), "Parent below root"); //$NON-NLS-1$
+		TreeItem rootItem= createItem(null, fRoot1);
+		fMyPart.setItems(parent, createItem(rootItem, parent));
+		long merged= provider.getMergedUpdateCount();
+
+		// the refresh of the parent of fPack6 is covered by the refresh of fRoot1
+		sendEventFromOtherThread(TestDelta.createCUDelta(new ICompilationUnit[] { fCU2, fCU3 }, fPack6, IJavaElementDelta.REMOVED));
+		sendEventFromOtherThread(TestDelta.createDelta(fPack4, IJavaElementDelta.REMOVED));
+		provider.runPendingUpdates();
+
+		assertTrue(fMyPart.wasObjectRefreshed(fRoot1), "Correct Refresh"); //$NON-NLS-1$
+		assertEquals(1, fMyPart.getRefreshedObject().size(), "Single refresh"); //$NON-NLS-1$
+		assertEquals(merged + 1, provider.getMergedUpdateCount(), "Merged refreshes"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCoalesceIconUpdates() throws Exception {
+		PackageExplorerContentProvider provider= (PackageExplorerContentProvider) fProvider;
+		TreeItem rootItem= createItem(null, fRoot1);
+		fMyPart.setItems(fPack6, createItem(rootItem, fPack6));
+		long merged= provider.getMergedUpdateCount();
+
+		// the icon update of fPack6 is covered by the refresh of fRoot1, which updates the labels
+		sendEventFromOtherThread(TestDelta.createCUDelta(new ICompilationUnit[] { fCU2 }, fPack6, IJavaElementDelta.REMOVED));
+		sendEventFromOtherThread(TestDelta.createDelta(fPack4, IJavaElementDelta.REMOVED));
+		provider.runPendingUpdates();
+
+		assertTrue(fMyPart.getRemovedObjects().contains(fCU2), "Correct remove"); //$NON-NLS-1$
+		assertEquals(0, fMyPart.getUpdatedObjects().size(), "No icon update"); //$NON-NLS-1$
+		assertTrue(fMyPart.wasObjectRefreshed(fRoot1), "Correct Refresh"); //$NON-NLS-1$
+		assertEquals(1, fMyPart.getRefreshedObject().size(), "Single refresh"); //$NON-NLS-1$
+		assertEquals(merged + 1, provider.getMergedUpdateCount(), "Merged updates"); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testCoalesceElementsInSeveralPlaces() throws Exception {
+		PackageExplorerContentProvider provider= (PackageExplorerContentProvider) fProvider;
+		Object parent= fProvider.getParent(fPack6);
+		assertFalse(fRoot1.equals(parent), "Parent below root"); //$NON-NLS-1$
+		TreeItem rootItem= createItem(null, fRoot1);
+		TreeItem otherItem= createItem(null, fJProject1);
+		fMyPart.setItems(parent, createItem(rootItem, parent), createItem(otherItem, parent));
+		fMyPart.setItems(fPack6, createItem(rootItem, fPack6), createItem(otherItem, fPack6));
+		long merged= provider.getMergedUpdateCount();
+
+		// the elements are also shown below an item that is not refreshed
+		sendEventFromOtherThread(TestDelta.createCUDelta(new ICompilationUnit[] { fCU2, fCU3 }, fPack6, IJavaElementDelta.REMOVED));
+		sendEventFromOtherThread(TestDelta.createCUDelta(new ICompilationUnit[] { fCU2 }, fPack6, IJavaElementDelta.REMOVED));
+		sendEventFromOtherThread(TestDelta.createDelta(fPack4, IJavaElementDelta.REMOVED));
+		provider.runPendingUpdates();
+
+		assertTrue(fMyPart.wasObjectRefreshed(fRoot1), "Correct Refresh"); //$NON-NLS-1$
+		assertTrue(fMyPart.wasObjectRefreshed(parent), "Correct Refresh"); //$NON-NLS-1$
+		assertEquals(2, fMyPart.getRefreshedObject().size(), "Two refreshes"); //$NON-NLS-1$
+		assertTrue(fMyPart.getUpdatedObjects().contains(fPack6), "Icon update"); //$NON-NLS-1$
+		assertEquals(merged, provider.getMergedUpdateCount(), "No merged updates"); //$NON-NLS-1$
+	}
+
+	private void sendEventFromOtherThread(IJavaElementDelta delta) throws InterruptedException {
+		// deltas from other threads are queued until the pending updates run
+		IElementChangedListener listener= (IElementChangedListener) fProvider;
+		Thread thread= new Thread(() -> listener.elementChanged(new ElementChangedEvent(delta, ElementChangedEvent.POST_CHANGE)));
+		thread.start();
+		thread.join();
+	}
+
+	private TreeItem createItem(TreeItem parentItem, Object element) {
+		TreeItem item= parentItem != null ? new TreeItem(parentItem, SWT.NONE) : new TreeItem(fMyPart.getTreeViewer().getTree(), SWT.NONE);
+		item.setData(element);
+		return item;
+	}
+
 	protected void sendEvent(IJavaElementDelta delta) {
 		IElementChangedListener listener= (IElementChangedListener) fProvider;
 		listener.elementChanged(new ElementChangedEvent(delta, ElementChangedEvent.POST_CHANGE));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@
 package org.eclipse.jdt.ui.tests.packageview;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.Composite;
@@ -47,6 +49,8 @@ public class MockPluginView extends PackageExplorerPart {
 
 	private final List<Object> fRefreshedObjects;
 	private final List<Object> fRemovedObjects;
+	private final List<Object> fUpdatedObjects;
+	private final Map<Object, Widget[]> fItems;
 
 	private Object fAddedObject;
 	private Object fAddedParentObject;
@@ -58,6 +62,8 @@ public class MockPluginView extends PackageExplorerPart {
 		super();
 		fRefreshedObjects= new ArrayList<>();
 		fRemovedObjects= new ArrayList<>();
+		fUpdatedObjects= new ArrayList<>();
+		fItems= new HashMap<>();
 	}
 
 	/**
@@ -138,8 +144,16 @@ public class MockPluginView extends PackageExplorerPart {
 			fAddedParentObject= parentObject;
 		}
 
+		@Override
+		public void update(Object element, String[] properties) {
+			fUpdatedObjects.add(element);
+		}
+
 		@Override
 		public Widget[] testFindItems(Object element) {
+			Widget[] items= fItems.get(element);
+			if (items != null)
+				return items;
 			return new Widget[1]; // for https://bugs.eclipse.org/311212
 		}
 	}
@@ -189,6 +203,24 @@ public class MockPluginView extends PackageExplorerPart {
 		return fRemovedObjects;
 	}
 
+	/**
+	 * Returns the objects updated in the viewer
+	 * @return List
+	 */
+	public List<Object> getUpdatedObjects() {
+		return fUpdatedObjects;
+	}
+
+	/**
+	 * Sets the items that the viewer reports for the given element.
+	 *
+	 * @param element the element
+	 * @param items the items showing the element
+	 */
+	public void setItems(Object element, Widget... items) {
+		fItems.put(element, items);
+	}
+
 	/**
 	 * Returns the object added to the viewer
 	 * @return Object
@@ -217,6 +249,8 @@ public class MockPluginView extends PackageExplorerPart {
 	public void clear() {
 		fRefreshedObjects.clear();
 		fRemovedObjects.clear();
+		fUpdatedObjects.clear();
+		fItems.clear();
 		fAddHappened= false;
 		fRemoveHappened= false;
 		fRefreshHappened= false;
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.packageview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityCache;
+
+/**
+ * Tests for {@link ProblemSeverityCache}.
+ */
+public class ProblemSeverityCacheTest {
+
+	private IJavaProject testProject;
+
+	private IPackageFragmentRoot src;
+
+	@BeforeEach
+	public void setUp() throws Exception {
+		testProject= JavaProjectHelper.createJavaProject(getClass().getSimpleName(), "bin");
+		src= JavaProjectHelper.addSourceContainer(testProject, "src");
+	}
+
+	@AfterEach
+	public void tearDown() throws Exception {
+		testProject.getProject().delete(true, false, new NullProgressMonitor());
+	}
+
+	@Test
+	public void testRollup() throws Exception {
+		IPackageFragment packageA= src.createPackageFragment("a", true, null);
+		IPackageFragment packageAB= src.createPackageFragment("a.b", true, null);
+		ICompilationUnit cuA= packageA.createCompilationUnit("A.java", "package a;\npublic class A {\n}\n", true, null);
+		ICompilationUnit cuAB= packageAB.createCompilationUnit("B.java", "package a.b;\npublic class B {\n}\n", true, null);
+		IFolder folder= ((IFolder) packageA.getResource()).getFolder("resources");
+		folder.create(true, true, null);
+
+		createMarker(cuA.getResource(), IMarker.SEVERITY_WARNING);
+		createMarker(cuAB.getResource(), IMarker.SEVERITY_ERROR);
+		createMarker(folder, IMarker.SEVERITY_INFO);
+
+		ProblemSeverityCache cache= new ProblemSeverityCache();
+		IProject project= testProject.getProject();
+		assertEquals(IMarker.SEVERITY_WARNING, cache.getMaxProblemSeverity(cuA.getResource()));
+		assertEquals(IMarker.SEVERITY_ERROR, cache.getMaxProblemSeverity(packageA.getResource()));
+		assertEquals(IMarker.SEVERITY_ERROR, cache.getMaxProblemSeverity(project));
+		assertEquals(IMarker.SEVERITY_INFO, cache.getMaxProblemSeverity(folder));
+		assertEquals(-1, cache.getMaxProblemSeverity(folder.getFile("none.txt")));
+
+		// markers in sub folders do not count for the files of a package
+		assertEquals(IMarker.SEVERITY_WARNING, cache.getMaxFileProblemSeverity((IContainer) packageA.getResource()));
+		assertEquals(IMarker.SEVERITY_ERROR, cache.getMaxFileProblemSeverity((IContainer) packageAB.getResource()));
+		assertEquals(-1, cache.getMaxFileProblemSeverity((IContainer) src.getResource()));
+
+		for (IResource resource : new IResource[] { project, src.getResource(), packageA.getResource(), packageAB.getResource(), folder }) {
+			assertEquals(resource.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE), cache.getMaxProblemSeverity(resource), resource.toString());
+		}
+
+		// the cache keeps the severities until the project is invalidated
+		createMarker(src.getResource(), IMarker.SEVERITY_ERROR);
+		assertEquals(-1, cache.getMaxFileProblemSeverity((IContainer) src.getResource()));
+		cache.invalidate(project);
+		assertEquals(IMarker.SEVERITY_ERROR, cache.getMaxFileProblemSeverity((IContainer) src.getResource()));
+	}
+
+	private static void createMarker(IResource resource, int severity) throws Exception {
+		IMarker marker= resource.createMarker(IMarker.PROBLEM);
+		marker.setAttribute(IMarker.SEVERITY, severity);
+	}
+}
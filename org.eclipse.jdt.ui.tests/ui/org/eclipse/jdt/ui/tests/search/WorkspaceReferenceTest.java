@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,27 @@
 package org.eclipse.jdt.ui.tests.search;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
+
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+
+import org.eclipse.jdt.ui.search.ElementQuerySpecification;
 import org.eclipse.jdt.ui.tests.core.rules.JUnitSourceSetup;
 
+import org.eclipse.jdt.internal.ui.search.JavaSearchQuery;
+import org.eclipse.jdt.internal.ui.search.JavaSearchResult;
+import org.eclipse.jdt.internal.ui.search.JavaSearchScopeFactory;
+
 public class WorkspaceReferenceTest {
 
 	@Rule
@@ -34,4 +49,30 @@ public class WorkspaceReferenceTest {
 	public void testFindOverridden() throws Exception {
 		assertEquals(6, SearchTestHelper.countMethodRefs("junit.framework.TestCase", "countTestCases", new String[0]));
 	}
+
+	@Test
+	public void testMatchesAddedInBatches() throws Exception {
+		JavaSearchQuery query= new JavaSearchQuery(new ElementQuerySpecification(SearchTestHelper.getMethod("junit.framework.Test", "countTestCases", new String[0]),
+				IJavaSearchConstants.REFERENCES, JavaSearchScopeFactory.getInstance().createWorkspaceScope(true), "workspace scope"));
+		AtomicInteger addEvents= new AtomicInteger();
+		query.getSearchResult().addListener(event -> {
+			if (event instanceof MatchEvent && ((MatchEvent) event).getKind() == MatchEvent.ADDED) {
+				addEvents.incrementAndGet();
+			}
+		});
+		NewSearchUI.runQueryInForeground(null, query);
+		assertEquals(9, ((JavaSearchResult) query.getSearchResult()).getMatchCount());
+		assertTrue(addEvents.get() < 9);
+	}
+
+	@Test
+	public void testMatchesShareElements() throws Exception {
+		JavaSearchResult result= (JavaSearchResult) SearchTestHelper.runTypeRefQuery("junit.framework.TestCase").getSearchResult();
+		assertTrue(result.getMatchCount() > 0);
+		for (Object element : result.getElements()) {
+			for (Match match : result.getMatches(element)) {
+				assertSame(element, match.getElement());
+			}
+		}
+	}
 }
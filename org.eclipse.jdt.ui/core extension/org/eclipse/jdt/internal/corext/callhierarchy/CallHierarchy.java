@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,8 @@ import static org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PR
 import java.util.Collection;
 import java.util.List;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import org.eclipse.jdt.core.IJavaElement;
@@ -114,6 +116,26 @@ public class CallHierarchy {
         fgCallHierarchyCore.setSearchScope(searchScope);
     }
 
+    /**
+     * Removes all callers from the caller cache shared by all call hierarchies.
+     *
+     * @see CallHierarchyCore#clearCallerCache()
+     */
+    public void clearCallerCache() {
+        fgCallHierarchyCore.clearCallerCache();
+    }
+
+    /**
+     * Searches the callers of the given method wrappers concurrently and caches them.
+     *
+     * @param wrappers the method wrappers
+     * @param monitor the progress monitor, can be <code>null</code>
+     * @see CallHierarchyCore#prefetchCallers(MethodWrapper[], IProgressMonitor)
+     */
+    public void prefetchCallers(MethodWrapper[] wrappers, IProgressMonitor monitor) {
+        fgCallHierarchyCore.prefetchCallers(wrappers, monitor);
+    }
+
     /**
      * Checks whether the fully qualified name is ignored by the set filters.
      *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,42 +13,49 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Hashtable;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactoryConfigurationError;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
 
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
+import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
 import org.eclipse.jdt.internal.corext.CorextMessages;
@@ -63,7 +70,16 @@ import org.eclipse.jdt.internal.ui.util.XmlProcessorFactoryJdtUi;
  * MAX_HISTORY_SIZE. If the list exceeds this size the eldest element is removed
  * from the list. An element can be added/renewed with a call to <code>accessed(Object)</code>.
  *
- * The history can be stored to/loaded from an xml file.
+ * The history is stored in a binary log in the state location of the plug-in. Every record of
+ * the log holds the attributes of one accessed or removed object, see
+ * {@link #setAttributes(Object, Element)}. {@link #save()} appends the records of the changes
+ * since the last save, and rewrites the whole log when it has grown to several times the size of
+ * the history. Histories written by older versions are read from the xml file
+ * <code>fileName</code>, and saved to the log from then on.
+ * <p>
+ * Subclasses can call {@link #loadInBackground()} instead of {@link #load()}. All methods then
+ * wait for the history to be loaded.
+ * </p>
  *
  * @param <K> key type
  * @param <V> value type
@@ -74,6 +90,15 @@ public abstract class History<K, V> {
 	private static final String DEFAULT_INFO_NODE_NAME= "infoNode"; //$NON-NLS-1$
 	private static final int MAX_HISTORY_SIZE= 60;
 
+	private static final String LOG_FILE_EXTENSION= ".dat"; //$NON-NLS-1$
+	private static final int LOG_MAGIC= 0x4A484C47;
+	private static final int LOG_VERSION= 1;
+	private static final byte RECORD_ACCESSED= 1;
+	private static final byte RECORD_REMOVED= 2;
+	private static final int MAX_RECORD_LENGTH= 1 << 20;
+	// the log is rewritten when it has more records than this
+	private static final int MAX_LOG_RECORDS= 4 * MAX_HISTORY_SIZE;
+
 	private static JavaUIException createException(Throwable t, String message) {
 		return new JavaUIException(JavaUIStatus.createError(IStatus.ERROR, message, t));
 	}
@@ -84,12 +109,26 @@ public abstract class History<K, V> {
 	private final String fRootNodeName;
 	private final String fInfoNodeName;
 
+	private volatile boolean fLoadPending;
+	private boolean fLoadRunning;
+	private boolean fLoading;
+	// the changes since the last save, in order
+	private final List<V> fPendingObjects= new ArrayList<>();
+	private final List<Byte> fPendingKinds= new ArrayList<>();
+	private int fLogRecordCount;
+	private boolean fNeedsCompaction;
+	private Document fAttributeDocument;
+
 	public History(String fileName, String rootNodeName, String infoNodeName) {
 		fHistory= new LinkedHashMap<>(80, 0.75f, true) {
 			private static final long serialVersionUID= 1L;
 			@Override
 			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-				return size() > MAX_HISTORY_SIZE;
+				if (size() > MAX_HISTORY_SIZE) {
+					record(RECORD_REMOVED, eldest.getValue());
+					return true;
+				}
+				return false;
 			}
 		};
 		fFileName= fileName;
@@ -103,30 +142,43 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void accessed(V object) {
+		ensureLoaded();
 		fHistory.put(getKey(object), object);
+		record(RECORD_ACCESSED, object);
 		rebuildPositions();
 	}
 
 	public synchronized boolean contains(V object) {
+		ensureLoaded();
 		return fHistory.containsKey(getKey(object));
 	}
 
 	public synchronized boolean containsKey(K key) {
+		ensureLoaded();
 		return fHistory.containsKey(key);
 	}
 
 	public synchronized boolean isEmpty() {
+		ensureLoaded();
 		return fHistory.isEmpty();
 	}
 
 	public synchronized Object remove(V object) {
-		Object removed= fHistory.remove(getKey(object));
+		ensureLoaded();
+		V removed= fHistory.remove(getKey(object));
+		if (removed != null) {
+			record(RECORD_REMOVED, removed);
+		}
 		rebuildPositions();
 		return removed;
 	}
 
 	public synchronized Object removeKey(Object key) {
-		Object removed= fHistory.remove(key);
+		ensureLoaded();
+		V removed= fHistory.remove(key);
+		if (removed != null) {
+			record(RECORD_REMOVED, removed);
+		}
 		rebuildPositions();
 		return removed;
 	}
@@ -141,6 +193,7 @@ public abstract class History<K, V> {
 	 * @return value in [0.0, 1.0] the lower the older the element
 	 */
 	public synchronized float getNormalizedPosition(K key) {
+		ensureLoaded();
 		if (!containsKey(key))
 			return 0.0f;
 
@@ -159,6 +212,7 @@ public abstract class History<K, V> {
 	 * @return value between 0 and MAX_HISTORY_SIZE - 1, or -1
 	 */
 	public synchronized int getPosition(K key) {
+		ensureLoaded();
 		if (!containsKey(key))
 			return -1;
 
@@ -166,8 +220,21 @@ public abstract class History<K, V> {
 	}
 
 	public synchronized void load() {
-		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
-		File file= stateLocation.toFile();
+		File logFile= getStateFile(getLogFileName());
+		if (logFile.exists()) {
+			try {
+				if (readLog(logFile)) {
+					rebuildPositions();
+					return;
+				}
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+				fHistory.clear();
+			}
+		}
+		// migrate the xml file of older versions, the next save rewrites the log
+		fNeedsCompaction= true;
+		File file= getStateFile(fFileName);
 		if (file.exists()) {
 			try (InputStreamReader reader= new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
 				load(new InputSource(reader));
@@ -177,23 +244,69 @@ public abstract class History<K, V> {
 		}
 	}
 
+	/**
+	 * Loads the history in a background job. Until the job has finished, the methods of the
+	 * history load it in the calling thread.
+	 */
+	protected void loadInBackground() {
+		fLoadPending= true;
+		Job job= Job.create(CorextMessages.History_load, monitor -> {
+			ensureLoaded();
+			return Status.OK_STATUS;
+		});
+		job.setSystem(true);
+		job.setPriority(Job.SHORT);
+		job.schedule();
+	}
+
+	/**
+	 * Loads the history if {@link #loadInBackground()} has been called and the history has not
+	 * been loaded yet. The pending flag is only cleared when {@link #load()}, including the part
+	 * of subclasses, has finished, so callers that do not lock the history wait for the load.
+	 */
+	protected final void ensureLoaded() {
+		if (fLoadPending) {
+			synchronized (this) {
+				// load() calls methods that ensure the history is loaded
+				if (fLoadPending && !fLoadRunning) {
+					fLoadRunning= true;
+					try {
+						load();
+					} finally {
+						fLoadRunning= false;
+						fLoadPending= false;
+					}
+				}
+			}
+		}
+	}
+
 	public synchronized void save() {
-		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fFileName);
-		File file= stateLocation.toFile();
-		try (OutputStream out= new FileOutputStream(file)) {
-			save(out);
-		} catch (IOException | CoreException | TransformerFactoryConfigurationError e) {
-			// The XML library can be misconficgured (e.g. via
-			// -Djava.endorsed.dirs=C:\notExisting\xerces-2_7_1)
+		ensureLoaded();
+		File logFile= getStateFile(getLogFileName());
+		try {
+			if (fNeedsCompaction || !logFile.exists() || fLogRecordCount + fPendingObjects.size() > MAX_LOG_RECORDS) {
+				writeLog(logFile);
+				fLogRecordCount= fHistory.size();
+				fNeedsCompaction= false;
+			} else if (!fPendingObjects.isEmpty()) {
+				appendLog(logFile);
+				fLogRecordCount+= fPendingObjects.size();
+			}
+			fPendingObjects.clear();
+			fPendingKinds.clear();
+		} catch (CoreException e) {
 			JavaPlugin.log(e);
 		}
 	}
 
 	protected Set<K> getKeys() {
+		ensureLoaded();
 		return fHistory.keySet();
 	}
 
 	protected Collection<V> getValues() {
+		ensureLoaded();
 		return fHistory.values();
 	}
 
@@ -261,34 +374,163 @@ public abstract class History<K, V> {
 		rebuildPositions();
 	}
 
-	private void save(OutputStream stream) throws CoreException {
+	private File getStateFile(String fileName) {
+		IPath stateLocation= JavaPlugin.getDefault().getStateLocation().append(fileName);
+		return stateLocation.toFile();
+	}
+
+	private String getLogFileName() {
+		int index= fFileName.lastIndexOf('.');
+		return (index == -1 ? fFileName : fFileName.substring(0, index)) + LOG_FILE_EXTENSION;
+	}
+
+	/**
+	 * Notifies the history that attributes set by {@link #setAttributes(Object, Element)} have
+	 * changed for an object in the history. Since a new record would also move the object to the
+	 * front of the history when the log is read, the next {@link #save()} rewrites the whole log.
+	 */
+	protected final void attributesChanged() {
+		if (fLoading)
+			return;
+		fPendingObjects.clear();
+		fPendingKinds.clear();
+		fNeedsCompaction= true;
+	}
+
+	private void record(byte kind, V object) {
+		if (fLoading || fNeedsCompaction)
+			return;
+		if (fPendingObjects.size() >= MAX_LOG_RECORDS) {
+			// rewriting the log is cheaper than appending all changes
+			fPendingObjects.clear();
+			fPendingKinds.clear();
+			fNeedsCompaction= true;
+			return;
+		}
+		fPendingObjects.add(object);
+		fPendingKinds.add(Byte.valueOf(kind));
+	}
+
+	/**
+	 * Replays the records of the log.
+	 *
+	 * @param file the log file
+	 * @return <code>false</code> if the log has been written in an unknown format
+	 * @throws CoreException if the log cannot be read
+	 */
+	private boolean readLog(File file) throws CoreException {
+		fLoading= true;
+		int records= 0;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != LOG_MAGIC || in.readInt() != LOG_VERSION)
+				return false;
+			int kind;
+			while ((kind= in.read()) != -1) {
+				int length= in.readInt();
+				if (length < 0 || length > MAX_RECORD_LENGTH)
+					throw new IOException("Invalid record length " + length); //$NON-NLS-1$
+				byte[] data= new byte[length];
+				in.readFully(data);
+				records++;
+				V object= readObject(new DataInputStream(new ByteArrayInputStream(data)));
+				if (object == null)
+					continue;
+				if (kind == RECORD_ACCESSED) {
+					fHistory.put(getKey(object), object);
+				} else if (kind == RECORD_REMOVED) {
+					fHistory.remove(getKey(object));
+				}
+			}
+			fLogRecordCount= records;
+			return true;
+		} catch (EOFException e) {
+			// the last record has not been written completely
+			fLogRecordCount= records;
+			fNeedsCompaction= true;
+			return true;
+		} catch (IOException e) {
+			throw createException(e, Messages.format(CorextMessages.History_error_read_log, BasicElementLabels.getResourceName(file.getName())));
+		} finally {
+			fLoading= false;
+		}
+	}
+
+	private void appendLog(File file) throws CoreException {
+		try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)))) {
+			for (int i= 0; i < fPendingObjects.size(); i++) {
+				writeRecord(out, fPendingKinds.get(i).byteValue(), fPendingObjects.get(i));
+			}
+		} catch (IOException e) {
+			// a partially written record is dropped when the log is read
+			throw createException(e, Messages.format(CorextMessages.History_error_write_log, BasicElementLabels.getResourceName(file.getName())));
+		}
+	}
+
+	private void writeLog(File file) throws CoreException {
+		File tempFile= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
 		try {
-			DocumentBuilderFactory factory= XmlProcessorFactoryJdtUi.createDocumentBuilderFactoryWithErrorOnDOCTYPE();
-			DocumentBuilder builder= factory.newDocumentBuilder();
-			Document document= builder.newDocument();
-
-			Element rootElement = document.createElement(fRootNodeName);
-			document.appendChild(rootElement);
-
-			Iterator<V> values= getValues().iterator();
-			while (values.hasNext()) {
-				Object object= values.next();
-				Element element= document.createElement(fInfoNodeName);
-				setAttributes(object, element);
-				rootElement.appendChild(element);
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeInt(LOG_MAGIC);
+				out.writeInt(LOG_VERSION);
+				for (V object : fHistory.values()) {
+					writeRecord(out, RECORD_ACCESSED, object);
+				}
 			}
+			try {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			tempFile.delete();
+			throw createException(e, Messages.format(CorextMessages.History_error_write_log, BasicElementLabels.getResourceName(file.getName())));
+		}
+	}
 
-			Transformer transformer= XmlProcessorFactoryJdtUi.createTransformerFactoryWithErrorOnDOCTYPE().newTransformer();
-			transformer.setOutputProperty(OutputKeys.METHOD, "xml"); //$NON-NLS-1$
-			transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8"); //$NON-NLS-1$
-			transformer.setOutputProperty(OutputKeys.INDENT, "yes"); //$NON-NLS-1$
-			DOMSource source = new DOMSource(document);
-			StreamResult result = new StreamResult(stream);
+	private void writeRecord(DataOutputStream out, byte kind, V object) throws IOException {
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream(128);
+		try (DataOutputStream data= new DataOutputStream(bytes)) {
+			writeObject(object, data);
+		}
+		out.writeByte(kind);
+		out.writeInt(bytes.size());
+		bytes.writeTo(out);
+	}
 
-			transformer.transform(source, result);
-		} catch (TransformerException | ParserConfigurationException e) {
-			throw createException(e, Messages.format(CorextMessages.History_error_serialize, BasicElementLabels.getResourceName(fFileName)));
+	/*
+	 * Objects are written as the attributes that the subclass sets on an element.
+	 */
+	private void writeObject(V object, DataOutputStream out) throws IOException {
+		Element element= getAttributeDocument().createElement(fInfoNodeName);
+		setAttributes(object, element);
+		NamedNodeMap attributes= element.getAttributes();
+		int length= attributes.getLength();
+		out.writeShort(length);
+		for (int i= 0; i < length; i++) {
+			Attr attribute= (Attr) attributes.item(i);
+			out.writeUTF(attribute.getName());
+			out.writeUTF(attribute.getValue());
+		}
+	}
+
+	private V readObject(DataInputStream in) throws IOException {
+		Element element= getAttributeDocument().createElement(fInfoNodeName);
+		int length= in.readUnsignedShort();
+		for (int i= 0; i < length; i++) {
+			element.setAttribute(in.readUTF(), in.readUTF());
+		}
+		return createFromElement(element);
+	}
+
+	private Document getAttributeDocument() throws IOException {
+		if (fAttributeDocument == null) {
+			try {
+				fAttributeDocument= XmlProcessorFactoryJdtUi.createDocumentBuilderFactoryWithErrorOnDOCTYPE().newDocumentBuilder().newDocument();
+			} catch (ParserConfigurationException e) {
+				throw new IOException(e);
+			}
 		}
+		return fAttributeDocument;
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,6 @@
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,6 +55,13 @@ import org.eclipse.jdt.internal.corext.CorextMessages;
 
 /**
  * History for the open type dialog. Object and keys are both {@link TypeNameMatch}s.
+ * <p>
+ * Every change of the history publishes an immutable snapshot of its entries, which
+ * {@link #getTypeInfos()} and {@link #getFilteredTypeInfos(TypeInfoFilter)} read without locking.
+ * The consistency check does not lock the history while it accesses the Java model: it checks the
+ * entries in small chunks, starting with the entries whose container has changed, and publishes the
+ * result of every chunk.
+ * </p>
  */
 public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 
@@ -156,7 +162,11 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
 			OpenTypeHistory history= OpenTypeHistory.getInstance();
-			history.internalCheckConsistency(monitor);
+			try {
+				history.internalCheckConsistency(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			}
 			return Status.OK_STATUS;
 		}
 		@Override
@@ -169,6 +179,8 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private volatile boolean fNeedsConsistencyCheck;
 	// Map of cached time stamps
 	private Map<TypeNameMatch, Long> fTimestampMapping;
+	// The entries, newest first. Replaced on every change.
+	private volatile TypeNameMatch[] fSnapshot= new TypeNameMatch[0];
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
@@ -180,6 +192,8 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	private static final String NODE_MODIFIERS= "modifiers";  //$NON-NLS-1$
 	private static final String NODE_TIMESTAMP= "timestamp"; //$NON-NLS-1$
 
+	private static final int CHECK_CHUNK_SIZE= 8;
+
 	private static OpenTypeHistory fgInstance;
 
 	public static synchronized OpenTypeHistory getInstance() {
@@ -198,7 +212,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
 		fTimestampMapping= new HashMap<>();
 		fNeedsConsistencyCheck= true;
-		load();
+		loadInBackground();
 		fDeltaListener= new TypeHistoryDeltaListener();
 		JavaCore.addElementChangedListener(fDeltaListener);
 		fUpdateJob= new UpdateJob();
@@ -224,16 +238,9 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	public void checkConsistency(IProgressMonitor monitor) throws OperationCanceledException {
 		if (!fNeedsConsistencyCheck)
 			return;
-		if (fUpdateJob.getState() == Job.RUNNING) {
-			try {
-				Job.getJobManager().join(UpdateJob.FAMILY, monitor);
-			} catch (OperationCanceledException | InterruptedException e) {
-				// Ignore and do the consistency check without
-				// waiting for the update job.
-			}
-		}
-		if (!fNeedsConsistencyCheck)
-			return;
+		// Don't wait for the update job. The entries it has checked so far are
+		// already published, so only the remaining ones are checked again.
+		fUpdateJob.cancel();
 		internalCheckConsistency(monitor);
 	}
 
@@ -250,22 +257,38 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 			fTimestampMapping.put(info, getContainerTimestamp(info));
 		}
 		super.accessed(info);
+		publishSnapshot();
 	}
 
 	@Override
 	public synchronized TypeNameMatch remove(TypeNameMatch info) {
 		fTimestampMapping.remove(info);
-		return (TypeNameMatch)super.remove(info);
+		TypeNameMatch removed= (TypeNameMatch)super.remove(info);
+		publishSnapshot();
+		return removed;
+	}
+
+	@Override
+	public synchronized Object removeKey(Object key) {
+		fTimestampMapping.remove(key);
+		Object removed= super.removeKey(key);
+		publishSnapshot();
+		return removed;
 	}
 
 	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		replace(old, newMatch, getContainerTimestamp(newMatch));
+		publishSnapshot();
+	}
+
+	private void replace(TypeNameMatch old, TypeNameMatch newMatch, long timestamp) {
 		fTimestampMapping.remove(old);
-		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
+		fTimestampMapping.put(newMatch, timestamp);
 		super.remove(old);
 		super.accessed(newMatch);
 	}
 
-	public synchronized TypeNameMatch[] getTypeInfos() {
+	private void publishSnapshot() {
 		Collection<TypeNameMatch> values= getValues();
 		int size= values.size();
 		TypeNameMatch[] result= new TypeNameMatch[size];
@@ -274,18 +297,30 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 			result[i]= typeNameMatch;
 			i--;
 		}
-		return result;
+		fSnapshot= result;
+	}
+
+	public TypeNameMatch[] getTypeInfos() {
+		ensureLoaded();
+		return fSnapshot.clone();
 	}
 
-	public synchronized TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+	public TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+		ensureLoaded();
 		List<TypeNameMatch> result= new ArrayList<>();
-		for (TypeNameMatch type : getValues()) {
+		for (TypeNameMatch type : fSnapshot) {
 			if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
 				result.add(type);
 		}
-		Collections.reverse(result);
 		return result.toArray(new TypeNameMatch[result.size()]);
+	}
 
+	@Override
+	public synchronized void load() {
+		super.load();
+		// drop the time stamps read from removed entries
+		fTimestampMapping.keySet().retainAll(getKeys());
+		publishSnapshot();
 	}
 
 	@Override
@@ -293,42 +328,106 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		return object;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
 		// Setting fNeedsConsistencyCheck is necessary here since
 		// markAsInconsistent isn't synchronized.
 		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
-		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
+		TypeNameMatch[] types;
+		Long[] lastTested;
+		synchronized (this) {
+			types= getKeys().toArray(new TypeNameMatch[getKeys().size()]);
+			lastTested= new Long[types.length];
+			for (int i= 0; i < types.length; i++) {
+				lastTested[i]= fTimestampMapping.get(types[i]);
+			}
+		}
+		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, 2 * types.length);
 		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
-		for (TypeNameMatch type : typesToCheck) {
+
+		// Entries whose container changed since they were last checked come first,
+		// then the entries that have never been checked.
+		List<TypeNameMatch> typesToCheck= new ArrayList<>();
+		List<Long> timestamps= new ArrayList<>();
+		List<TypeNameMatch> uncheckedTypes= new ArrayList<>();
+		List<Long> uncheckedTimestamps= new ArrayList<>();
+		for (int i= 0; i < types.length; i++) {
+			TypeNameMatch type= types[i];
 			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
-			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
-				continue;
-			try {
-				IType jType= type.getType();
-				if (jType == null || !jType.exists()) {
-					remove(type);
-				} else {
-					// copy over the modifiers since they may have changed
-					int modifiers= jType.getFlags();
-					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
-					} else {
-						fTimestampMapping.put(type, currentTimestamp);
-					}
-				}
-			} catch (JavaModelException e) {
-				remove(type);
+			if (lastTested[i] == null) {
+				uncheckedTypes.add(type);
+				uncheckedTimestamps.add(Long.valueOf(currentTimestamp));
+			} else if (currentTimestamp == IResource.NULL_STAMP || currentTimestamp != lastTested[i].longValue() || isContainerDirty(type)) {
+				typesToCheck.add(type);
+				timestamps.add(Long.valueOf(currentTimestamp));
 			}
 			if (monitor.isCanceled())
 				throw new OperationCanceledException();
 			monitor.worked(1);
 		}
+		typesToCheck.addAll(uncheckedTypes);
+		timestamps.addAll(uncheckedTimestamps);
+		monitor.worked(types.length - typesToCheck.size());
+
+		int size= typesToCheck.size();
+		for (int start= 0; start < size; start+= CHECK_CHUNK_SIZE) {
+			int end= Math.min(size, start + CHECK_CHUNK_SIZE);
+			TypeNameMatch[] checked= new TypeNameMatch[end - start];
+			int count= 0;
+			while (count < checked.length && !monitor.isCanceled()) {
+				checked[count]= checkType(typesToCheck.get(start + count));
+				count++;
+				monitor.worked(1);
+			}
+			applyCheckedTypes(typesToCheck.subList(start, start + count), timestamps.subList(start, start + count), checked);
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+		}
 		monitor.done();
 		fNeedsConsistencyCheck= false;
 	}
 
+	/**
+	 * Checks whether a type still exists and whether its modifiers changed. Does not lock the
+	 * history.
+	 *
+	 * @param type the entry to check
+	 * @return the entry, a new entry with the current modifiers, or <code>null</code> if the type
+	 *         does not exist anymore
+	 */
+	private static TypeNameMatch checkType(TypeNameMatch type) {
+		try {
+			IType jType= type.getType();
+			if (jType == null || !jType.exists())
+				return null;
+			// copy over the modifiers since they may have changed
+			int modifiers= jType.getFlags();
+			if (modifiers != type.getModifiers())
+				return SearchEngine.createTypeNameMatch(jType, modifiers);
+			return type;
+		} catch (JavaModelException e) {
+			return null;
+		}
+	}
+
+	private synchronized void applyCheckedTypes(List<TypeNameMatch> types, List<Long> timestamps, TypeNameMatch[] checked) {
+		for (int i= 0; i < types.size(); i++) {
+			TypeNameMatch type= types.get(i);
+			if (!super.contains(type)) {
+				// removed or replaced while it was checked
+				continue;
+			}
+			if (checked[i] == null) {
+				fTimestampMapping.remove(type);
+				super.remove(type);
+			} else if (checked[i] != type) {
+				replace(type, checked[i], timestamps.get(i).longValue());
+			} else if (!timestamps.get(i).equals(fTimestampMapping.put(type, timestamps.get(i)))) {
+				attributesChanged();
+			}
+		}
+		publishSnapshot();
+	}
+
 	private long getContainerTimestamp(TypeNameMatch match) {
 		try {
 			IType type= match.getType();
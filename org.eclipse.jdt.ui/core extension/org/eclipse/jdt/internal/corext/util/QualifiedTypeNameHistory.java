@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,7 +33,7 @@ public class QualifiedTypeNameHistory extends History<String, String> {
 
 	public QualifiedTypeNameHistory(String fileName) {
 		super(fileName, NODE_ROOT, NODE_TYPE_INFO);
-		load();
+		loadInBackground();
 	}
 
 	@Override
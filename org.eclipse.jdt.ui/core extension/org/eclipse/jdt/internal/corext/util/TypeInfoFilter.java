@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -238,6 +238,14 @@ public class TypeInfoFilter {
 		return fSearchScope;
 	}
 
+	public boolean isWorkspaceScope() {
+		return fIsWorkspaceScope;
+	}
+
+	public boolean hasPackagePattern() {
+		return fPackageMatcher != null;
+	}
+
 	public int getPackageFlags() {
 		if (fPackageMatcher == null)
 			return SearchPattern.R_EXACT_MATCH;
@@ -272,16 +280,71 @@ public class TypeInfoFilter {
 	}
 
 	private boolean matchesName(TypeNameMatch type) {
+		return matchesName(type.getSimpleTypeName());
+	}
+
+	/**
+	 * Checks the simple name of a type.
+	 *
+	 * @param simpleTypeName the simple type name
+	 * @return <code>true</code> if the name matches the name pattern
+	 */
+	public boolean matchesName(String simpleTypeName) {
 		if (fText.length() == 0) {
 			return true; //empty pattern matches all names
 		}
-		return fNameMatcher.matches(type.getSimpleTypeName());
+		return fNameMatcher.matches(simpleTypeName);
+	}
+
+	/**
+	 * Checks the simple name of a type without creating a string. Can be called from several
+	 * threads.
+	 *
+	 * @param chars the characters
+	 * @param start the start of the simple type name
+	 * @param end the end of the simple type name, exclusive
+	 * @param signature the camel case signature of the name, see
+	 *            {@link PatternMatcher#getCamelCaseSignature(char[], int, int)}
+	 * @return <code>true</code> if the name matches the name pattern
+	 */
+	public boolean matchesName(char[] chars, int start, int end, long signature) {
+		if (fText.length() == 0) {
+			return true; //empty pattern matches all names
+		}
+		return fNameMatcher.matches(chars, start, end, signature);
 	}
 
 	private boolean matchesPackage(TypeNameMatch type) {
 		if (fPackageMatcher == null)
 			return true;
-		return fPackageMatcher.matches(type.getTypeContainerName());
+		return matchesPackage(type.getTypeContainerName());
+	}
+
+	/**
+	 * Checks the container name of a type, see {@link TypeNameMatch#getTypeContainerName()}.
+	 *
+	 * @param typeContainerName the package name and the enclosing type names
+	 * @return <code>true</code> if the name matches the package pattern
+	 */
+	public boolean matchesPackage(String typeContainerName) {
+		if (fPackageMatcher == null)
+			return true;
+		return fPackageMatcher.matches(typeContainerName);
+	}
+
+	/**
+	 * Checks the container name of a type without creating a string. Can be called from several
+	 * threads.
+	 *
+	 * @param chars the characters
+	 * @param start the start of the container name
+	 * @param end the end of the container name, exclusive
+	 * @return <code>true</code> if the name matches the package pattern
+	 */
+	public boolean matchesPackage(char[] chars, int start, int end) {
+		if (fPackageMatcher == null)
+			return true;
+		return fPackageMatcher.matches(chars, start, end);
 	}
 
 	private boolean matchesScope(TypeNameMatch type) {
@@ -293,7 +356,19 @@ public class TypeInfoFilter {
 	private boolean matchesModifiers(TypeNameMatch type) {
 		if (fElementKind == IJavaSearchConstants.TYPE)
 			return true;
-		int modifiers= type.getModifiers() & TYPE_MODIFIERS;
+		return matchesModifiers(type.getModifiers());
+	}
+
+	/**
+	 * Checks whether the kind of a type matches the element kind of this filter.
+	 *
+	 * @param typeModifiers the modifiers of the type
+	 * @return <code>true</code> if the kind matches
+	 */
+	public boolean matchesModifiers(int typeModifiers) {
+		if (fElementKind == IJavaSearchConstants.TYPE)
+			return true;
+		int modifiers= typeModifiers & TYPE_MODIFIERS;
 		switch (fElementKind) {
 			case IJavaSearchConstants.CLASS:
 				return modifiers == 0;
@@ -0,0 +1,671 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IOrdinaryClassFile;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.util.PatternMatcher;
+
+/**
+ * An in-memory index of the names of all types in the workspace. The open type dialog filters
+ * this index instead of searching the Java search index on every keystroke.
+ * <p>
+ * The type names are packed into one character buffer, and the index stores offsets into that
+ * buffer, the camel case signature of the simple name, the modifiers and the package fragment of
+ * each type. The names are matched on the buffer without creating strings; type handles and
+ * {@link TypeNameMatch}es are only created for matching types. The index is built by a
+ * background job on first use. It is kept up to date from Java element deltas: changed
+ * compilation units and reconciled primary working copies are indexed again, as are the packages
+ * of changed class files in class folders, and any other structural change discards the index.
+ * </p>
+ */
+public final class TypeNameIndex {
+
+	/**
+	 * An immutable snapshot of the index.
+	 */
+	public static final class Table {
+
+		private final char[] fChars;
+		private final int[] fStarts;
+		private final int[] fNameStarts;
+		private final int[] fSimpleStarts;
+		private final long[] fSignatures;
+		private final int[] fPackageIds;
+		private final int[] fModifiers;
+		private final int fSize;
+		private final IPackageFragment[] fPackages;
+		private final char[][] fPackageNames;
+		private final boolean[] fBinaryPackages;
+		private final BitSet fRemoved;
+
+		Table(Builder builder) {
+			fChars= builder.fChars;
+			fStarts= builder.fStarts;
+			fNameStarts= builder.fNameStarts;
+			fSimpleStarts= builder.fSimpleStarts;
+			fSignatures= builder.fSignatures;
+			fPackageIds= builder.fPackageIds;
+			fModifiers= builder.fModifiers;
+			fSize= builder.fSize;
+			fPackages= builder.fPackages;
+			fPackageNames= builder.fPackageNames;
+			fBinaryPackages= builder.fBinaryPackages;
+			fRemoved= (BitSet) builder.fRemoved.clone();
+		}
+
+		/**
+		 * Returns the number of rows, including the rows of types that have been removed.
+		 *
+		 * @return the number of rows
+		 */
+		public int size() {
+			return fSize;
+		}
+
+		/**
+		 * Returns the rows of all types whose name, package and kind match the given filter. The
+		 * rows are matched in parallel chunks. The scope of the filter, the filter extension and
+		 * the type filters are not checked.
+		 *
+		 * @param filter the filter
+		 * @param candidates the rows to match, e.g. the result for a filter that the given filter
+		 *            refines, or <code>null</code> to match all rows
+		 * @param monitor the progress monitor, can be <code>null</code>
+		 * @return the matching rows, in ascending order
+		 * @throws CoreException if the rows cannot be matched
+		 */
+		public int[] match(TypeInfoFilter filter, int[] candidates, IProgressMonitor monitor) throws CoreException {
+			int count= candidates == null ? fSize : candidates.length;
+			List<int[]> chunks= new ArrayList<>(count / CHUNK_SIZE + 1);
+			for (int from= 0; from < count; from+= CHUNK_SIZE) {
+				chunks.add(new int[] { from, Math.min(count, from + CHUNK_SIZE) });
+			}
+			List<int[]> results= ParallelWorkers.map(chunks, chunk -> {
+				int[] rows= new int[64];
+				int size= 0;
+				for (int i= chunk[0]; i < chunk[1]; i++) {
+					int row= candidates == null ? i : candidates[i];
+					if (matches(filter, row)) {
+						if (size == rows.length) {
+							rows= Arrays.copyOf(rows, size * 2);
+						}
+						rows[size++]= row;
+					}
+				}
+				return Arrays.copyOf(rows, size);
+			}, monitor);
+			int size= 0;
+			for (int[] rows : results) {
+				size+= rows.length;
+			}
+			int[] result= new int[size];
+			int pos= 0;
+			for (int[] rows : results) {
+				System.arraycopy(rows, 0, result, pos, rows.length);
+				pos+= rows.length;
+			}
+			return result;
+		}
+
+		private boolean matches(TypeInfoFilter filter, int row) {
+			if (fRemoved.get(row) || !filter.matchesModifiers(fModifiers[row]))
+				return false;
+			int simpleStart= fSimpleStarts[row];
+			if (!filter.matchesName(fChars, simpleStart, fStarts[row + 1], fSignatures[row]))
+				return false;
+			if (!filter.hasPackagePattern())
+				return true;
+			char[] packageName= fPackageNames[fPackageIds[row]];
+			int start= fNameStarts[row];
+			if (simpleStart == start)
+				return filter.matchesPackage(packageName, 0, packageName.length);
+			// only the container names of member types have to be copied
+			char[] containerName= getTypeContainerName(packageName, start, simpleStart);
+			return filter.matchesPackage(containerName, 0, containerName.length);
+		}
+
+		private char[] getTypeContainerName(char[] packageName, int start, int simpleStart) {
+			int enclosingLength= simpleStart - 1 - start;
+			if (packageName.length == 0)
+				return Arrays.copyOfRange(fChars, start, start + enclosingLength);
+			char[] result= new char[packageName.length + 1 + enclosingLength];
+			System.arraycopy(packageName, 0, result, 0, packageName.length);
+			result[packageName.length]= '.';
+			System.arraycopy(fChars, start, result, packageName.length + 1, enclosingLength);
+			return result;
+		}
+
+		/**
+		 * Creates the match for a row.
+		 *
+		 * @param row the row
+		 * @return the match
+		 */
+		public TypeNameMatch createMatch(int row) {
+			IPackageFragment pack= fPackages[fPackageIds[row]];
+			boolean binary= fBinaryPackages[fPackageIds[row]];
+			String qualifiedName= new String(fChars, fNameStarts[row], fStarts[row + 1] - fNameStarts[row]);
+			String fileName= fNameStarts[row] > fStarts[row]
+					? new String(fChars, fStarts[row], fNameStarts[row] - 1 - fStarts[row])
+					: getDefaultFileName(qualifiedName, binary);
+			IType type;
+			if (binary) {
+				type= pack.getOrdinaryClassFile(fileName).getType();
+			} else {
+				String[] segments= qualifiedName.split("\\."); //$NON-NLS-1$
+				type= pack.getCompilationUnit(fileName).getType(segments[0]);
+				for (int i= 1; i < segments.length; i++) {
+					type= type.getType(segments[i]);
+				}
+			}
+			return SearchEngine.createTypeNameMatch(type, fModifiers[row]);
+		}
+	}
+
+	/**
+	 * Collects the rows of the index. Rows are only appended, so that the arrays can be shared
+	 * with the tables created before.
+	 */
+	private static final class Builder {
+
+		char[] fChars= new char[4096];
+		int fCharCount;
+		int[] fStarts= new int[257];
+		int[] fNameStarts= new int[256];
+		int[] fSimpleStarts= new int[256];
+		long[] fSignatures= new long[256];
+		int[] fPackageIds= new int[256];
+		int[] fModifiers= new int[256];
+		int fSize;
+		IPackageFragment[] fPackages= new IPackageFragment[64];
+		char[][] fPackageNames= new char[64][];
+		boolean[] fBinaryPackages= new boolean[64];
+		int fPackageCount;
+		final Map<IPackageFragment, Integer> fPackageIndex= new HashMap<>();
+		final BitSet fRemoved= new BitSet();
+		int fRemovedCount;
+
+		void add(IType type, int modifiers) {
+			IPackageFragment pack= type.getPackageFragment();
+			Integer packageId= fPackageIndex.get(pack);
+			if (packageId == null) {
+				if (fPackageCount == fPackages.length) {
+					fPackages= Arrays.copyOf(fPackages, fPackageCount * 2);
+					fPackageNames= Arrays.copyOf(fPackageNames, fPackageCount * 2);
+					fBinaryPackages= Arrays.copyOf(fBinaryPackages, fPackageCount * 2);
+				}
+				fPackages[fPackageCount]= pack;
+				fPackageNames[fPackageCount]= pack.getElementName().toCharArray();
+				fBinaryPackages[fPackageCount]= type.isBinary();
+				packageId= Integer.valueOf(fPackageCount++);
+				fPackageIndex.put(pack, packageId);
+			}
+			ensureRowCapacity();
+			String qualifiedName= type.getTypeQualifiedName('.');
+			String fileName= type.getTypeRoot().getElementName();
+			fStarts[fSize]= fCharCount;
+			if (!fileName.equals(getDefaultFileName(qualifiedName, type.isBinary()))) {
+				// secondary types
+				append(fileName);
+				append(FILE_NAME_SEPARATOR);
+			}
+			fNameStarts[fSize]= fCharCount;
+			fSimpleStarts[fSize]= fCharCount + qualifiedName.lastIndexOf('.') + 1;
+			append(qualifiedName);
+			fSignatures[fSize]= PatternMatcher.getCamelCaseSignature(fChars, fSimpleStarts[fSize], fCharCount);
+			fPackageIds[fSize]= packageId.intValue();
+			fModifiers[fSize]= modifiers;
+			fStarts[++fSize]= fCharCount;
+		}
+
+		private void append(String string) {
+			int length= string.length();
+			ensureCharCapacity(length);
+			string.getChars(0, length, fChars, fCharCount);
+			fCharCount+= length;
+		}
+
+		private void append(char ch) {
+			ensureCharCapacity(1);
+			fChars[fCharCount++]= ch;
+		}
+
+		private void ensureRowCapacity() {
+			if (fSize == fNameStarts.length) {
+				int capacity= fSize * 2;
+				fStarts= Arrays.copyOf(fStarts, capacity + 1);
+				fNameStarts= Arrays.copyOf(fNameStarts, capacity);
+				fSimpleStarts= Arrays.copyOf(fSimpleStarts, capacity);
+				fSignatures= Arrays.copyOf(fSignatures, capacity);
+				fPackageIds= Arrays.copyOf(fPackageIds, capacity);
+				fModifiers= Arrays.copyOf(fModifiers, capacity);
+			}
+		}
+
+		private void ensureCharCapacity(int length) {
+			if (fCharCount + length > fChars.length) {
+				fChars= Arrays.copyOf(fChars, Math.max(fChars.length * 2, fCharCount + length));
+			}
+		}
+
+		/**
+		 * Removes the rows of the types declared in the given compilation units and packages.
+		 *
+		 * @param units the compilation units
+		 * @param packages the packages whose types are all removed
+		 */
+		void remove(Set<ICompilationUnit> units, Set<IPackageFragment> packages) {
+			BitSet packageIds= new BitSet();
+			for (ICompilationUnit unit : units) {
+				Integer packageId= fPackageIndex.get(unit.getParent());
+				if (packageId != null) {
+					packageIds.set(packageId.intValue());
+				}
+			}
+			BitSet removedPackageIds= new BitSet();
+			for (IPackageFragment pack : packages) {
+				Integer packageId= fPackageIndex.get(pack);
+				if (packageId != null) {
+					removedPackageIds.set(packageId.intValue());
+				}
+			}
+			if (packageIds.isEmpty() && removedPackageIds.isEmpty())
+				return;
+			for (int row= 0; row < fSize; row++) {
+				int packageId= fPackageIds[row];
+				if (fRemoved.get(row))
+					continue;
+				if (removedPackageIds.get(packageId)) {
+					fRemoved.set(row);
+					fRemovedCount++;
+					continue;
+				}
+				if (!packageIds.get(packageId))
+					continue;
+				String fileName;
+				if (fNameStarts[row] > fStarts[row]) {
+					fileName= new String(fChars, fStarts[row], fNameStarts[row] - 1 - fStarts[row]);
+				} else {
+					fileName= getDefaultFileName(new String(fChars, fNameStarts[row], fStarts[row + 1] - fNameStarts[row]), false);
+				}
+				if (units.contains(fPackages[packageId].getCompilationUnit(fileName))) {
+					fRemoved.set(row);
+					fRemovedCount++;
+				}
+			}
+		}
+
+		/**
+		 * Copies the rows that have not been removed into a new builder.
+		 *
+		 * @return the new builder
+		 */
+		Builder compact() {
+			Builder result= new Builder();
+			for (int row= 0; row < fSize; row++) {
+				if (fRemoved.get(row))
+					continue;
+				int packageId= fPackageIds[row];
+				Integer newPackageId= result.fPackageIndex.get(fPackages[packageId]);
+				if (newPackageId == null) {
+					if (result.fPackageCount == result.fPackages.length) {
+						result.fPackages= Arrays.copyOf(result.fPackages, result.fPackageCount * 2);
+						result.fPackageNames= Arrays.copyOf(result.fPackageNames, result.fPackageCount * 2);
+						result.fBinaryPackages= Arrays.copyOf(result.fBinaryPackages, result.fPackageCount * 2);
+					}
+					result.fPackages[result.fPackageCount]= fPackages[packageId];
+					result.fPackageNames[result.fPackageCount]= fPackageNames[packageId];
+					result.fBinaryPackages[result.fPackageCount]= fBinaryPackages[packageId];
+					newPackageId= Integer.valueOf(result.fPackageCount++);
+					result.fPackageIndex.put(fPackages[packageId], newPackageId);
+				}
+				result.ensureRowCapacity();
+				int start= fStarts[row];
+				int length= fStarts[row + 1] - start;
+				result.ensureCharCapacity(length);
+				System.arraycopy(fChars, start, result.fChars, result.fCharCount, length);
+				result.fStarts[result.fSize]= result.fCharCount;
+				result.fNameStarts[result.fSize]= result.fCharCount + fNameStarts[row] - start;
+				result.fSimpleStarts[result.fSize]= result.fCharCount + fSimpleStarts[row] - start;
+				result.fSignatures[result.fSize]= fSignatures[row];
+				result.fCharCount+= length;
+				result.fPackageIds[result.fSize]= newPackageId.intValue();
+				result.fModifiers[result.fSize]= fModifiers[row];
+				result.fStarts[++result.fSize]= result.fCharCount;
+			}
+			return result;
+		}
+	}
+
+	private final class IndexDeltaListener implements IElementChangedListener {
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			IJavaElementDelta delta= event.getDelta();
+			if (event.getType() == ElementChangedEvent.POST_RECONCILE && (delta.getFlags() & IJavaElementDelta.F_CHILDREN) == 0) {
+				// the members of the working copy have not changed
+				return;
+			}
+			Set<ICompilationUnit> units= new LinkedHashSet<>();
+			Set<IPackageFragment> packages= new LinkedHashSet<>();
+			if (processDelta(delta, units, packages)) {
+				update(units, packages);
+			} else {
+				discard();
+			}
+		}
+
+		/**
+		 * Collects the compilation units and packages that have to be indexed again.
+		 *
+		 * @param delta the Java element delta
+		 * @param units the collected compilation units
+		 * @param packages the collected packages, all types of which are indexed again
+		 * @return <code>false</code> if the index has to be discarded
+		 */
+		private boolean processDelta(IJavaElementDelta delta, Set<ICompilationUnit> units, Set<IPackageFragment> packages) {
+			IJavaElement elem= delta.getElement();
+			int kind= delta.getKind();
+			int flags= delta.getFlags();
+			switch (elem.getElementType()) {
+				case IJavaElement.JAVA_MODEL:
+					return processChildrenDelta(delta, units, packages);
+				case IJavaElement.JAVA_PROJECT:
+					if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED
+							| IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+						return false;
+					}
+					return processChildrenDelta(delta, units, packages);
+				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+					if (kind != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+							| IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH)) != 0) {
+						return false;
+					}
+					return processChildrenDelta(delta, units, packages);
+				case IJavaElement.PACKAGE_FRAGMENT:
+					IPackageFragment pack= (IPackageFragment) elem;
+					if (kind == IJavaElementDelta.REMOVED) {
+						packages.add(pack);
+						return true;
+					}
+					if (kind == IJavaElementDelta.ADDED) {
+						try {
+							if (pack.getKind() != IPackageFragmentRoot.K_SOURCE) {
+								packages.add(pack);
+								return true;
+							}
+							// the delta of a new package does not always contain its compilation units
+							units.addAll(Arrays.asList(pack.getCompilationUnits()));
+						} catch (JavaModelException e) {
+							return false;
+						}
+					}
+					return processChildrenDelta(delta, units, packages);
+				case IJavaElement.COMPILATION_UNIT:
+					if (JavaModelUtil.isPrimary((ICompilationUnit) elem)) {
+						units.add((ICompilationUnit) elem);
+					}
+					return true;
+				case IJavaElement.CLASS_FILE:
+					// a class folder has changed, its package is read again
+					packages.add((IPackageFragment) elem.getParent());
+					return true;
+				default:
+					return true;
+			}
+		}
+
+		private boolean processChildrenDelta(IJavaElementDelta delta, Set<ICompilationUnit> units, Set<IPackageFragment> packages) {
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (!processDelta(child, units, packages)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private final class BuildJob extends Job {
+		public BuildJob() {
+			super(CorextMessages.TypeNameIndex_build);
+		}
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				build(monitor);
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (CoreException e) {
+				JavaPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+		@Override
+		public boolean belongsTo(Object family) {
+			return FAMILY.equals(family);
+		}
+	}
+
+	/**
+	 * The job family of the job that builds the index.
+	 */
+	public static final String FAMILY= BuildJob.class.getName();
+
+	private static final int CHUNK_SIZE= 8192;
+
+	private static final char FILE_NAME_SEPARATOR= '|';
+
+	private static TypeNameIndex fgInstance;
+
+	private final IElementChangedListener fDeltaListener;
+	private final BuildJob fBuildJob;
+
+	private Builder fBuilder;
+	private volatile Table fTable;
+	private boolean fBuilding;
+	private boolean fStale;
+
+	public static synchronized TypeNameIndex getInstance() {
+		if (fgInstance == null)
+			fgInstance= new TypeNameIndex();
+		return fgInstance;
+	}
+
+	public static synchronized void shutdown() {
+		if (fgInstance == null)
+			return;
+		fgInstance.doShutdown();
+		fgInstance= null;
+	}
+
+	private TypeNameIndex() {
+		fDeltaListener= new IndexDeltaListener();
+		JavaCore.addElementChangedListener(fDeltaListener, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		fBuildJob= new BuildJob();
+		fBuildJob.setSystem(true);
+		fBuildJob.setPriority(Job.LONG);
+	}
+
+	private void doShutdown() {
+		JavaCore.removeElementChangedListener(fDeltaListener);
+		fBuildJob.cancel();
+		discard();
+	}
+
+	/**
+	 * Returns the current contents of the index. If the index does not exist, a job is scheduled
+	 * that builds it.
+	 *
+	 * @return the index, or <code>null</code> if the index is not available yet
+	 */
+	public Table getTable() {
+		Table table= fTable;
+		if (table == null) {
+			synchronized (this) {
+				if (!fBuilding) {
+					fBuilding= true;
+					fStale= false;
+					fBuildJob.schedule();
+				}
+			}
+		}
+		return table;
+	}
+
+	private void build(IProgressMonitor monitor) throws CoreException {
+		while (true) {
+			Builder builder= new Builder();
+			TypeNameMatchRequestor requestor= new TypeNameMatchRequestor() {
+				@Override
+				public void acceptTypeNameMatch(TypeNameMatch match) {
+					builder.add(match.getType(), match.getModifiers());
+				}
+			};
+			try {
+				new SearchEngine((WorkingCopyOwner) null).searchAllTypeNames(null, SearchPattern.R_EXACT_MATCH, null, SearchPattern.R_PREFIX_MATCH,
+						IJavaSearchConstants.TYPE, SearchEngine.createWorkspaceScope(), requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+			} catch (CoreException | RuntimeException e) {
+				synchronized (this) {
+					fBuilding= false;
+				}
+				throw e;
+			}
+			synchronized (this) {
+				if (!fStale) {
+					fBuilder= builder;
+					fTable= new Table(builder);
+					fBuilding= false;
+					return;
+				}
+				// the workspace has changed while the index was built
+				fStale= false;
+			}
+		}
+	}
+
+	private void update(Set<ICompilationUnit> units, Set<IPackageFragment> packages) {
+		if (units.isEmpty() && packages.isEmpty())
+			return;
+		synchronized (this) {
+			if (fBuilding) {
+				fStale= true;
+				return;
+			}
+			if (fBuilder == null)
+				return;
+		}
+		// read the Java model outside the lock, so that the build job and getTable() do not wait for it
+		List<IType> types= new ArrayList<>();
+		List<Integer> flags= new ArrayList<>();
+		for (ICompilationUnit unit : units) {
+			if (!unit.exists())
+				continue;
+			try {
+				for (IType type : unit.getAllTypes()) {
+					int typeFlags= type.getFlags();
+					types.add(type);
+					flags.add(Integer.valueOf(typeFlags));
+				}
+			} catch (JavaModelException e) {
+				// not indexed until the index is built again
+			}
+		}
+		for (IPackageFragment pack : packages) {
+			try {
+				if (!pack.exists() || pack.getKind() != IPackageFragmentRoot.K_BINARY)
+					continue;
+				for (IOrdinaryClassFile classFile : pack.getOrdinaryClassFiles()) {
+					if (JavaModelUtil.PACKAGE_INFO_CLASS.equals(classFile.getElementName()))
+						continue;
+					IType type= classFile.getType();
+					if (type.isAnonymous() || type.isLocal())
+						continue;
+					int typeFlags= type.getFlags();
+					types.add(type);
+					flags.add(Integer.valueOf(typeFlags));
+				}
+			} catch (JavaModelException e) {
+				// not indexed until the index is built again
+			}
+		}
+		update(units, packages, types, flags);
+	}
+
+	private synchronized void update(Set<ICompilationUnit> units, Set<IPackageFragment> packages, List<IType> types, List<Integer> flags) {
+		if (fBuilding) {
+			fStale= true;
+			return;
+		}
+		if (fBuilder == null)
+			return;
+		Builder builder= fBuilder;
+		builder.remove(units, packages);
+		for (int i= 0; i < types.size(); i++) {
+			builder.add(types.get(i), flags.get(i).intValue());
+		}
+		if (builder.fRemovedCount > builder.fSize / 2) {
+			builder= builder.compact();
+			fBuilder= builder;
+		}
+		fTable= new Table(builder);
+	}
+
+	private synchronized void discard() {
+		fBuilder= null;
+		fTable= null;
+		if (fBuilding) {
+			fStale= true;
+		}
+	}
+
+	private static String getDefaultFileName(String qualifiedName, boolean binary) {
+		if (binary)
+			return qualifiedName.replace('.', '$') + ".class"; //$NON-NLS-1$
+		int index= qualifiedName.indexOf('.');
+		return (index == -1 ? qualifiedName : qualifiedName.substring(0, index)) + ".java"; //$NON-NLS-1$
+	}
+}
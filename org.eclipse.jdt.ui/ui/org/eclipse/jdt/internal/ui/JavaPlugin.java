@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -104,6 +104,7 @@ import org.eclipse.jdt.internal.corext.template.java.SWTContextType;
 import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
 import org.eclipse.jdt.internal.corext.util.QualifiedTypeNameHistory;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.ui.IContextMenuConstants;
 import org.eclipse.jdt.ui.JavaUI;
@@ -124,6 +125,7 @@ import org.eclipse.jdt.internal.ui.propertiesfileeditor.PropertiesFileDocumentPr
 import org.eclipse.jdt.internal.ui.text.PreferencesAdapter;
 import org.eclipse.jdt.internal.ui.text.folding.JavaFoldingStructureProviderRegistry;
 import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory;
+import org.eclipse.jdt.internal.ui.text.java.RelevanceStore;
 import org.eclipse.jdt.internal.ui.text.java.hover.JavaEditorTextHoverDescriptor;
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
@@ -197,6 +199,8 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 	private static final String TYPEFILTER_MIGRATED= "typefilter_migrated_2"; //$NON-NLS-1$
 
+	private static final String RELEVANCE_STORE_FILE= "relevance.dat"; //$NON-NLS-1$
+
 	/**
 	 * @deprecated to avoid deprecation warning
 	 */
@@ -244,6 +248,11 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 	 */
 	private volatile ContentAssistHistory fContentAssistHistory;
 
+	/**
+	 * Usage frequencies of content assist proposals.
+	 */
+	private volatile RelevanceStore fRelevanceStore;
+
 	/**
 	 * The save participant registry.
 	 * @since 3.3
@@ -457,6 +466,8 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 
 	/* package */ static void initializeAfterLoad(IProgressMonitor monitor) {
 		OpenTypeHistory.getInstance().checkConsistency(monitor);
+		// starts loading the history, so that content assist does not have to
+		QualifiedTypeNameHistory.getDefault();
 	}
 
 	/*
@@ -505,6 +516,11 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 				fContentAssistHistory= null;
 			}
 
+			if (fRelevanceStore != null) {
+				fRelevanceStore.close();
+				fRelevanceStore= null;
+			}
+
 			if (fTemplateStore != null) {
 				fTemplateStore.stopListeningForPreferenceChanges();
 				fTemplateStore= null;
@@ -549,6 +565,8 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 			// must add here to guarantee that it is the first in the listener list
 
 			OpenTypeHistory.shutdown();
+
+			TypeNameIndex.shutdown();
 		} finally {
 			super.stop(context);
 		}
@@ -1061,6 +1079,30 @@ public class JavaPlugin extends AbstractUIPlugin implements DebugOptionsListener
 		return fContentAssistHistory;
 	}
 
+	/**
+	 * Returns the store with the usage frequencies of content assist proposals. The store is kept
+	 * in the state location of this plug-in.
+	 *
+	 * @return the relevance store
+	 */
+	public RelevanceStore getRelevanceStore() {
+		if (fRelevanceStore == null) {
+			synchronized (this) {
+				if (fRelevanceStore != null) {
+					return fRelevanceStore;
+				}
+				try {
+					fRelevanceStore= new RelevanceStore(getStateLocation().append(RELEVANCE_STORE_FILE).toPath(), RelevanceStore.DEFAULT_CAPACITY);
+				} catch (IOException | IllegalStateException x) {
+					log(x);
+					fRelevanceStore= new RelevanceStore(RelevanceStore.DEFAULT_CAPACITY);
+				}
+			}
+		}
+
+		return fRelevanceStore;
+	}
+
 	/**
 	 * Returns a section in the Java plugin's dialog settings. If the section doesn't exist yet, it is created.
 	 *
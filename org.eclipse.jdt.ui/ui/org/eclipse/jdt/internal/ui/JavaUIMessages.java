@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -250,4 +250,6 @@ public final class JavaUIMessages extends NLS {
 	public static String HistoryListAction_remove;
 	public static String HistoryListAction_max_entries_constraint;
 	public static String HistoryListAction_remove_all;
+
+	public static String JavaElementLabelCache_job_name;
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.lang.reflect.InvocationTargetException;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.jface.operation.IRunnableContext;
 import org.eclipse.jface.operation.IRunnableWithProgress;
@@ -399,7 +400,7 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
      */
     @Override
 	public void dispose() {
-        // Nothing to dispose
+        cancelPrefetchJobs();
     }
 
     /**
@@ -452,6 +453,7 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
      * @param wrappers the parents to cancel jobs for
      */
     void cancelJobs(MethodWrapper[] wrappers) {
+        cancelPrefetchJobs();
         if (fManager != null && wrappers != null) {
         	for (MethodWrapper wrapper : wrappers) {
         		fManager.cancel(wrapper);
@@ -462,6 +464,13 @@ public class CallHierarchyContentProvider implements ITreeContentProvider {
         }
     }
 
+    /**
+     * Cancels the jobs that search the callers of the next level in the background.
+     */
+    void cancelPrefetchJobs() {
+        Job.getJobManager().cancel(this);
+    }
+
     public void doneFetching() {
         if (fPart != null) {
             fPart.setCancelEnabled(false);
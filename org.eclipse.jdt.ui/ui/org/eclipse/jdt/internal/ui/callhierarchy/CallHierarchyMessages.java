@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2010 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,6 +79,7 @@ public final class CallHierarchyMessages extends NLS {
 	public static String FiltersDialog_filterTestCode;
 	public static String CallHierarchyContentProvider_searchError_title;
 	public static String CallHierarchyContentProvider_searchError_message;
+	public static String DeferredMethodWrapper_prefetchCallers;
 	public static String CallHierarchyLabelProvider_constructor_label;
 	public static String CallHierarchyLabelProvider_declaration_label;
 	public static String CallHierarchyLabelProvider_expandWithConstructorsAction_realCallers;
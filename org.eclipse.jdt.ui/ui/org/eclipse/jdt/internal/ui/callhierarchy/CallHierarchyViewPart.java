@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -758,6 +758,8 @@ public class CallHierarchyViewPart extends ViewPart implements ICallHierarchyVie
     }
 
     public void refresh() {
+        cancelJobs();
+        CallHierarchy.getDefault().clearCallerCache();
         setCalleeRoots(null);
         setCallerRoots(null);
 
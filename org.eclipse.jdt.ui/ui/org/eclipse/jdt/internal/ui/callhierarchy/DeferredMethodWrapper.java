@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,14 +17,19 @@ package org.eclipse.jdt.internal.ui.callhierarchy;
 import org.eclipse.swt.widgets.Display;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.ui.progress.IDeferredWorkbenchAdapter;
 import org.eclipse.ui.progress.IElementCollector;
 
 import org.eclipse.jdt.core.JavaCore;
 
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallerMethodWrapper;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
@@ -63,22 +68,73 @@ public class DeferredMethodWrapper extends MethodWrapperWorkbenchAdapter impleme
         }
     }
 
+    /**
+     * Searches the callers of the children of an expanded caller. The jobs belong to the family
+     * of their content provider.
+     */
+    private static class PrefetchCallersJob extends Job {
+        private final CallHierarchyContentProvider fFamily;
+        private final MethodWrapper[] fCalls;
+
+        PrefetchCallersJob(CallHierarchyContentProvider family, MethodWrapper[] calls) {
+            super(CallHierarchyMessages.DeferredMethodWrapper_prefetchCallers);
+            fFamily= family;
+            fCalls= calls;
+            setSystem(true);
+            setPriority(DECORATE);
+        }
+
+        @Override
+        public boolean belongsTo(Object family) {
+            return family == fFamily;
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor) {
+            try {
+                CallHierarchy.getDefault().prefetchCallers(fCalls, monitor);
+            } catch (OperationCanceledException e) {
+                return Status.CANCEL_STATUS;
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
     DeferredMethodWrapper(CallHierarchyContentProvider provider, MethodWrapper methodWrapper) {
     	super(methodWrapper);
         this.fProvider = provider;
     }
 
-    private Object getCalls(IProgressMonitor monitor) {
+    private MethodWrapper[] getCalls(IProgressMonitor monitor) {
         return getMethodWrapper().getCalls(monitor);
     }
 
+    /**
+     * Searches the callers of the given callers in the background, so that the next level is
+     * usually cached when it is expanded.
+     *
+     * @param calls the children of an expanded method wrapper
+     * @see CallHierarchyContentProvider#cancelPrefetchJobs()
+     */
+    private void prefetchCallers(MethodWrapper[] calls) {
+        if (calls.length == 0 || !(calls[0] instanceof CallerMethodWrapper)) {
+            return;
+        }
+        new PrefetchCallersJob(fProvider, calls).schedule();
+    }
+
     @Override
 	public void fetchDeferredChildren(Object object, IElementCollector collector, IProgressMonitor monitor) {
     	final DeferredMethodWrapper deferredMethodWrapper= (DeferredMethodWrapper)object;
     	try {
             fProvider.startFetching();
-            JavaCore.runReadOnly(() -> collector.add((Object[]) deferredMethodWrapper.getCalls(monitor), monitor));
+            MethodWrapper[] calls= JavaCore.callReadOnly(() -> {
+            	MethodWrapper[] result= deferredMethodWrapper.getCalls(monitor);
+            	collector.add(result, monitor);
+            	return result;
+            });
             collector.done();
+            prefetchCallers(calls);
         } catch (OperationCanceledException e) {
         	final MethodWrapper methodWrapper= deferredMethodWrapper.getMethodWrapper();
 			if (!CallHierarchyContentProvider.isExpandWithConstructors(methodWrapper)) {
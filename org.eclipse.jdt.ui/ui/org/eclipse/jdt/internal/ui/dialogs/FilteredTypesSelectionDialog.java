@@ -97,6 +97,7 @@ import org.eclipse.jdt.internal.corext.util.Strings;
 import org.eclipse.jdt.internal.corext.util.TypeFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoFilter;
 import org.eclipse.jdt.internal.corext.util.TypeInfoRequestorAdapter;
+import org.eclipse.jdt.internal.corext.util.TypeNameIndex;
 
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.IVMInstallType;
@@ -169,6 +170,8 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 
 	private TypeItemsFilter fFilter;
 
+	private volatile IndexResult fLastIndexResult;
+
 	/**
 	 * Creates new FilteredTypesSelectionDialog instance
 	 *
@@ -498,6 +501,13 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 	@Override
 	protected void fillContentProvider(AbstractContentProvider provider, ItemsFilter itemsFilter, IProgressMonitor progressMonitor) throws CoreException {
 		TypeItemsFilter typeSearchFilter= (TypeItemsFilter) itemsFilter;
+		if (typeSearchFilter.fTypeInfoFilter.isWorkspaceScope()) {
+			TypeNameIndex.Table table= TypeNameIndex.getInstance().getTable();
+			if (table != null) {
+				fillContentProvider(table, provider, typeSearchFilter, progressMonitor);
+				return;
+			}
+		}
 		TypeSearchRequestor requestor= new TypeSearchRequestor(provider, typeSearchFilter);
 		SearchEngine engine= new SearchEngine((WorkingCopyOwner) null);
 		String packPattern= typeSearchFilter.getPackagePattern();
@@ -529,6 +539,42 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 		}
 	}
 
+	/**
+	 * Fills the content provider from the type name index. If the filter refines the filter of the
+	 * previous search, only the types found by that search are matched again.
+	 *
+	 * @param table the contents of the type name index
+	 * @param provider the content provider
+	 * @param typeSearchFilter the filter
+	 * @param progressMonitor the progress monitor
+	 * @throws CoreException if the index cannot be searched
+	 */
+	private void fillContentProvider(TypeNameIndex.Table table, AbstractContentProvider provider, TypeItemsFilter typeSearchFilter, IProgressMonitor progressMonitor) throws CoreException {
+		TypeInfoFilter filter= typeSearchFilter.fTypeInfoFilter;
+		SubMonitor subMonitor= SubMonitor.convert(progressMonitor, JavaUIMessages.FilteredTypesSelectionDialog_searchJob_taskName, 2);
+		IndexResult last= fLastIndexResult;
+		int[] candidates= null;
+		if (last != null && last.fTable == table && last.fFilter.getElementKind() == filter.getElementKind() && filter.isSubFilter(last.fFilter.getText())) {
+			candidates= last.fRows;
+		}
+		int[] rows= table.match(filter, candidates, subMonitor.split(1));
+		fLastIndexResult= new IndexResult(table, filter, rows);
+
+		// the filter only has to check the filter extension and the type filters
+		typeSearchFilter.setMatchEverythingMode(true);
+		try {
+			SubMonitor addMonitor= subMonitor.split(1).setWorkRemaining(rows.length);
+			for (int row : rows) {
+				TypeNameMatch match= table.createMatch(row);
+				if (!TypeFilter.isFiltered(match) && typeSearchFilter.matchesFilterExtension(match))
+					provider.add(match, typeSearchFilter);
+				addMonitor.split(1);
+			}
+		} finally {
+			typeSearchFilter.setMatchEverythingMode(false);
+		}
+	}
+
 	@Override
 	protected Comparator getItemsComparator() {
 		return new TypeItemsComparator(fFilter);
@@ -1124,6 +1170,23 @@ public class FilteredTypesSelectionDialog extends FilteredItemsSelectionDialog i
 
 	}
 
+	/**
+	 * The rows of the type name index found by the last search.
+	 */
+	private static class IndexResult {
+		final TypeNameIndex.Table fTable;
+
+		final TypeInfoFilter fFilter;
+
+		final int[] fRows;
+
+		public IndexResult(TypeNameIndex.Table table, TypeInfoFilter filter, int[] rows) {
+			fTable= table;
+			fFilter= filter;
+			fRows= rows;
+		}
+	}
+
 	/**
 	 * Compares TypeItems is used during sorting
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,11 @@ package org.eclipse.jdt.internal.ui.packageview;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
@@ -83,6 +86,12 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	protected static final int GRANT_PARENT= 1 << 1;
 	protected static final int PROJECT= 1 << 2;
 
+	/**
+	 * The minimal time in milliseconds between two runs of the pending updates, so that a flood of
+	 * deltas does not keep the display busy.
+	 */
+	private static final int MIN_UPDATE_INTERVAL= 50;
+
 	private TreeViewer fViewer;
 	private Object fInput;
 	private boolean fIsFlatLayout;
@@ -93,6 +102,12 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 
 	private UIJob fUpdateJob;
 
+	private volatile long fLastUpdateTime;
+
+	/* the number of updates that were covered by other updates, and the number of updates that ran */
+	private long fMergedUpdateCount;
+	private long fExecutedUpdateCount;
+
 	/**
 	 * We use a cache to know whether a package has a single child for the hierarchical representation.
 	 * This avoids looping over all packages for each call to
@@ -184,7 +199,9 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 			};
 			fUpdateJob.setSystem(true);
 		}
-		fUpdateJob.schedule();
+		// updates that arrive in the meantime are coalesced with the pending ones
+		long delay= fLastUpdateTime + MIN_UPDATE_INTERVAL - System.currentTimeMillis();
+		fUpdateJob.schedule(Math.max(0, Math.min(delay, MIN_UPDATE_INTERVAL)));
 	}
 
 	/**
@@ -202,15 +219,134 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 				runUpdates(pendingUpdates);
 			}
 		}
+		fLastUpdateTime= System.currentTimeMillis();
 	}
 
 	private void runUpdates(Collection<Runnable> runnables) {
-		Iterator<Runnable> runnableIterator = runnables.iterator();
+		Iterator<Runnable> runnableIterator = coalesceUpdates(runnables).iterator();
 		while (runnableIterator.hasNext()){
 			runnableIterator.next().run();
+			fExecutedUpdateCount++;
 		}
 	}
 
+	/**
+	 * Returns the number of updates that were dropped because other updates covered them.
+	 * Must be called in the display thread.
+	 *
+	 * @return the number of merged updates
+	 */
+	public long getMergedUpdateCount() {
+		return fMergedUpdateCount;
+	}
+
+	/**
+	 * Returns the number of updates that were applied to the viewer. Must be called in the display
+	 * thread.
+	 *
+	 * @return the number of executed updates
+	 */
+	public long getExecutedUpdateCount() {
+		return fExecutedUpdateCount;
+	}
+
+	/*
+	 * Drops the refreshes and icon updates that are covered by other updates of the same batch. A
+	 * refresh reads the model when it runs, so only the last refresh of an element is kept. It
+	 * covers the refreshes of all items below the element, and if it updates the labels, also their
+	 * icon updates.
+	 */
+	private List<Runnable> coalesceUpdates(Collection<Runnable> runnables) {
+		List<Runnable> updates= new ArrayList<>(runnables);
+		Map<Object, Boolean> refreshed= new HashMap<>();
+		Map<Object, Integer> lastRefresh= new HashMap<>();
+		Map<Object, Integer> lastIconUpdate= new HashMap<>();
+		for (int i= 0; i < updates.size(); i++) {
+			Runnable update= updates.get(i);
+			if (update instanceof RefreshUpdate) {
+				RefreshUpdate refresh= (RefreshUpdate) update;
+				for (Object element : refresh.fElements) {
+					refreshed.merge(element, Boolean.valueOf(refresh.fUpdateLabels), Boolean::logicalOr);
+					lastRefresh.put(element, Integer.valueOf(i));
+				}
+			} else if (update instanceof IconUpdate) {
+				lastIconUpdate.put(((IconUpdate) update).fElement, Integer.valueOf(i));
+			}
+		}
+		if (refreshed.isEmpty() && lastIconUpdate.isEmpty()) {
+			return updates;
+		}
+
+		List<Runnable> result= new ArrayList<>(updates.size());
+		for (int i= 0; i < updates.size(); i++) {
+			Runnable update= updates.get(i);
+			if (update instanceof RefreshUpdate) {
+				for (Object element : ((RefreshUpdate) update).fElements) {
+					boolean updateLabels= refreshed.get(element).booleanValue();
+					Integer last= lastRefresh.get(element);
+					if (last != null && last.intValue() == i && !isCoveredByRefresh(element, updateLabels, refreshed)) {
+						lastRefresh.remove(element);
+						result.add(new RefreshUpdate(Collections.singletonList(element), updateLabels));
+					} else {
+						fMergedUpdateCount++;
+					}
+				}
+			} else if (update instanceof IconUpdate) {
+				IJavaElement element= ((IconUpdate) update).fElement;
+				if (lastIconUpdate.get(element).intValue() == i && !covers(refreshed.get(element), true) && !isCoveredByRefresh(element, true, refreshed)) {
+					result.add(update);
+				} else {
+					fMergedUpdateCount++;
+				}
+			} else {
+				result.add(update);
+			}
+		}
+		return result;
+	}
+
+	/*
+	 * Returns whether all items of the given element are below items that are refreshed.
+	 */
+	private boolean isCoveredByRefresh(Object element, boolean updateLabels, Map<Object, Boolean> refreshed) {
+		Object input= fViewer.getInput();
+		if (element == null || element.equals(input)) {
+			return false;
+		}
+		Widget[] items= fViewer.testFindItems(element);
+		if (items.length == 0) {
+			return false;
+		}
+		for (Widget item : items) {
+			if (!(item instanceof TreeItem)) {
+				return false;
+			}
+		}
+		// a refresh of the input refreshes the whole tree
+		if (covers(refreshed.get(null), updateLabels) || (input != null && covers(refreshed.get(input), updateLabels))) {
+			return true;
+		}
+		for (Widget item : items) {
+			if (!hasRefreshedParent((TreeItem) item, updateLabels, refreshed)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasRefreshedParent(TreeItem item, boolean updateLabels, Map<Object, Boolean> refreshed) {
+		for (TreeItem parent= item.getParentItem(); parent != null; parent= parent.getParentItem()) {
+			if (covers(refreshed.get(parent.getData()), updateLabels)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean covers(Boolean refreshedWithLabels, boolean updateLabels) {
+		return refreshedWithLabels != null && (refreshedWithLabels.booleanValue() || !updateLabels);
+	}
+
 
 	private boolean inputDeleted(Collection<Runnable> runnables) {
 		if (fInput == null)
@@ -831,13 +967,54 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 		return project.isOnClasspath(element);
 	}
 
+	/**
+	 * A refresh of elements, can be merged with other refreshes by {@link #coalesceUpdates(Collection)}.
+	 */
+	private final class RefreshUpdate implements Runnable {
+
+		final List<Object> fElements;
+		final boolean fUpdateLabels;
+
+		RefreshUpdate(List<Object> elements, boolean updateLabels) {
+			fElements= elements;
+			fUpdateLabels= updateLabels;
+		}
+
+		@Override
+		public void run() {
+			for (Object element : fElements.toArray()) {
+				if (element == null || fViewer.testFindItems(element).length > 0) {
+					fViewer.refresh(element, fUpdateLabels);
+				}
+			}
+		}
+	}
+
+	/**
+	 * An update of the icon of an element, can be merged with other updates by
+	 * {@link #coalesceUpdates(Collection)}.
+	 */
+	private final class IconUpdate implements Runnable {
+
+		final IJavaElement fElement;
+
+		IconUpdate(IJavaElement element) {
+			fElement= element;
+		}
+
+		@Override
+		public void run() {
+			fViewer.update(fElement, new String[] { IBasicPropertyConstants.P_IMAGE });
+		}
+	}
+
 	/**
 	 * Updates the package icon
 	 * @param element the element to update
 	 * @param runnables the resulting view changes as runnables (type {@link Runnable})
 	 */
 	 private void postUpdateIcon(final IJavaElement element, Collection<Runnable> runnables) {
-		 runnables.add(() -> fViewer.update(element, new String[]{IBasicPropertyConstants.P_IMAGE}));
+		 runnables.add(new IconUpdate(element));
 	 }
 
 	/**
@@ -949,13 +1126,7 @@ public class PackageExplorerContentProvider extends StandardJavaElementContentPr
 	}
 
 	protected void postRefresh(final List<Object> toRefresh, final boolean updateLabels, Collection<Runnable> runnables) {
-		runnables.add(() -> {
-			for (Object element : toRefresh.toArray()) {
-				if (element == null || fViewer.testFindItems(element).length > 0) {
-					fViewer.refresh(element, updateLabels);
-				}
-			}
-		});
+		runnables.add(new RefreshUpdate(toRefresh, updateLabels));
 	}
 
 	protected void postAdd(final Object parent, final Object element, Collection<Runnable> runnables) {
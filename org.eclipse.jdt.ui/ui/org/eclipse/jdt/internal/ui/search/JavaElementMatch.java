@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,46 +17,56 @@ import org.eclipse.search.ui.text.Match;
 
 /**
  * A search match with additional java-specific info.
+ * <p>
+ * Searches can return millions of matches, so the java-specific info is packed into a single
+ * <code>int</code>: the accuracy and the access flags in the lowest byte, the match rule above.
+ * </p>
  */
 public class JavaElementMatch extends Match {
-	private final int fAccuracy;
-	private final int fMatchRule;
-	private final boolean fIsWriteAccess;
-	private final boolean fIsReadAccess;
-	private final boolean fIsJavadoc;
-	private final boolean fIsSuperInvocation;
+	private static final int ACCURACY_MASK= 0x3;
+	private static final int READ_ACCESS= 0x4;
+	private static final int WRITE_ACCESS= 0x8;
+	private static final int JAVADOC= 0x10;
+	private static final int SUPER_INVOCATION= 0x20;
+	private static final int MATCH_RULE_SHIFT= 8;
+
+	private final int fInfo;
 
 	JavaElementMatch(Object element, int matchRule, int offset, int length, int accuracy, boolean isReadAccess, boolean isWriteAccess, boolean isJavadoc, boolean isSuperInvocation) {
 		super(element, offset, length);
-		fAccuracy= accuracy;
-		fMatchRule= matchRule;
-		fIsWriteAccess= isWriteAccess;
-		fIsReadAccess= isReadAccess;
-		fIsJavadoc= isJavadoc;
-		fIsSuperInvocation= isSuperInvocation;
+		int info= (accuracy & ACCURACY_MASK) | matchRule << MATCH_RULE_SHIFT;
+		if (isReadAccess)
+			info|= READ_ACCESS;
+		if (isWriteAccess)
+			info|= WRITE_ACCESS;
+		if (isJavadoc)
+			info|= JAVADOC;
+		if (isSuperInvocation)
+			info|= SUPER_INVOCATION;
+		fInfo= info;
 	}
 
 	public int getAccuracy() {
-		return fAccuracy;
+		return fInfo & ACCURACY_MASK;
 	}
 
 	public boolean isWriteAccess() {
-		return fIsWriteAccess;
+		return (fInfo & WRITE_ACCESS) != 0;
 	}
 
 	public boolean isReadAccess() {
-		return fIsReadAccess;
+		return (fInfo & READ_ACCESS) != 0;
 	}
 
 	public boolean isJavadoc() {
-		return fIsJavadoc;
+		return (fInfo & JAVADOC) != 0;
 	}
 
 	public boolean isSuperInvocation() {
-		return fIsSuperInvocation;
+		return (fInfo & SUPER_INVOCATION) != 0;
 	}
 
 	public int getMatchRule() {
-		return fMatchRule;
+		return fInfo >>> MATCH_RULE_SHIFT;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,10 +20,12 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.PerformanceStats;
 import org.eclipse.core.runtime.SafeRunner;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -81,20 +83,26 @@ public class JavaSearchQuery implements ISearchQuery {
 	private static class SearchRequestor implements ISearchRequestor {
 		private IQueryParticipant fParticipant;
 		private JavaSearchResult fSearchResult;
+		private MatchBuffer fMatches;
 		@Override
-		public void reportMatch(Match match) {
+		public synchronized void reportMatch(Match match) {
 			IMatchPresentation participant= fParticipant.getUIParticipant();
 			if (participant == null || match.getElement() instanceof IJavaElement || match.getElement() instanceof IResource) {
-				fSearchResult.addMatch(match);
+				fMatches.add(match);
 			} else {
 				fSearchResult.addMatch(match, participant);
 			}
 		}
 
+		synchronized void flush() {
+			fMatches.flush();
+		}
+
 		protected SearchRequestor(IQueryParticipant participant, JavaSearchResult result) {
 			super();
 			fParticipant= participant;
 			fSearchResult= result;
+			fMatches= new MatchBuffer(result);
 		}
 	}
 
@@ -174,45 +182,75 @@ public class JavaSearchQuery implements ISearchQuery {
 			boolean ignorePotentials= NewSearchUI.arePotentialMatchesIgnored();
 			NewSearchResultCollector collector= new NewSearchResultCollector(textResult, ignorePotentials);
 
-
-			engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+			// the participants search concurrently with the Java search
+			Job[] participantJobs= new Job[participantDescriptors.length];
 			for (int i= 0; i < participantDescriptors.length; i++) {
-				final ISearchRequestor requestor= new SearchRequestor(participantDescriptors[i].getParticipant(), textResult);
-				final IProgressMonitor participantPM= subMonitor.split(ticks[i]);
-
-				final int iPrime= i;
-				ISafeRunnable runnable= new ISafeRunnable() {
-					@Override
-					public void handleException(Throwable exception) {
-						participantDescriptors[iPrime].getDescriptor().disable();
-						String message= SearchMessages.JavaSearchQuery_error_participant_search;
-						JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
+				participantJobs[i]= createParticipantJob(participantDescriptors[i], textResult);
+				participantJobs[i].schedule();
+			}
+			try {
+				engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() }, getFirstSpecification().getScope(), collector, subMonitor.split(1000));
+				for (int i= 0; i < participantJobs.length; i++) {
+					participantJobs[i].join(0, subMonitor.split(ticks[i]));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} finally {
+				for (Job participantJob : participantJobs) {
+					participantJob.cancel();
+				}
+				// the participants must not add matches after the query has finished
+				try {
+					for (Job participantJob : participantJobs) {
+						participantJob.join();
 					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
 
-					@Override
-					public void run() throws Exception {
-
-						final IQueryParticipant participant= participantDescriptors[iPrime].getParticipant();
+		} catch (CoreException e) {
+			return e.getStatus();
+		}
+		String message= Messages.format(SearchMessages.JavaSearchQuery_status_ok_message, String.valueOf(textResult.getMatchCount()));
+		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
+	}
 
-						final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
-						stats.startRun();
+	private Job createParticipantJob(final SearchParticipantRecord participantDescriptor, JavaSearchResult result) {
+		final IQueryParticipant participant= participantDescriptor.getParticipant();
+		final SearchRequestor requestor= new SearchRequestor(participant, result);
+		Job job= Job.create(SearchMessages.JavaSearchQuery_label, monitor -> {
+			ISafeRunnable runnable= new ISafeRunnable() {
+				@Override
+				public void handleException(Throwable exception) {
+					if (exception instanceof OperationCanceledException) {
+						return;
+					}
+					participantDescriptor.getDescriptor().disable();
+					String message= SearchMessages.JavaSearchQuery_error_participant_search;
+					JavaPlugin.log(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), 0, message, exception));
+				}
 
+				@Override
+				public void run() throws Exception {
+					final PerformanceStats stats= PerformanceStats.getStats(PERF_SEARCH_PARTICIPANT, participant);
+					stats.startRun();
+					try {
 						for (QuerySpecification querySpecification : fPatternDataList) {
-							participant.search(requestor, querySpecification, participantPM);
+							participant.search(requestor, querySpecification, monitor);
 						}
-
+					} finally {
+						requestor.flush();
 						stats.endRun();
 					}
-				};
-
-				SafeRunner.run(runnable);
-			}
+				}
+			};
 
-		} catch (CoreException e) {
-			return e.getStatus();
-		}
-		String message= Messages.format(SearchMessages.JavaSearchQuery_status_ok_message, String.valueOf(textResult.getMatchCount()));
-		return new Status(IStatus.OK, JavaPlugin.getPluginId(), 0, message, null);
+			SafeRunner.run(runnable);
+		});
+		job.setSystem(true);
+		return job;
 	}
 
 	private int getMatchMode(String pattern) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,12 +81,15 @@ public class JavaSearchResult extends AbstractJavaSearchResult {
 
 	boolean addMatch(Match match, IMatchPresentation participant) {
 		Object element= match.getElement();
-		if (fElementsToParticipants.get(element) != null) {
-			// TODO must access the participant id / label to properly report the error.
-			JavaPlugin.log(new Status(IStatus.WARNING, JavaPlugin.getPluginId(), 0, "A second search participant was found for an element", null)); //$NON-NLS-1$
-			return false;
+		synchronized (this) {
+			// participants search concurrently
+			if (fElementsToParticipants.get(element) != null) {
+				// TODO must access the participant id / label to properly report the error.
+				JavaPlugin.log(new Status(IStatus.WARNING, JavaPlugin.getPluginId(), 0, "A second search participant was found for an element", null)); //$NON-NLS-1$
+				return false;
+			}
+			fElementsToParticipants.put(element, participant);
 		}
-		fElementsToParticipants.put(element, participant);
 		addMatch(match);
 		return true;
 	}
@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.Match;
+
+/**
+ * Collects matches and adds them to a search result in batches. Every batch results in one
+ * change event, so the search result page is updated at a bounded rate instead of once per match.
+ * <p>
+ * Every thread that reports matches uses its own buffer. Matches that are not followed by further
+ * matches are flushed by a job after the flush interval, so they do not stay hidden while the
+ * search is busy without finding anything.
+ * </p>
+ */
+final class MatchBuffer {
+
+	private static final int MAX_BATCH_SIZE= 4096;
+	private static final long FLUSH_INTERVAL_MS= 200;
+	private static final long FLUSH_INTERVAL_NANOS= FLUSH_INTERVAL_MS * 1_000_000L;
+
+	private final AbstractTextSearchResult fResult;
+	private final List<Match> fMatches= new ArrayList<>();
+	private final Job fFlushJob;
+	private long fLastFlush;
+	private boolean fFlushScheduled;
+
+	MatchBuffer(AbstractTextSearchResult result) {
+		fResult= result;
+		fLastFlush= System.nanoTime();
+		fFlushJob= Job.createSystem(SearchMessages.JavaSearchQuery_label, monitor -> {
+			synchronized (this) {
+				fFlushScheduled= false;
+				flush();
+			}
+		});
+	}
+
+	/**
+	 * Adds a match to the buffer. The buffer is flushed when it is full or when the last flush
+	 * is longer ago than the flush interval. Otherwise, a flush is scheduled after the flush
+	 * interval.
+	 *
+	 * @param match the match
+	 */
+	synchronized void add(Match match) {
+		fMatches.add(match);
+		if (fMatches.size() >= MAX_BATCH_SIZE || System.nanoTime() - fLastFlush >= FLUSH_INTERVAL_NANOS) {
+			flush();
+		} else if (!fFlushScheduled) {
+			fFlushScheduled= true;
+			fFlushJob.schedule(FLUSH_INTERVAL_MS);
+		}
+	}
+
+	/**
+	 * Adds the buffered matches to the search result.
+	 */
+	synchronized void flush() {
+		if (!fMatches.isEmpty()) {
+			fResult.addMatches(fMatches.toArray(new Match[fMatches.size()]));
+			fMatches.clear();
+		}
+		fLastFlush= System.nanoTime();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.search;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.eclipse.core.runtime.CoreException;
 
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
@@ -28,13 +31,16 @@ import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchRequestor;
 
 public class NewSearchResultCollector extends SearchRequestor {
-	private AbstractTextSearchResult fSearch;
+	private MatchBuffer fMatches;
 	private boolean fIgnorePotentials;
+	/* the search engine creates a new handle for every match, equal handles are shared */
+	private Map<IJavaElement, IJavaElement> fElements;
 
 	public NewSearchResultCollector(AbstractTextSearchResult search, boolean ignorePotentials) {
 		super();
-		fSearch= search;
+		fMatches= new MatchBuffer(search);
 		fIgnorePotentials= ignorePotentials;
+		fElements= new HashMap<>();
 	}
 
 	@Override
@@ -43,6 +49,10 @@ public class NewSearchResultCollector extends SearchRequestor {
 		if (enclosingElement != null) {
 			if (fIgnorePotentials && (match.getAccuracy() == SearchMatch.A_INACCURATE))
 				return;
+			IJavaElement sharedElement= fElements.putIfAbsent(enclosingElement, enclosingElement);
+			if (sharedElement != null) {
+				enclosingElement= sharedElement;
+			}
 			boolean isWriteAccess= false;
 			boolean isReadAccess= false;
 			if (match instanceof FieldReferenceMatch) {
@@ -63,7 +73,7 @@ public class NewSearchResultCollector extends SearchRequestor {
 				MethodReferenceMatch methodRef= (MethodReferenceMatch) match;
 				isSuperInvocation= methodRef.isSuperInvocation();
 			}
-			fSearch.addMatch(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
+			fMatches.add(new JavaElementMatch(enclosingElement, match.getRule(), match.getOffset(), match.getLength(), match.getAccuracy(), isReadAccess, isWriteAccess, match.isInsideDocComment(), isSuperInvocation));
 		}
 	}
 
@@ -73,6 +83,8 @@ public class NewSearchResultCollector extends SearchRequestor {
 
 	@Override
 	public void endReporting() {
+		fMatches.flush();
+		fElements.clear();
 	}
 
 	@Override
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -433,6 +433,15 @@ public class LazyJavaCompletionProposal extends AbstractJavaCompletionProposal {
 		fContextInformationPosition= contextInformationPosition;
 	}
 
+	/*
+	 * @see org.eclipse.jdt.internal.ui.text.java.AbstractJavaCompletionProposal#apply(org.eclipse.jface.text.IDocument, char, int)
+	 */
+	@Override
+	public void apply(IDocument document, char trigger, int offset) {
+		super.apply(document, trigger, offset);
+		RelevanceComputer.rememberUsage(null, fProposal);
+	}
+
 	/*
 	 * @see org.eclipse.jdt.internal.ui.text.java.AbstractJavaCompletionProposal#apply(org.eclipse.jface.text.ITextViewer, char, int, int)
 	 * @since 3.7
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.contentassist.IContextInformation;
 
+import org.eclipse.jdt.core.CompletionContext;
 import org.eclipse.jdt.core.CompletionProposal;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
@@ -253,6 +254,9 @@ public class LazyJavaTypeCompletionProposal extends LazyJavaCompletionProposal {
 		IType rhs= (IType) getJavaElement();
 		if (lhs != null && rhs != null)
 			JavaPlugin.getDefault().getContentAssistHistory().remember(lhs, rhs);
+		char[] expectedTypeSignature= getExpectedTypeSignature();
+		if (expectedTypeSignature != null)
+			RelevanceComputer.rememberUsage(expectedTypeSignature, fProposal);
 
 		QualifiedTypeNameHistory.remember(getQualifiedTypeName());
 	}
@@ -405,7 +409,23 @@ public class LazyJavaTypeCompletionProposal extends LazyJavaCompletionProposal {
 		int rhsBoost= rhsHistoryRank > 0.0f ? 50 : 0;
 		int baseRelevance= super.computeRelevance();
 
-		return baseRelevance +  rhsBoost + recencyBoost;
+		/*
+		 * The usage store counts how often the type has been chosen for the expected type, while
+		 * the base relevance already contains how often it has been chosen at all. Only the part of
+		 * the usage for the expected type that exceeds the general usage is added.
+		 */
+		char[] expectedTypeSignature= getExpectedTypeSignature();
+		int usageBoost= expectedTypeSignature != null ? RelevanceComputer.computeExpectedTypeUsageBoost(expectedTypeSignature, fProposal) : 0;
+
+		return baseRelevance +  rhsBoost + recencyBoost + usageBoost;
+	}
+
+	private char[] getExpectedTypeSignature() {
+		CompletionContext context= fInvocationContext.getCoreContext();
+		if (context == null)
+			return null;
+		char[][] expectedTypes= context.getExpectedTypesSignatures();
+		return expectedTypes != null && expectedTypes.length > 0 ? expectedTypes[0] : null;
 	}
 
 	/*
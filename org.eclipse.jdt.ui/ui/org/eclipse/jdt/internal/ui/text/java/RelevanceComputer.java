@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,24 @@ package org.eclipse.jdt.internal.ui.text.java;
 
 import org.eclipse.jdt.core.CompletionProposal;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
 public class RelevanceComputer {
 
+	/**
+	 * The factor of the core relevance. The kind of the proposal adds up to 6 to the relevance.
+	 */
+	private static final int RELEVANCE_FACTOR= 16;
+
+	/**
+	 * The boost for a proposal that is chosen all the time. Together with the largest offset for
+	 * the kind of the proposal, the boost stays below the step between two core relevance values,
+	 * so that usage does not override the relevance computed by the core.
+	 */
+	private static final int MAX_USAGE_BOOST= RELEVANCE_FACTOR - 7;
+
+	private static final long NO_USAGE_KEY= 0;
+
 	/**
 	 * Computes the relevance for a given <code>CompletionProposal</code>.
 	 *
@@ -24,7 +40,7 @@ public class RelevanceComputer {
 	 * @return the relevance for <code>proposal</code>
 	 */
 	public static int computeRelevance(CompletionProposal proposal) {
-		final int baseRelevance= proposal.getRelevance() * 16;
+		final int baseRelevance= proposal.getRelevance() * RELEVANCE_FACTOR + computeUsageBoost(null, proposal);
 		switch (proposal.getKind()) {
 			case CompletionProposal.PACKAGE_REF:
 				return baseRelevance + 0;
@@ -53,6 +69,66 @@ public class RelevanceComputer {
 		}
 	}
 
+	/**
+	 * Computes the boost for how often the given proposal has been chosen in the given context.
+	 *
+	 * @param expectedTypeSignature the signature of the expected type, or <code>null</code> to use
+	 *            the declaration of the proposal as context
+	 * @param proposal the proposal
+	 * @return the boost, <code>0</code> if the proposal has not been chosen recently
+	 */
+	public static int computeUsageBoost(char[] expectedTypeSignature, CompletionProposal proposal) {
+		long key= getUsageKey(expectedTypeSignature, proposal);
+		if (key == NO_USAGE_KEY)
+			return 0;
+		return Math.round(JavaPlugin.getDefault().getRelevanceStore().getRelevance(key) * MAX_USAGE_BOOST);
+	}
+
+	/**
+	 * Computes the boost for how often the given type proposal has been chosen for the expected
+	 * type, in addition to the boost for its declaration that {@link #computeRelevance(CompletionProposal)}
+	 * already contains. The sum of both boosts does not exceed the boost of a proposal that is
+	 * chosen all the time.
+	 *
+	 * @param expectedTypeSignature the signature of the expected type
+	 * @param proposal the type proposal
+	 * @return the additional boost, <code>0</code> if the proposal has been chosen more often for
+	 *         its declaration than for the expected type
+	 */
+	public static int computeExpectedTypeUsageBoost(char[] expectedTypeSignature, CompletionProposal proposal) {
+		return Math.max(0, computeUsageBoost(expectedTypeSignature, proposal) - computeUsageBoost(null, proposal));
+	}
+
+	/**
+	 * Records that the given proposal has been chosen in the given context.
+	 *
+	 * @param expectedTypeSignature the signature of the expected type, or <code>null</code> to use
+	 *            the declaration of the proposal as context
+	 * @param proposal the chosen proposal
+	 */
+	public static void rememberUsage(char[] expectedTypeSignature, CompletionProposal proposal) {
+		long key= getUsageKey(expectedTypeSignature, proposal);
+		if (key != NO_USAGE_KEY)
+			JavaPlugin.getDefault().getRelevanceStore().record(key);
+	}
+
+	private static long getUsageKey(char[] expectedTypeSignature, CompletionProposal proposal) {
+		switch (proposal.getKind()) {
+			case CompletionProposal.TYPE_REF:
+			case CompletionProposal.METHOD_REF:
+			case CompletionProposal.CONSTRUCTOR_INVOCATION:
+			case CompletionProposal.METHOD_NAME_REFERENCE:
+			case CompletionProposal.FIELD_REF:
+				break;
+			default:
+				return NO_USAGE_KEY;
+		}
+		char[] context= expectedTypeSignature != null ? expectedTypeSignature : proposal.getDeclarationSignature();
+		long key= RelevanceStore.hash(RelevanceStore.KEY_SEED, context);
+		key= RelevanceStore.hash(key, proposal.getName());
+		return RelevanceStore.hash(key, proposal.getSignature());
+	}
+
 	private RelevanceComputer() {
 	}
 }
@@ -0,0 +1,393 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Counts how often content assist proposals have been chosen in a context, for example a type for
+ * an expected type or a member of a declaring type. Older choices count less than recent ones: the
+ * score of a choice halves every {@link #HALF_LIFE_HOURS} hours.
+ * <p>
+ * The store does not keep the names of the choices. A choice is identified by a 64 bit key that
+ * clients compute with {@link #hash(long, char[])}, starting from {@link #KEY_SEED}. The keys are
+ * kept in an open addressing hash table of fixed capacity, so that looking up a score takes
+ * constant time and no objects are allocated. The table lives in a memory mapped file, or in direct
+ * memory if no file is given. When the table gets too full, the choices with the lower half of the
+ * scores are dropped.
+ * </p>
+ * <p>
+ * The content assist history ({@link ContentAssistHistory}) and the qualified type name history
+ * remember the most recent choices only; this store complements them with usage frequencies.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class RelevanceStore {
+
+	/**
+	 * The first value of a key, to be passed to {@link #hash(long, char[])}.
+	 */
+	public static final long KEY_SEED= 0xcbf29ce484222325L;
+
+	/**
+	 * The default number of slots, enough for about 190000 choices.
+	 */
+	public static final int DEFAULT_CAPACITY= 1 << 18;
+
+	/**
+	 * The number of hours after which the score of a choice has halved.
+	 */
+	public static final int HALF_LIFE_HOURS= 30 * 24;
+
+	private static final int MAGIC= 0x4A52454C;
+	private static final int VERSION= 1;
+
+	/* header: magic, version, capacity, size */
+	private static final int HEADER_SIZE= 16;
+	private static final int SIZE_OFFSET= 12;
+
+	/* slot: long key, float score, int hour of the last update */
+	private static final int SLOT_SIZE= 16;
+	private static final int SCORE_OFFSET= 8;
+	private static final int HOUR_OFFSET= 12;
+
+	private static final float MAX_LOAD_FACTOR= 0.75f;
+
+	/* the score of a choice that has a relevance of 0.5 */
+	private static final float HALF_RELEVANCE_SCORE= 4;
+
+	private static final long FNV_PRIME= 0x100000001b3L;
+
+	/* separates the parts of a key, is not a char value */
+	private static final int PART_SEPARATOR= 0x10000;
+
+	private static final double DECAY_PER_HOUR= Math.log(2) / HALF_LIFE_HOURS;
+
+	private final int fCapacity;
+	private final int fMaxSize;
+	private final FileChannel fChannel;
+	private ByteBuffer fBuffer;
+	private int fSize;
+
+	/**
+	 * Creates a store in direct memory.
+	 *
+	 * @param capacity the number of slots, a power of two
+	 */
+	public RelevanceStore(int capacity) {
+		checkCapacity(capacity);
+		fCapacity= capacity;
+		fMaxSize= (int) (capacity * MAX_LOAD_FACTOR);
+		fChannel= null;
+		fBuffer= ByteBuffer.allocateDirect(HEADER_SIZE + capacity * SLOT_SIZE);
+		clear();
+	}
+
+	/**
+	 * Opens the store in the given file. The file is created if it does not exist yet. If it has
+	 * not been written by a store with the same capacity, it is cleared.
+	 *
+	 * @param file the backing file
+	 * @param capacity the number of slots, a power of two
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public RelevanceStore(Path file, int capacity) throws IOException {
+		checkCapacity(capacity);
+		fCapacity= capacity;
+		fMaxSize= (int) (capacity * MAX_LOAD_FACTOR);
+		fChannel= FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			MappedByteBuffer buffer= fChannel.map(MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * SLOT_SIZE);
+			fBuffer= buffer;
+			int size= buffer.getInt(SIZE_OFFSET);
+			if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION && buffer.getInt(8) == capacity && size >= 0 && size <= fMaxSize) {
+				fSize= size;
+			} else {
+				clear();
+			}
+		} catch (IOException | RuntimeException e) {
+			fChannel.close();
+			throw e;
+		}
+	}
+
+	private static void checkCapacity(int capacity) {
+		if (capacity < 2 || Integer.bitCount(capacity) != 1 || capacity > (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE)
+			throw new IllegalArgumentException("capacity must be a power of two: " + capacity); //$NON-NLS-1$
+	}
+
+	/**
+	 * Adds a part to a key.
+	 *
+	 * @param key the key so far, {@link #KEY_SEED} for the first part
+	 * @param part the part to add, can be <code>null</code>
+	 * @return the new key
+	 */
+	public static long hash(long key, char[] part) {
+		long hash= key;
+		if (part != null) {
+			for (char c : part) {
+				hash= (hash ^ c) * FNV_PRIME;
+			}
+		}
+		return (hash ^ PART_SEPARATOR) * FNV_PRIME;
+	}
+
+	/**
+	 * Adds a part to a key. Returns the same key as {@link #hash(long, char[])} for the characters
+	 * of the part.
+	 *
+	 * @param key the key so far, {@link #KEY_SEED} for the first part
+	 * @param part the part to add, can be <code>null</code>
+	 * @return the new key
+	 */
+	public static long hash(long key, String part) {
+		long hash= key;
+		if (part != null) {
+			for (int i= 0; i < part.length(); i++) {
+				hash= (hash ^ part.charAt(i)) * FNV_PRIME;
+			}
+		}
+		return (hash ^ PART_SEPARATOR) * FNV_PRIME;
+	}
+
+	/**
+	 * Returns the current time in hours, as used by {@link #record(long)}.
+	 *
+	 * @return the current hour
+	 */
+	public static int currentHour() {
+		return (int) (System.currentTimeMillis() / (60 * 60 * 1000));
+	}
+
+	/**
+	 * Records that the choice with the given key has been made now.
+	 *
+	 * @param key the key of the choice
+	 */
+	public void record(long key) {
+		record(key, currentHour());
+	}
+
+	/**
+	 * Records that the choice with the given key has been made at the given time.
+	 *
+	 * @param key the key of the choice
+	 * @param hour the time in hours
+	 */
+	public synchronized void record(long key, int hour) {
+		if (fBuffer == null)
+			return;
+		long k= toTableKey(key);
+		int slot= findSlot(k);
+		int offset= slotOffset(slot);
+		if (fBuffer.getLong(offset) == k) {
+			float score= decay(fBuffer.getFloat(offset + SCORE_OFFSET), fBuffer.getInt(offset + HOUR_OFFSET), hour);
+			fBuffer.putFloat(offset + SCORE_OFFSET, score + 1);
+			fBuffer.putInt(offset + HOUR_OFFSET, Math.max(hour, fBuffer.getInt(offset + HOUR_OFFSET)));
+			return;
+		}
+		if (fSize >= fMaxSize) {
+			prune(hour);
+			offset= slotOffset(findSlot(k));
+		}
+		putSlot(offset, k, 1, hour);
+		setSize(fSize + 1);
+	}
+
+	/**
+	 * Returns the score of the choice with the given key now, that is the number of times it has
+	 * been chosen, with older choices counting less.
+	 *
+	 * @param key the key of the choice
+	 * @return the score, <code>0</code> if the choice is unknown
+	 */
+	public float getScore(long key) {
+		return getScore(key, currentHour());
+	}
+
+	/**
+	 * Returns the score of the choice with the given key at the given time.
+	 *
+	 * @param key the key of the choice
+	 * @param hour the time in hours
+	 * @return the score, <code>0</code> if the choice is unknown
+	 */
+	public synchronized float getScore(long key, int hour) {
+		if (fBuffer == null)
+			return 0;
+		long k= toTableKey(key);
+		int offset= slotOffset(findSlot(k));
+		if (fBuffer.getLong(offset) != k)
+			return 0;
+		return decay(fBuffer.getFloat(offset + SCORE_OFFSET), fBuffer.getInt(offset + HOUR_OFFSET), hour);
+	}
+
+	/**
+	 * Returns the relevance of the choice with the given key now. The relevance grows with the
+	 * score and is <code>0.5</code> for a choice that has been made four times recently.
+	 *
+	 * @param key the key of the choice
+	 * @return the relevance, in <code>[0, 1)</code>
+	 */
+	public float getRelevance(long key) {
+		float score= getScore(key);
+		return score / (score + HALF_RELEVANCE_SCORE);
+	}
+
+	/**
+	 * Returns the number of choices in this store.
+	 *
+	 * @return the number of choices
+	 */
+	public synchronized int size() {
+		return fSize;
+	}
+
+	/**
+	 * Removes all choices from this store.
+	 */
+	public synchronized void clear() {
+		if (fBuffer == null)
+			return;
+		for (int offset= HEADER_SIZE, end= slotOffset(fCapacity); offset < end; offset+= 8) {
+			fBuffer.putLong(offset, 0);
+		}
+		fBuffer.putInt(0, MAGIC);
+		fBuffer.putInt(4, VERSION);
+		fBuffer.putInt(8, fCapacity);
+		setSize(0);
+	}
+
+	/**
+	 * Writes the changes to the backing file, if there is one.
+	 */
+	public synchronized void flush() {
+		if (fBuffer instanceof MappedByteBuffer)
+			((MappedByteBuffer) fBuffer).force();
+	}
+
+	/**
+	 * Writes the changes to the backing file and closes it. The store is empty afterwards and
+	 * ignores new choices.
+	 *
+	 * @throws IOException if the backing file cannot be closed
+	 */
+	public synchronized void close() throws IOException {
+		flush();
+		fBuffer= null;
+		fSize= 0;
+		if (fChannel != null)
+			fChannel.close();
+	}
+
+	/*
+	 * Keeps the half of the choices with the higher scores, so that the table can take new choices
+	 * without getting slow.
+	 */
+	private void prune(int hour) {
+		long[] keys= new long[fSize];
+		float[] scores= new float[fSize];
+		int count= 0;
+		for (int slot= 0; slot < fCapacity; slot++) {
+			int offset= slotOffset(slot);
+			long k= fBuffer.getLong(offset);
+			if (k != 0) {
+				keys[count]= k;
+				scores[count]= decay(fBuffer.getFloat(offset + SCORE_OFFSET), fBuffer.getInt(offset + HOUR_OFFSET), hour);
+				count++;
+			}
+		}
+		int keep= count / 2;
+		float[] sorted= Arrays.copyOf(scores, count);
+		Arrays.sort(sorted);
+		float threshold= keep > 0 ? sorted[count - keep] : Float.MAX_VALUE;
+
+		clear();
+		int size= 0;
+		// the scores above the threshold first, then as many ties as fit
+		for (int i= 0; i < count && size < keep; i++) {
+			if (scores[i] > threshold) {
+				putSlot(slotOffset(findSlot(keys[i])), keys[i], scores[i], hour);
+				size++;
+			}
+		}
+		for (int i= 0; i < count && size < keep; i++) {
+			if (scores[i] == threshold) {
+				putSlot(slotOffset(findSlot(keys[i])), keys[i], scores[i], hour);
+				size++;
+			}
+		}
+		setSize(size);
+	}
+
+	/*
+	 * Returns the slot that holds the given key, or the empty slot where it would be added.
+	 */
+	private int findSlot(long k) {
+		int mask= fCapacity - 1;
+		int slot= (int) mix(k) & mask;
+		while (true) {
+			long current= fBuffer.getLong(slotOffset(slot));
+			if (current == k || current == 0)
+				return slot;
+			slot= (slot + 1) & mask;
+		}
+	}
+
+	private void putSlot(int offset, long k, float score, int hour) {
+		fBuffer.putLong(offset, k);
+		fBuffer.putFloat(offset + SCORE_OFFSET, score);
+		fBuffer.putInt(offset + HOUR_OFFSET, hour);
+	}
+
+	private void setSize(int size) {
+		fSize= size;
+		fBuffer.putInt(SIZE_OFFSET, size);
+	}
+
+	private static int slotOffset(int slot) {
+		return HEADER_SIZE + slot * SLOT_SIZE;
+	}
+
+	/* 0 marks an empty slot */
+	private static long toTableKey(long key) {
+		return key == 0 ? 1 : key;
+	}
+
+	private static long mix(long key) {
+		long h= key;
+		h^= h >>> 33;
+		h*= 0xff51afd7ed558ccdL;
+		h^= h >>> 33;
+		h*= 0xc4ceb9fe1a85ec53L;
+		h^= h >>> 33;
+		return h;
+	}
+
+	private static float decay(float score, int fromHour, int toHour) {
+		if (toHour <= fromHour)
+			return score;
+		return (float) (score * Math.exp(-DECAY_PER_HOUR * (toHour - fromHour)));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,6 +35,7 @@ public abstract class AbstractHierarchyViewerSorter extends ViewerComparator {
 	private static final int CLASS= 2;
 	private static final int INTERFACE= 3;
 	private static final int ANONYM= 4;
+	private static final int MORE_TYPES= 5;
 
 	private JavaElementComparator fNormalSorter;
 	private SourcePositionComparator fSourcePositonSorter;
@@ -55,6 +56,9 @@ public abstract class AbstractHierarchyViewerSorter extends ViewerComparator {
 
 	@Override
 	public int category(Object element) {
+		if (element instanceof TypeHierarchyContentProvider.MoreTypesNode) {
+			return MORE_TYPES;
+		}
 		if (element instanceof IType) {
 			IType type= (IType) element;
 			try {
@@ -118,7 +122,7 @@ public abstract class AbstractHierarchyViewerSorter extends ViewerComparator {
 				return fNormalSorter.compare(viewer, e1, e2); // use appearance pref page settings
 			}
 			return 0;
-		} else if (cat1 == ANONYM) {
+		} else if (cat1 == ANONYM || cat1 == MORE_TYPES) {
 			return 0;
 		} else if (isSortAlphabetically()) {
 			String name1= ((IType) e1).getElementName();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.jface.resource.JFaceResources;
+import org.eclipse.jface.viewers.StyledString;
 import org.eclipse.jface.viewers.ViewerFilter;
 
 import org.eclipse.jdt.core.Flags;
@@ -32,6 +33,8 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
 
+import org.eclipse.jdt.internal.corext.util.Messages;
+
 import org.eclipse.jdt.ui.JavaElementImageDescriptor;
 import org.eclipse.jdt.ui.JavaElementLabels;
 
@@ -53,6 +56,8 @@ public class HierarchyLabelProvider extends AppearanceAwareLabelProvider {
 
 	private TypeHierarchyLifeCycle fHierarchy;
 
+	private TypeHierarchyContentProvider fPagingContentProvider;
+
 	public HierarchyLabelProvider(TypeHierarchyLifeCycle lifeCycle) {
 		super(DEFAULT_TEXTFLAGS | JavaElementLabels.USE_RESOLVED | JavaElementLabels.P_COMPRESSED, DEFAULT_IMAGEFLAGS);
 
@@ -74,6 +79,54 @@ public class HierarchyLabelProvider extends AppearanceAwareLabelProvider {
 		fFilter= filter;
 	}
 
+	/**
+	 * Sets the content provider that pages the children of types. The number of children is
+	 * appended to the labels of types with paged children.
+	 *
+	 * @param contentProvider the content provider, or <code>null</code>
+	 * @since 3.39
+	 */
+	public void setPagingContentProvider(TypeHierarchyContentProvider contentProvider) {
+		fPagingContentProvider= contentProvider;
+	}
+
+	@Override
+	public String getText(Object element) {
+		if (element instanceof TypeHierarchyContentProvider.MoreTypesNode) {
+			return getMoreTypesLabel((TypeHierarchyContentProvider.MoreTypesNode) element);
+		}
+		String text= super.getText(element);
+		int count= getPagedTypeChildCount(element);
+		if (count != -1) {
+			text+= Messages.format(TypeHierarchyMessages.HierarchyLabelProvider_type_count, Integer.valueOf(count));
+		}
+		return text;
+	}
+
+	@Override
+	public StyledString getStyledText(Object element) {
+		if (element instanceof TypeHierarchyContentProvider.MoreTypesNode) {
+			return new StyledString(getMoreTypesLabel((TypeHierarchyContentProvider.MoreTypesNode) element), StyledString.QUALIFIER_STYLER);
+		}
+		StyledString text= super.getStyledText(element);
+		int count= getPagedTypeChildCount(element);
+		if (count != -1) {
+			text.append(Messages.format(TypeHierarchyMessages.HierarchyLabelProvider_type_count, Integer.valueOf(count)), StyledString.COUNTER_STYLER);
+		}
+		return text;
+	}
+
+	private int getPagedTypeChildCount(Object element) {
+		if (fPagingContentProvider != null && element instanceof IType) {
+			return fPagingContentProvider.getPagedTypeChildCount((IType) element);
+		}
+		return -1;
+	}
+
+	private static String getMoreTypesLabel(TypeHierarchyContentProvider.MoreTypesNode node) {
+		return Messages.format(TypeHierarchyMessages.HierarchyLabelProvider_more_types, Integer.valueOf(node.getRemaining()));
+	}
+
 	protected boolean isInDifferentHierarchyScope(IType type) {
 		if (fFilter != null && !fFilter.select(null, null, type)) {
 			return true;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,13 +14,17 @@
 package org.eclipse.jdt.internal.ui.typehierarchy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.viewers.ITreeContentProvider;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.jface.viewers.ViewerFilter;
 
 import org.eclipse.jdt.core.Flags;
@@ -44,6 +48,46 @@ import org.eclipse.jdt.ui.IWorkingCopyProvider;
 public abstract class TypeHierarchyContentProvider implements ITreeContentProvider, IWorkingCopyProvider {
 	protected static final Object[] NO_ELEMENTS= new Object[0];
 
+	/**
+	 * Placeholder for the type children of a type that are not shown yet because the children are
+	 * paged.
+	 *
+	 * @see TypeHierarchyContentProvider#setPageSize(int)
+	 * @since 3.39
+	 */
+	public static final class MoreTypesNode {
+
+		private final IType fParent;
+		private final int fRemaining;
+
+		MoreTypesNode(IType parent, int remaining) {
+			fParent= parent;
+			fRemaining= remaining;
+		}
+
+		public IType getParent() {
+			return fParent;
+		}
+
+		/**
+		 * @return the number of types that are not shown yet, an upper bound if some of them are
+		 *         filtered
+		 */
+		public int getRemaining() {
+			return fRemaining;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof MoreTypesNode && fParent.equals(((MoreTypesNode) obj).fParent);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fParent.hashCode() + 1;
+		}
+	}
+
 	protected TypeHierarchyLifeCycle fTypeHierarchy;
 	protected IMember[] fMemberFilter;
 
@@ -53,12 +97,31 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 	private MethodOverrideTester fMethodOverrideTester;
 	private ITypeHierarchyLifeCycleListener fTypeHierarchyLifeCycleListener;
 
+	/**
+	 * The number of type children shown per page, or <code>0</code> to show all type children.
+	 */
+	private int fPageSize;
+
+	/**
+	 * The sorted type children of the types with paged children. Guarded by itself.
+	 */
+	private final Map<IType, IType[]> fSortedTypeChildren;
+
+	/**
+	 * The number of type children currently shown for types with paged children. Guarded by
+	 * {@link #fSortedTypeChildren}.
+	 */
+	private final Map<IType, Integer> fShownTypeChildren;
+
 
 	public TypeHierarchyContentProvider(TypeHierarchyLifeCycle lifecycle) {
 		fTypeHierarchy= lifecycle;
 		fMemberFilter= null;
 		fWorkingSetFilter= null;
 		fMethodOverrideTester= null;
+		fPageSize= 0;
+		fSortedTypeChildren= new HashMap<>();
+		fShownTypeChildren= new HashMap<>();
 		fTypeHierarchyLifeCycleListener= new ITypeHierarchyLifeCycleListener() {
 			@Override
 			public void typeHierarchyChanged(TypeHierarchyLifeCycle typeHierarchyProvider, IType[] changedTypes) {
@@ -67,6 +130,9 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 						fMethodOverrideTester= null;
 					}
 				}
+				synchronized (fSortedTypeChildren) {
+					fSortedTypeChildren.clear();
+				}
 			}
 		};
 		lifecycle.addChangedListener(fTypeHierarchyLifeCycleListener);
@@ -83,6 +149,66 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 		fMemberFilter= memberFilter;
 	}
 
+	/**
+	 * Sets the number of type children that are shown at once. If a type has more children, only
+	 * the first page of children in the order of the viewer's comparator is returned, followed by a
+	 * {@link MoreTypesNode}. The children are sorted once per type and further pages are shown with
+	 * {@link #showMoreTypes(MoreTypesNode)}.
+	 *
+	 * @param pageSize the page size, or <code>0</code> to always show all children
+	 * @since 3.39
+	 */
+	public final void setPageSize(int pageSize) {
+		fPageSize= pageSize;
+		synchronized (fSortedTypeChildren) {
+			fSortedTypeChildren.clear();
+			fShownTypeChildren.clear();
+		}
+	}
+
+	/**
+	 * Shows the next page of type children of the parent of the given placeholder.
+	 *
+	 * @param node the placeholder
+	 * @since 3.39
+	 */
+	public void showMoreTypes(MoreTypesNode node) {
+		IType parent= node.getParent();
+		synchronized (fSortedTypeChildren) {
+			fShownTypeChildren.put(parent, Integer.valueOf(getShownTypeChildCount(parent) + fPageSize));
+		}
+		if (fViewer != null) {
+			fViewer.refresh(parent);
+		}
+	}
+
+	/**
+	 * Returns the number of type children of the given type if the children are paged. The
+	 * returned number is computed without applying filters. The children are only sorted and
+	 * cached when the type is expanded.
+	 *
+	 * @param type the type
+	 * @return the number of type children, or <code>-1</code> if the type has too few children to
+	 *         be paged or paging is disabled
+	 * @since 3.39
+	 */
+	public int getPagedTypeChildCount(IType type) {
+		if (fPageSize <= 0) {
+			return -1;
+		}
+		int count;
+		synchronized (fSortedTypeChildren) {
+			IType[] types= fSortedTypeChildren.get(type);
+			count= types != null ? types.length : -1;
+		}
+		if (count == -1) {
+			ArrayList<IType> types= new ArrayList<>();
+			getTypesInHierarchy(type, types);
+			count= types.size();
+		}
+		return count > fPageSize ? count : -1;
+	}
+
 	private boolean initializeMethodOverrideTester(IMethod filterMethod, IType typeToFindIn) {
 		IType filterType= filterMethod.getDeclaringType();
 		ITypeHierarchy hierarchy= fTypeHierarchy.getHierarchy();
@@ -254,7 +380,16 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 					addFilteredMemberChildren(type, children);
 				}
 
-				addTypeChildren(type, children);
+				if (fPageSize > 0) {
+					MoreTypesNode more= addTypeChildrenPage(type, children);
+					if (more != null) {
+						List<Object> result= new ArrayList<>(children);
+						result.add(more);
+						return result.toArray();
+					}
+				} else {
+					addTypeChildren(type, children);
+				}
 
 				return children.toArray();
 			} catch (JavaModelException e) {
@@ -292,6 +427,72 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 		}
 	}
 
+	private MoreTypesNode addTypeChildrenPage(IType type, List<IMember> children) throws JavaModelException {
+		IType[] types= getSortedTypesInHierarchy(type);
+		int limit;
+		synchronized (fSortedTypeChildren) {
+			limit= getShownTypeChildCount(type);
+		}
+		int added= 0;
+		int i= 0;
+		for (; i < types.length && added < limit; i++) {
+			IType curr= types[i];
+			if (isInTree(curr)) {
+				children.add(curr);
+				added++;
+			}
+		}
+		if (i < types.length) {
+			// the input types are always shown, so that they can be selected
+			IJavaElement[] input= fTypeHierarchy.getInputElements();
+			List<IJavaElement> inputList= input != null ? Arrays.asList(input) : List.of();
+			int remaining= 0;
+			for (int k= i; k < types.length; k++) {
+				IType curr= types[k];
+				if (isInTree(curr)) {
+					if (inputList.contains(curr)) {
+						children.add(curr);
+					} else {
+						remaining++;
+					}
+				}
+			}
+			if (remaining > 0) {
+				return new MoreTypesNode(type, remaining);
+			}
+		}
+		return null;
+	}
+
+	private IType[] getSortedTypesInHierarchy(IType type) {
+		synchronized (fSortedTypeChildren) {
+			IType[] types= fSortedTypeChildren.get(type);
+			if (types != null) {
+				return types;
+			}
+		}
+		ArrayList<IType> list= new ArrayList<>();
+		getTypesInHierarchy(type, list);
+		IType[] types= list.toArray(new IType[list.size()]);
+		if (types.length > fPageSize) {
+			// pages must follow the order of the viewer, which only sorts the elements of one page
+			ViewerComparator comparator= fViewer != null ? fViewer.getComparator() : null;
+			if (comparator != null) {
+				Arrays.sort(types, (t1, t2) -> comparator.compare(fViewer, t1, t2));
+			}
+			// only the children of paged types are cached
+			synchronized (fSortedTypeChildren) {
+				fSortedTypeChildren.put(type, types);
+			}
+		}
+		return types;
+	}
+
+	private int getShownTypeChildCount(IType type) {
+		Integer shown= fShownTypeChildren.get(type);
+		return shown != null ? shown.intValue() : fPageSize;
+	}
+
 	private void addTypeChildren(IType type, List<IMember> children) throws JavaModelException {
 		ArrayList<IType> types= new ArrayList<>();
 		getTypesInHierarchy(type, types);
@@ -348,6 +549,10 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 	public void inputChanged(Viewer part, Object oldInput, Object newInput) {
 		Assert.isTrue(part instanceof TreeViewer);
 		fViewer= (TreeViewer)part;
+		synchronized (fSortedTypeChildren) {
+			fSortedTypeChildren.clear();
+			fShownTypeChildren.clear();
+		}
 	}
 
 	/*
@@ -364,6 +569,9 @@ public abstract class TypeHierarchyContentProvider implements ITreeContentProvid
 	 */
 	@Override
 	public Object getParent(Object element) {
+		if (element instanceof MoreTypesNode) {
+			return ((MoreTypesNode) element).getParent();
+		}
 		if (element instanceof IMember) {
 			IMember member= (IMember) element;
 			if (member.getElementType() == IJavaElement.TYPE) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -84,6 +84,14 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 	 */
 	private boolean fRefreshJobCanceledExplicitly= true;
 
+	/**
+	 * Indicates whether the current hierarchy has been loaded from a snapshot and still has to be
+	 * replaced by a computed hierarchy.
+	 *
+	 * @since 3.39
+	 */
+	private volatile boolean fIsSnapshot;
+
 	/**
 	 * Creates the type hierarchy life cycle.
 	 *
@@ -124,6 +132,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			fHierarchy= null;
 			fInputElements= null;
 		}
+		fIsSnapshot= false;
 		synchronized (this) {
 			if (fRefreshHierarchyJob != null) {
 				fRefreshHierarchyJob.cancel();
@@ -212,6 +221,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 				context.run(true, true, op);
 				fHierarchyRefreshNeeded= false;
 			} else {
+				final boolean snapshotNeeded= hierachyCreationNeeded && isSnapshotCandidate(elements);
 				final String label= Messages.format(TypeHierarchyMessages.TypeHierarchyLifeCycle_computeInput, HistoryAction.getElementLabel(elements));
 				synchronized (this) {
 					fRefreshHierarchyJob= new Job(label) {
@@ -222,8 +232,17 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 						public IStatus run(IProgressMonitor pm) {
 							pm.beginTask(label, LONG);
 							try {
+								if (snapshotNeeded) {
+									loadSnapshot(elements, pm);
+								}
 								doHierarchyRefreshBackground(elements, pm);
 							} catch (OperationCanceledException e) {
+								if (fIsSnapshot) {
+									// the snapshot must not outlive the refresh that replaces it
+									fHierarchy= null;
+									fInputElements= null;
+									fIsSnapshot= false;
+								}
 								if (fRefreshJobCanceledExplicitly) {
 									fTypeHierarchyViewPart.showEmptyViewer();
 								}
@@ -257,6 +276,60 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 		return fRefreshHierarchyJob != null;
 	}
 
+	/**
+	 * Returns <code>true</code> if the current hierarchy has been loaded from a snapshot and is being
+	 * replaced by the refresh job.
+	 *
+	 * @return <code>true</code> if the hierarchy is a snapshot, <code>false</code> otherwise
+	 *
+	 * @since 3.39
+	 */
+	public boolean isSnapshot() {
+		return fIsSnapshot;
+	}
+
+	/**
+	 * Makes a snapshot of the hierarchy of the given type the current hierarchy, if a valid
+	 * snapshot exists, and shows it asynchronously in the UI thread while the refresh job computes
+	 * the actual hierarchy.
+	 *
+	 * @param elements the java elements on which the hierarchy is computed, a single type
+	 * @param pm the progress monitor
+	 *
+	 * @since 3.39
+	 */
+	private void loadSnapshot(IJavaElement[] elements, final IProgressMonitor pm) {
+		ITypeHierarchy snapshot= TypeHierarchySnapshotStore.getDefault().load((IType) elements[0], pm);
+		if (pm.isCanceled()) {
+			throw new OperationCanceledException();
+		}
+		if (snapshot == null) {
+			return;
+		}
+		if (fHierarchy != null) {
+			fHierarchy.removeTypeHierarchyChangedListener(this);
+			JavaCore.removeElementChangedListener(this);
+		}
+		fHierarchy= snapshot;
+		fInputElements= elements;
+		fIsSnapshot= true;
+		Display.getDefault().asyncExec(() -> {
+			synchronized (TypeHierarchyLifeCycle.this) {
+				if (fRefreshHierarchyJob == null) {
+					return;
+				}
+			}
+			if (pm.isCanceled() || !fIsSnapshot)
+				return;
+			fTypeHierarchyViewPart.updateViewers();
+		});
+	}
+
+	private boolean isSnapshotCandidate(IJavaElement[] elements) {
+		return fTypeHierarchyViewPart != null && !fIsSuperTypesOnly
+				&& elements.length == 1 && elements[0].getElementType() == IJavaElement.TYPE;
+	}
+
 	/**
 	 * Refreshes the hierarchy in the background and updates the hierarchy viewer asynchronously in
 	 * the UI thread.
@@ -314,7 +387,7 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 
 
 	public void doHierarchyRefresh(IJavaElement[] elements, IProgressMonitor pm) throws JavaModelException {
-		boolean hierachyCreationNeeded= (fHierarchy == null || !Arrays.equals(elements, fInputElements));
+		boolean hierachyCreationNeeded= (fHierarchy == null || fIsSnapshot || !Arrays.equals(elements, fInputElements));
 		// to ensure the order of the two listeners always remove / add listeners on operations
 		// on type hierarchies
 		if (fHierarchy != null) {
@@ -322,11 +395,16 @@ public class TypeHierarchyLifeCycle implements ITypeHierarchyChangedListener, IE
 			JavaCore.removeElementChangedListener(this);
 		}
 		if (hierachyCreationNeeded) {
-			fHierarchy= createTypeHierarchy(elements, pm);
+			ITypeHierarchy hierarchy= createTypeHierarchy(elements, pm);
 			if (pm != null && pm.isCanceled()) {
 				throw new OperationCanceledException();
 			}
+			fHierarchy= hierarchy;
 			fInputElements= elements;
+			fIsSnapshot= false;
+			if (isSnapshotCandidate(elements)) {
+				TypeHierarchySnapshotStore.getDefault().store(hierarchy, pm);
+			}
 		} else {
 			fHierarchy.refresh(pm);
 			if (pm != null && pm.isCanceled())
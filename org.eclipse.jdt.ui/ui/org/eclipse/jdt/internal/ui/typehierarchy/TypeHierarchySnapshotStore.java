@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.typehierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * Keeps snapshots of recently computed type hierarchies in the plug-in state location, so that
+ * the type hierarchy view can show a hierarchy right away, e.g. after a restart, while the real
+ * hierarchy is still being computed.
+ * <p>
+ * A snapshot consists of a header with the handle identifier of the focus type and an invalidation
+ * stamp for each package fragment root that contributes a type to the hierarchy, followed by the
+ * hierarchy in the binary format of {@link ITypeHierarchy#store(java.io.OutputStream, IProgressMonitor)}.
+ * A snapshot is discarded if one of its roots has disappeared or has a different stamp. Changes
+ * that don't affect the stamps (e.g. edits in source folders) are picked up by the background
+ * refresh that always follows the display of a snapshot.
+ * </p>
+ *
+ * @since 3.39
+ */
+public class TypeHierarchySnapshotStore {
+
+	private static final String SNAPSHOT_DIR= "typehierarchy"; //$NON-NLS-1$
+	private static final String SNAPSHOT_EXTENSION= ".snapshot"; //$NON-NLS-1$
+
+	private static final int MAGIC= 0x4A544853; // "JTHS"
+	private static final int VERSION= 1;
+
+	/**
+	 * The maximal number of snapshots kept on disk.
+	 */
+	private static final int MAX_SNAPSHOTS= 10;
+
+	private static TypeHierarchySnapshotStore fgInstance;
+
+	private final File fDirectory;
+
+	public static synchronized TypeHierarchySnapshotStore getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new TypeHierarchySnapshotStore(getSnapshotDirectory());
+		}
+		return fgInstance;
+	}
+
+	private static File getSnapshotDirectory() {
+		try {
+			File dir= JavaPlugin.getDefault().getStateLocation().append(SNAPSHOT_DIR).toFile();
+			if (!dir.exists()) {
+				dir.mkdir();
+			}
+			if (!dir.isDirectory()) {
+				JavaPlugin.logErrorMessage("Failed to create type hierarchy snapshot directory " + dir.toString()); //$NON-NLS-1$
+				return null;
+			}
+			return dir;
+		} catch (IllegalStateException e) {
+			// no state location
+			return null;
+		}
+	}
+
+	public TypeHierarchySnapshotStore(File directory) {
+		fDirectory= directory;
+	}
+
+	/**
+	 * Loads the snapshot of the hierarchy of the given type.
+	 *
+	 * @param type the focus type
+	 * @param pm the progress monitor, can be <code>null</code>
+	 * @return the hierarchy or <code>null</code> if there is no valid snapshot
+	 */
+	public synchronized ITypeHierarchy load(IType type, IProgressMonitor pm) {
+		File file= getFile(type);
+		if (file == null || !file.isFile()) {
+			return null;
+		}
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !type.getHandleIdentifier().equals(in.readUTF())) {
+				file.delete();
+				return null;
+			}
+			int nRoots= in.readInt();
+			for (int i= 0; i < nRoots; i++) {
+				IJavaElement root= JavaCore.create(in.readUTF());
+				long stamp= in.readLong();
+				if (!(root instanceof IPackageFragmentRoot) || !root.exists() || getStamp((IPackageFragmentRoot) root) != stamp) {
+					file.delete();
+					return null;
+				}
+			}
+			ITypeHierarchy hierarchy= type.loadTypeHierachy(in, pm);
+			file.setLastModified(System.currentTimeMillis()); // keep recently used snapshots
+			return hierarchy;
+		} catch (IOException | JavaModelException e) {
+			// a corrupt or outdated snapshot is not worth a log entry
+			file.delete();
+			return null;
+		}
+	}
+
+	/**
+	 * Stores a snapshot of the given hierarchy, replacing an existing snapshot for the same focus
+	 * type.
+	 *
+	 * @param hierarchy a hierarchy with a focus type
+	 * @param pm the progress monitor, can be <code>null</code>
+	 */
+	public synchronized void store(ITypeHierarchy hierarchy, IProgressMonitor pm) {
+		IType type= hierarchy.getType();
+		File file= getFile(type);
+		if (file == null) {
+			return;
+		}
+		File tmpFile= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeUTF(type.getHandleIdentifier());
+				Map<IPackageFragmentRoot, Long> stamps= getStamps(hierarchy);
+				out.writeInt(stamps.size());
+				for (Entry<IPackageFragmentRoot, Long> entry : stamps.entrySet()) {
+					out.writeUTF(entry.getKey().getHandleIdentifier());
+					out.writeLong(entry.getValue().longValue());
+				}
+				hierarchy.store(out, pm);
+			}
+			file.delete();
+			if (!tmpFile.renameTo(file)) {
+				tmpFile.delete();
+				return;
+			}
+			removeOldSnapshots();
+		} catch (IOException | JavaModelException e) {
+			tmpFile.delete();
+			JavaPlugin.log(e);
+		}
+	}
+
+	private File getFile(IType type) {
+		if (fDirectory == null) {
+			return null;
+		}
+		// collisions are detected by the handle identifier in the header
+		String name= Integer.toHexString(type.getHandleIdentifier().hashCode()) + SNAPSHOT_EXTENSION;
+		return new File(fDirectory, name);
+	}
+
+	private void removeOldSnapshots() {
+		File[] snapshots= fDirectory.listFiles((dir, name) -> name.endsWith(SNAPSHOT_EXTENSION));
+		if (snapshots == null || snapshots.length <= MAX_SNAPSHOTS) {
+			return;
+		}
+		Arrays.sort(snapshots, Comparator.comparingLong(File::lastModified).reversed());
+		for (int i= MAX_SNAPSHOTS; i < snapshots.length; i++) {
+			snapshots[i].delete();
+		}
+	}
+
+	private static Map<IPackageFragmentRoot, Long> getStamps(ITypeHierarchy hierarchy) {
+		Map<IPackageFragmentRoot, Long> stamps= new LinkedHashMap<>();
+		for (IType curr : hierarchy.getAllTypes()) {
+			IPackageFragmentRoot root= JavaModelUtil.getPackageFragmentRoot(curr);
+			if (root != null && !stamps.containsKey(root)) {
+				stamps.put(root, Long.valueOf(getStamp(root)));
+			}
+		}
+		return stamps;
+	}
+
+	/**
+	 * Returns the invalidation stamp of a package fragment root: the modification time of the
+	 * archive or folder for external roots, and the modification stamp of the resource for roots in
+	 * the workspace.
+	 *
+	 * @param root the package fragment root
+	 * @return the stamp
+	 */
+	private static long getStamp(IPackageFragmentRoot root) {
+		IResource resource= root.getResource();
+		if (resource != null) {
+			return resource.getModificationStamp();
+		}
+		IPath path= root.getPath();
+		return path == null ? IResource.NULL_STAMP : path.toFile().lastModified();
+	}
+}
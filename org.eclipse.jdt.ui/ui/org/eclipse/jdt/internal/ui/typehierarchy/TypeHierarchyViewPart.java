@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -169,6 +169,11 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 
 	private static final String GROUP_FOCUS= "group.focus"; //$NON-NLS-1$
 
+	/**
+	 * The number of type children shown at once in the hierarchy viewers.
+	 */
+	private static final int TYPES_PAGE_SIZE= 500;
+
 
 
 	// the selected type in the hierarchy view
@@ -634,7 +639,7 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 	public void updateViewers() {
 		if (fInputElements == null)
 			return;
-		if (!fHierarchyLifeCycle.isRefreshJobRunning()) {
+		if (!fHierarchyLifeCycle.isRefreshJobRunning() || fHierarchyLifeCycle.isSnapshot()) {
 			setViewersInput();
 		}
 		setViewerVisibility(true);
@@ -796,6 +801,7 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 		typesViewer.addPostSelectionChangedListener(fSelectionChangedListener);
 		typesViewer.setQualifiedTypeName(isQualifiedTypeNamesEnabled());
 		typesViewer.setWorkingSetFilter(fWorkingSetActionGroup.getWorkingSetFilter());
+		typesViewer.setPageSize(TYPES_PAGE_SIZE);
 	}
 
 	private Control createMethodViewerControl(Composite parent) {
@@ -1446,6 +1452,11 @@ public class TypeHierarchyViewPart extends ViewPart implements ITypeHierarchyVie
 
 				@Override
 				protected void open(ISelection selection, boolean activate) {
+					Object selectedElement= SelectionUtil.getSingleElement(selection);
+					if (selectedElement instanceof TypeHierarchyContentProvider.MoreTypesNode) {
+						getCurrentViewer().showMoreTypes((TypeHierarchyContentProvider.MoreTypesNode) selectedElement);
+						return;
+					}
 					if (selection instanceof IStructuredSelection)
 						fOpenAction.run((IStructuredSelection)selection);
 				}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -107,6 +107,34 @@ public abstract class TypeHierarchyViewer extends ProblemTreeViewer {
 		}
 	}
 
+	/**
+	 * Sets the number of type children shown at once, see
+	 * {@link TypeHierarchyContentProvider#setPageSize(int)}.
+	 *
+	 * @param pageSize the page size, or <code>0</code> to always show all children
+	 * @since 3.39
+	 */
+	public void setPageSize(int pageSize) {
+		TypeHierarchyContentProvider contentProvider= getHierarchyContentProvider();
+		if (contentProvider != null) {
+			contentProvider.setPageSize(pageSize);
+			fLabelProvider.setPagingContentProvider(pageSize > 0 ? contentProvider : null);
+		}
+	}
+
+	/**
+	 * Shows the next page of the type children that are represented by the given placeholder.
+	 *
+	 * @param node the placeholder
+	 * @since 3.39
+	 */
+	public void showMoreTypes(TypeHierarchyContentProvider.MoreTypesNode node) {
+		TypeHierarchyContentProvider contentProvider= getHierarchyContentProvider();
+		if (contentProvider != null) {
+			contentProvider.showMoreTypes(node);
+		}
+	}
+
 	/**
 	 * Returns if method filtering is enabled.
 	 * @return <code>true</code>if method filtering is enabled.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,19 +21,39 @@ import org.eclipse.jdt.internal.corext.util.SearchUtils;
 /**
  * A pattern matcher can match strings against various kinds of patterns supported by {@link SearchPattern}:
  * Prefix, "*" and "?" patterns, camelCase, exact match with " " or {@code "<"} at the end of the pattern.
+ * <p>
+ * Names can also be matched as a range of a character array. This does not create any objects
+ * (except for patterns with escaped wild cards), and is thread safe. A precomputed
+ * {@link #getCamelCaseSignature(char[], int, int) camel case signature} of the name lets camel
+ * case patterns reject most names without looking at their characters.
+ * </p>
  *
  * @since 3.8
  */
 public class PatternMatcher {
 
+	/**
+	 * The camel case signature of names that contain non-ASCII characters.
+	 *
+	 * @see #getCamelCaseSignature(char[], int, int)
+	 */
+	public static final long UNKNOWN_SIGNATURE= -1L;
+
 	private String fPattern;
 	private int fMatchKind;
 	private StringMatcher fStringMatcher;
+	private char[] fPatternChars;
+	private boolean fHasEscapes;
+	private long fCamelCaseSignature;
 
 	private static final char END_SYMBOL= '<';
 	private static final char ANY_STRING= '*';
+	private static final char ANY_CHAR= '?';
 	private static final char BLANK= ' ';
 
+	private static final long LETTERS_MASK= (1L << 26) - 1;
+	private static final int MAX_UPPER_CASE_COUNT= 0xFF;
+
 	public PatternMatcher(String pattern) {
 		this(pattern, SearchPattern.R_EXACT_MATCH | SearchPattern.R_PREFIX_MATCH |
 			SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CAMELCASE_MATCH | SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH);
@@ -45,6 +65,35 @@ public class PatternMatcher {
 		if (fMatchKind == SearchPattern.R_PATTERN_MATCH) {
 			fStringMatcher= new StringMatcher(fPattern, true, false);
 		}
+		fPatternChars= fPattern.toCharArray();
+		fHasEscapes= fPattern.indexOf('\\') != -1;
+		fCamelCaseSignature= getCamelCaseSignature(fPatternChars, 0, fPatternChars.length);
+	}
+
+	/**
+	 * Computes the camel case signature of a name: the set of its upper case letters and their
+	 * number. Every upper case letter of a camel case pattern matches another upper case letter of
+	 * the name, so the signature of a matching name contains all upper case letters of the pattern.
+	 *
+	 * @param name the characters
+	 * @param start the start of the name
+	 * @param end the end of the name, exclusive
+	 * @return the signature, or {@link #UNKNOWN_SIGNATURE} if the name contains non-ASCII
+	 *         characters
+	 */
+	public static long getCamelCaseSignature(char[] name, int start, int end) {
+		long letters= 0;
+		int upperCaseCount= 0;
+		for (int i= start; i < end; i++) {
+			char ch= name[i];
+			if (ch >= 'A' && ch <= 'Z') {
+				letters|= 1L << (ch - 'A');
+				upperCaseCount++;
+			} else if (ch >= 128) {
+				return UNKNOWN_SIGNATURE;
+			}
+		}
+		return letters | (long) Math.min(upperCaseCount, MAX_UPPER_CASE_COUNT) << 32;
 	}
 
 	public String getPattern() {
@@ -74,6 +123,128 @@ public class PatternMatcher {
 		}
 	}
 
+	/**
+	 * Matches a range of characters.
+	 *
+	 * @param text the characters
+	 * @param start the start of the name
+	 * @param end the end of the name, exclusive
+	 * @return <code>true</code> if the name matches the pattern
+	 */
+	public boolean matches(char[] text, int start, int end) {
+		return matches(text, start, end, UNKNOWN_SIGNATURE);
+	}
+
+	/**
+	 * Matches a range of characters.
+	 *
+	 * @param text the characters
+	 * @param start the start of the name
+	 * @param end the end of the name, exclusive
+	 * @param signature the {@link #getCamelCaseSignature(char[], int, int) camel case signature}
+	 *            of the name, or {@link #UNKNOWN_SIGNATURE}
+	 * @return <code>true</code> if the name matches the pattern
+	 */
+	public boolean matches(char[] text, int start, int end, long signature) {
+		switch (fMatchKind) {
+			case SearchPattern.R_PATTERN_MATCH:
+				if (fHasEscapes) {
+					return fStringMatcher.match(new String(text, start, end - start));
+				}
+				return wildCardMatch(text, start, end);
+			case SearchPattern.R_EXACT_MATCH:
+				return end - start == fPatternChars.length && startsWithIgnoreCase(text, start, end, false);
+			case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH:
+				return canCamelCaseMatch(signature, true)
+						&& SearchPattern.camelCaseMatch(fPatternChars, 0, fPatternChars.length, text, start, end, true);
+			case SearchPattern.R_CAMELCASE_MATCH:
+				if (canCamelCaseMatch(signature, false)
+						&& SearchPattern.camelCaseMatch(fPatternChars, 0, fPatternChars.length, text, start, end, false)) {
+					return true;
+				}
+				// fall back to prefix match if camel case failed (bug 137244)
+				return startsWithIgnoreCase(text, start, end, true);
+			default:
+				return startsWithIgnoreCase(text, start, end, true);
+		}
+	}
+
+	private boolean canCamelCaseMatch(long signature, boolean samePartCount) {
+		if (signature == UNKNOWN_SIGNATURE || fCamelCaseSignature == UNKNOWN_SIGNATURE)
+			return true;
+		long letters= fCamelCaseSignature & LETTERS_MASK;
+		if ((signature & letters) != letters)
+			return false;
+		int nameCount= (int) (signature >>> 32);
+		int patternCount= (int) (fCamelCaseSignature >>> 32);
+		if (samePartCount && nameCount < MAX_UPPER_CASE_COUNT) {
+			// the name must not have upper case letters that are not matched by the pattern
+			return nameCount == patternCount;
+		}
+		return nameCount >= patternCount;
+	}
+
+	/*
+	 * Compares like Strings#startsWithIgnoreCase(String, String) if lowerCaseOnly is set,
+	 * and like String#equalsIgnoreCase(String) otherwise.
+	 */
+	private boolean startsWithIgnoreCase(char[] text, int start, int end, boolean lowerCaseOnly) {
+		int length= fPatternChars.length;
+		if (end - start < length)
+			return false;
+		for (int i= length - 1; i >= 0; i--) {
+			char ch= fPatternChars[i];
+			char other= text[start + i];
+			if (ch == other)
+				continue;
+			if (lowerCaseOnly) {
+				if (Character.toLowerCase(ch) != Character.toLowerCase(other))
+					return false;
+			} else if (!equalsIgnoreCase(ch, other)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * Matches like the StringMatcher for patterns without escaped wild cards.
+	 */
+	private boolean wildCardMatch(char[] text, int start, int end) {
+		char[] pattern= fPatternChars;
+		int p= 0;
+		int t= start;
+		int starP= -1;
+		int starT= -1;
+		while (t < end) {
+			if (p < pattern.length && pattern[p] == ANY_STRING) {
+				starP= ++p;
+				starT= t;
+			} else if (p < pattern.length && (pattern[p] == ANY_CHAR || equalsIgnoreCase(pattern[p], text[t]))) {
+				p++;
+				t++;
+			} else if (starP != -1) {
+				// let the last '*' consume one more character
+				p= starP;
+				t= ++starT;
+			} else {
+				return false;
+			}
+		}
+		while (p < pattern.length && pattern[p] == ANY_STRING) {
+			p++;
+		}
+		return p == pattern.length;
+	}
+
+	private static boolean equalsIgnoreCase(char ch, char other) {
+		if (ch == other)
+			return true;
+		char upper= Character.toUpperCase(ch);
+		char otherUpper= Character.toUpperCase(other);
+		return upper == otherUpper || Character.toLowerCase(upper) == Character.toLowerCase(otherUpper);
+	}
+
 	private void initializePatternAndMatchKind(String pattern) {
 		int length= pattern.length();
 		if (length == 0) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -108,7 +108,7 @@ public class JavaElementImageProvider {
 		return getImageLabel(computeDescriptor(element, flags));
 	}
 
-	private Image getImageLabel(ImageDescriptor descriptor){
+	Image getImageLabel(ImageDescriptor descriptor){
 		if (descriptor == null)
 			return null;
 		return getRegistry().get(descriptor);
@@ -122,7 +122,7 @@ public class JavaElementImageProvider {
 	}
 
 
-	private ImageDescriptor computeDescriptor(Object element, int flags){
+	ImageDescriptor computeDescriptor(Object element, int flags){
 		if (element instanceof IJavaElement) {
 			return getJavaImageDescriptor((IJavaElement) element, flags);
 		} else if (element instanceof IFile) {
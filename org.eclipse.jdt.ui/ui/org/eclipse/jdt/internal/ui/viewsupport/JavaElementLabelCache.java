@@ -0,0 +1,456 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.eclipse.swt.graphics.Point;
+import org.eclipse.swt.widgets.Display;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.resource.ImageDescriptor;
+import org.eclipse.jface.viewers.StyledString;
+
+import org.eclipse.ui.PlatformUI;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.JavaElementImageDescriptor;
+import org.eclipse.jdt.ui.JavaElementLabels;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.JavaPluginImages;
+import org.eclipse.jdt.internal.ui.JavaUIMessages;
+
+/**
+ * Caches the labels and image descriptors of Java elements per element handle and label flags.
+ * <p>
+ * Labels of elements whose openable is not open yet are computed in a background job, as computing
+ * them would open the element on the UI thread. Until they are ready, a placeholder with the element
+ * name and a generic image is returned. The listener is notified in the UI thread with the elements
+ * whose labels have been computed.
+ * </p>
+ * <p>
+ * Labels are marked as stale when a Java element delta affects their element. Stale labels are
+ * still returned while they are computed again, so that changed elements do not show placeholders.
+ * </p>
+ */
+public final class JavaElementLabelCache {
+
+	/**
+	 * The labels of an element.
+	 */
+	public static final class Labels {
+
+		private final String fText;
+		private final StyledString fStyledText;
+		private final ImageDescriptor fImage;
+		private final boolean fPlaceholder;
+
+		private volatile boolean fStale;
+
+		Labels(String text, StyledString styledText, ImageDescriptor image, boolean placeholder) {
+			fText= text;
+			fStyledText= styledText;
+			fImage= image;
+			fPlaceholder= placeholder;
+		}
+
+		public String getText() {
+			return fText;
+		}
+
+		/**
+		 * Returns the styled label. The returned string is a copy that can be modified.
+		 *
+		 * @return the styled label
+		 */
+		public StyledString getStyledText() {
+			StyledString copy= new StyledString();
+			copy.append(fStyledText);
+			return copy;
+		}
+
+		public ImageDescriptor getImage() {
+			return fImage;
+		}
+
+		/**
+		 * @return <code>true</code> if these are placeholder labels for labels that are still being
+		 *         computed
+		 */
+		public boolean isPlaceholder() {
+			return fPlaceholder;
+		}
+	}
+
+	private record Key(IJavaElement element, long textFlags, int imageFlags) {
+	}
+
+	/**
+	 * The computation of the labels of one key. Marked as changed when a Java element delta
+	 * affects the element of the key while the labels are computed.
+	 */
+	private static final class Computation {
+
+		private final Key fKey;
+		private boolean fChanged;
+
+		Computation(Key key) {
+			fKey= key;
+		}
+	}
+
+	private static final int MAX_SIZE= 10000;
+	private static final int BATCH_SIZE= 100;
+
+	private final JavaElementImageProvider fImageProvider;
+	private final Consumer<Object[]> fListener;
+
+	/* all fields below are guarded by fLabels */
+	private final Map<Key, Labels> fLabels= new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Labels> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+	private final LinkedHashSet<Key> fPending= new LinkedHashSet<>();
+	private final List<Computation> fComputations= new ArrayList<>();
+	private boolean fDisposed;
+
+	private final IElementChangedListener fElementChangedListener= this::elementChanged;
+
+	private final Job fJob= new Job(JavaUIMessages.JavaElementLabelCache_job_name) {
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			return computePending(monitor);
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == JavaElementLabelCache.this;
+		}
+	};
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param imageProvider the image provider to compute the image descriptors with
+	 * @param listener called in the UI thread with the elements whose labels have been computed in
+	 *            the background
+	 */
+	public JavaElementLabelCache(JavaElementImageProvider imageProvider, Consumer<Object[]> listener) {
+		fImageProvider= imageProvider;
+		fListener= listener;
+		fJob.setSystem(true);
+		fJob.setPriority(Job.SHORT);
+		JavaCore.addElementChangedListener(fElementChangedListener);
+	}
+
+	/**
+	 * Returns whether the labels of the given element can be taken from the cache. The labels of
+	 * the Java model and of Java projects are cheap and are always computed directly.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the element is a Java element below a Java project
+	 */
+	public static boolean isCacheable(Object element) {
+		if (!(element instanceof IJavaElement)) {
+			return false;
+		}
+		int type= ((IJavaElement) element).getElementType();
+		return type != IJavaElement.JAVA_MODEL && type != IJavaElement.JAVA_PROJECT;
+	}
+
+	/**
+	 * Returns the labels of the given element. If the openable of the element is open, missing
+	 * labels are computed directly. Otherwise they are computed in the background and placeholder
+	 * labels are returned.
+	 *
+	 * @param element the element
+	 * @param textFlags the flags defined in {@link JavaElementLabels}
+	 * @param imageFlags the flags defined in {@link JavaElementImageProvider}
+	 * @return the labels, or placeholder labels
+	 */
+	public Labels getLabels(IJavaElement element, long textFlags, int imageFlags) {
+		Key key= new Key(element, textFlags, imageFlags);
+		Labels labels;
+		synchronized (fLabels) {
+			labels= fLabels.get(key);
+			if (labels != null && !labels.fStale) {
+				return labels;
+			}
+		}
+		if (isOpen(element)) {
+			Computation computation= startComputation(key);
+			Labels computed= null;
+			try {
+				computed= computeLabels(key);
+			} finally {
+				endComputation(computation, computed);
+			}
+			return computed;
+		}
+		schedule(key);
+		if (labels != null) {
+			return labels;
+		}
+		return createPlaceholder(element, imageFlags);
+	}
+
+	/**
+	 * Removes all labels from the cache.
+	 */
+	public void clear() {
+		synchronized (fLabels) {
+			for (Computation computation : fComputations) {
+				computation.fChanged= true;
+			}
+			fLabels.clear();
+			fPending.clear();
+		}
+	}
+
+	/**
+	 * Stops computing labels and unregisters the element change listener.
+	 */
+	public void dispose() {
+		JavaCore.removeElementChangedListener(fElementChangedListener);
+		synchronized (fLabels) {
+			fDisposed= true;
+		}
+		clear();
+		fJob.cancel();
+	}
+
+	private static boolean isOpen(IJavaElement element) {
+		IOpenable openable= element.getOpenable();
+		return openable == null || openable.isOpen();
+	}
+
+	private void schedule(Key key) {
+		synchronized (fLabels) {
+			if (fDisposed || !fPending.add(key)) {
+				return;
+			}
+		}
+		fJob.schedule();
+	}
+
+	private Computation startComputation(Key key) {
+		Computation computation= new Computation(key);
+		synchronized (fLabels) {
+			fComputations.add(computation);
+		}
+		return computation;
+	}
+
+	/**
+	 * Ends the computation of labels and adds the labels to the cache. The labels are marked as
+	 * stale if their element has changed during the computation.
+	 *
+	 * @param computation the computation
+	 * @param labels the computed labels, or <code>null</code> if the computation failed
+	 */
+	private void endComputation(Computation computation, Labels labels) {
+		synchronized (fLabels) {
+			fComputations.remove(computation);
+			if (labels == null || fDisposed) {
+				return;
+			}
+			// the element has changed while the labels were computed
+			labels.fStale= computation.fChanged;
+			fLabels.put(computation.fKey, labels);
+		}
+	}
+
+	private IStatus computePending(IProgressMonitor monitor) {
+		while (!monitor.isCanceled()) {
+			List<Computation> batch= new ArrayList<>(BATCH_SIZE);
+			synchronized (fLabels) {
+				Iterator<Key> iter= fPending.iterator();
+				while (iter.hasNext() && batch.size() < BATCH_SIZE) {
+					Computation computation= new Computation(iter.next());
+					fComputations.add(computation);
+					batch.add(computation);
+					iter.remove();
+				}
+			}
+			if (batch.isEmpty()) {
+				return Status.OK_STATUS;
+			}
+			LinkedHashSet<Object> elements= new LinkedHashSet<>();
+			for (Computation computation : batch) {
+				Labels labels= null;
+				try {
+					if (!monitor.isCanceled()) {
+						labels= computeLabels(computation.fKey);
+						elements.add(computation.fKey.element());
+					}
+				} catch (RuntimeException e) {
+					// the labels are scheduled again the next time they are requested
+					JavaPlugin.log(e);
+				} finally {
+					endComputation(computation, labels);
+				}
+			}
+			notifyListener(elements.toArray());
+		}
+		return Status.CANCEL_STATUS;
+	}
+
+	private Labels computeLabels(Key key) {
+		IJavaElement element= key.element();
+		String text= JavaElementLabels.getTextLabel(element, key.textFlags());
+		StyledString styledText= JavaElementLabels.getStyledTextLabel(element, key.textFlags() | JavaElementLabels.COLORIZE);
+		ImageDescriptor image= fImageProvider.computeDescriptor(element, key.imageFlags());
+		return new Labels(text, styledText, image, false);
+	}
+
+	private void notifyListener(Object[] elements) {
+		if (elements.length == 0) {
+			return;
+		}
+		Display display= PlatformUI.getWorkbench().getDisplay();
+		if (display.isDisposed()) {
+			return;
+		}
+		display.asyncExec(() -> {
+			synchronized (fLabels) {
+				if (fDisposed) {
+					return;
+				}
+			}
+			fListener.accept(elements);
+		});
+	}
+
+	private static Labels createPlaceholder(IJavaElement element, int imageFlags) {
+		String name= element.getElementName();
+		if (name.isEmpty() && element.getElementType() == IJavaElement.PACKAGE_FRAGMENT) {
+			name= JavaElementLabels.DEFAULT_PACKAGE;
+		}
+		Point size= (imageFlags & JavaElementImageProvider.SMALL_ICONS) != 0 ? JavaElementImageProvider.SMALL_SIZE : JavaElementImageProvider.BIG_SIZE;
+		ImageDescriptor image= new JavaElementImageDescriptor(getPlaceholderImage(element), 0, size);
+		return new Labels(name, new StyledString(name), image, true);
+	}
+
+	private static ImageDescriptor getPlaceholderImage(IJavaElement element) {
+		switch (element.getElementType()) {
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				return JavaPluginImages.DESC_OBJS_PACKFRAG_ROOT;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				return JavaPluginImages.DESC_OBJS_PACKAGE;
+			case IJavaElement.COMPILATION_UNIT:
+				return JavaPluginImages.DESC_OBJS_CUNIT;
+			case IJavaElement.CLASS_FILE:
+				return JavaPluginImages.DESC_OBJS_CFILE;
+			case IJavaElement.TYPE:
+				return JavaPluginImages.DESC_OBJS_CLASS;
+			case IJavaElement.METHOD:
+				return JavaPluginImages.DESC_MISC_PUBLIC;
+			case IJavaElement.FIELD:
+				return JavaPluginImages.DESC_FIELD_PUBLIC;
+			default:
+				return JavaPluginImages.DESC_OBJS_GHOST;
+		}
+	}
+
+	private void elementChanged(ElementChangedEvent event) {
+		Set<IJavaElement> removed= new HashSet<>();
+		Set<IJavaElement> changed= new HashSet<>();
+		Set<IJavaElement> childrenChanged= new HashSet<>();
+		collectChanges(event.getDelta(), removed, changed, childrenChanged);
+		if (removed.isEmpty() && changed.isEmpty()) {
+			return;
+		}
+		synchronized (fLabels) {
+			for (Computation computation : fComputations) {
+				IJavaElement element= computation.fKey.element();
+				if (childrenChanged.contains(element) || isInside(element, changed) || isInside(element, removed)) {
+					computation.fChanged= true;
+				}
+			}
+			Iterator<Map.Entry<Key, Labels>> iter= fLabels.entrySet().iterator();
+			while (iter.hasNext()) {
+				Map.Entry<Key, Labels> entry= iter.next();
+				IJavaElement element= entry.getKey().element();
+				if (isInside(element, removed)) {
+					iter.remove();
+				} else if (childrenChanged.contains(element) || isInside(element, changed)) {
+					entry.getValue().fStale= true;
+				}
+			}
+		}
+	}
+
+	/*
+	 * Of elements of which only the children have changed, only the element itself is affected:
+	 * its labels (for example the image of an empty package) may depend on the children, but the
+	 * labels of the unchanged children do not.
+	 */
+	private static void collectChanges(IJavaElementDelta delta, Set<IJavaElement> removed, Set<IJavaElement> changed, Set<IJavaElement> childrenChanged) {
+		IJavaElement element= delta.getElement();
+		switch (delta.getKind()) {
+			case IJavaElementDelta.REMOVED:
+				removed.add(element);
+				return;
+			case IJavaElementDelta.ADDED:
+				changed.add(element);
+				return;
+			default:
+				break;
+		}
+		int flags= delta.getFlags() & ~IJavaElementDelta.F_AST_AFFECTED;
+		if ((flags & ~IJavaElementDelta.F_CHILDREN) != 0) {
+			changed.add(element);
+			return;
+		}
+		childrenChanged.add(element);
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChanges(child, removed, changed, childrenChanged);
+		}
+	}
+
+	private static boolean isInside(IJavaElement element, Set<IJavaElement> parents) {
+		if (parents.isEmpty()) {
+			return false;
+		}
+		for (IJavaElement curr= element; curr != null; curr= curr.getParent()) {
+			if (parents.contains(curr)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,8 @@ import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.jface.viewers.StyledCellLabelProvider;
 import org.eclipse.jface.viewers.StyledString;
 
+import org.eclipse.jdt.core.IJavaElement;
+
 import org.eclipse.jdt.ui.JavaElementLabels;
 
 public class JavaUILabelProvider implements ILabelProvider, IColorProvider, IStyledLabelProvider {
@@ -44,6 +46,8 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	private ArrayList<ILabelDecorator> fLabelDecorators;
 
+	private JavaElementLabelCache fLabelCache;
+
 	private int fImageFlags;
 	private long fTextFlags;
 
@@ -78,6 +82,32 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 		fLabelDecorators.add(decorator);
 	}
 
+	/**
+	 * Sets whether the labels of Java elements whose openable is not open yet are computed in the
+	 * background. Until they are ready, placeholder labels are returned and a
+	 * {@link LabelProviderChangedEvent} is sent when they become available.
+	 *
+	 * @param enable <code>true</code> to compute the labels in the background
+	 */
+	public void setComputeLabelsInBackground(boolean enable) {
+		if (enable == (fLabelCache != null)) {
+			return;
+		}
+		if (enable) {
+			fLabelCache= new JavaElementLabelCache(fImageLabelProvider, elements -> fireLabelProviderChanged(new LabelProviderChangedEvent(this, elements)));
+		} else {
+			fLabelCache.dispose();
+			fLabelCache= null;
+		}
+	}
+
+	private JavaElementLabelCache.Labels getCachedLabels(Object element) {
+		if (fLabelCache == null || !JavaElementLabelCache.isCacheable(element)) {
+			return null;
+		}
+		return fLabelCache.getLabels((IJavaElement) element, evaluateTextFlags(element), evaluateImageFlags(element));
+	}
+
 	/**
 	 * Sets the textFlags.
 	 * @param textFlags The textFlags to set
@@ -141,7 +171,13 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	@Override
 	public Image getImage(Object element) {
-		Image result= fImageLabelProvider.getImageLabel(element, evaluateImageFlags(element));
+		JavaElementLabelCache.Labels labels= getCachedLabels(element);
+		Image result;
+		if (labels != null) {
+			result= fImageLabelProvider.getImageLabel(labels.getImage());
+		} else {
+			result= fImageLabelProvider.getImageLabel(element, evaluateImageFlags(element));
+		}
 		if (result == null && (element instanceof IStorage)) {
 			result= fStorageLabelProvider.getImage(element);
 		}
@@ -164,7 +200,8 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	@Override
 	public String getText(Object element) {
-		String result= JavaElementLabels.getTextLabel(element, evaluateTextFlags(element));
+		JavaElementLabelCache.Labels labels= getCachedLabels(element);
+		String result= labels != null ? labels.getText() : JavaElementLabels.getTextLabel(element, evaluateTextFlags(element));
 		if (result.length() == 0 && (element instanceof IStorage)) {
 			result= fStorageLabelProvider.getText(element);
 		}
@@ -173,7 +210,8 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	@Override
 	public StyledString getStyledText(Object element) {
-		StyledString string= JavaElementLabels.getStyledTextLabel(element, (evaluateTextFlags(element) | JavaElementLabels.COLORIZE));
+		JavaElementLabelCache.Labels labels= getCachedLabels(element);
+		StyledString string= labels != null ? labels.getStyledText() : JavaElementLabels.getStyledTextLabel(element, (evaluateTextFlags(element) | JavaElementLabels.COLORIZE));
 		if (string.length() == 0 && (element instanceof IStorage)) {
 			string= new StyledString(fStorageLabelProvider.getText(element));
 		}
@@ -186,6 +224,10 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
 
 	@Override
 	public void dispose() {
+		if (fLabelCache != null) {
+			fLabelCache.dispose();
+			fLabelCache= null;
+		}
 		if (fLabelDecorators != null) {
 			for (ILabelDecorator decorator : fLabelDecorators) {
 				decorator.dispose();
@@ -254,6 +296,10 @@ public class JavaUILabelProvider implements ILabelProvider, IColorProvider, ISty
      * @see ILabelProviderListener#labelProviderChanged
      */
     protected void fireLabelProviderChanged(final LabelProviderChangedEvent event) {
+		if (event.getElements() == null && fLabelCache != null) {
+			// all labels have changed, e.g. the package name abbreviations
+			fLabelCache.clear();
+		}
 		for (final ILabelProviderListener l : fListeners) {
             SafeRunner.run(new SafeRunnable() {
                 @Override
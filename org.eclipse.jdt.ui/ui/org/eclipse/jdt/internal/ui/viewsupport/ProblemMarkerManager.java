@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -109,6 +109,8 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	private final Set<IResource> fResourcesWithMarkerChanges= ConcurrentHashMap.newKeySet();
 	private final Set<IResource> fResourcesWithAnnotationChanges= ConcurrentHashMap.newKeySet();
 
+	private final ProblemSeverityCache fSeverityCache= new ProblemSeverityCache();
+
 	private final Throttler throttledUpdates= new Throttler(PlatformUI.getWorkbench().getDisplay(), Duration.ofMillis(250), this::runPendingUpdates);
 
 	public ProblemMarkerManager() {
@@ -121,14 +123,27 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	public void resourceChanged(IResourceChangeEvent event) {
 		HashSet<IResource> changedElements= new HashSet<>();
 
+		IResourceDelta delta= event.getDelta();
 		try {
-			IResourceDelta delta= event.getDelta();
 			if (delta != null)
 				delta.accept(new ProjectErrorVisitor(changedElements));
 		} catch (CoreException e) {
 			JavaPlugin.log(e.getStatus());
 		}
 
+		if (delta != null) {
+			for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+				if ((projectDelta.getFlags() & IResourceDelta.OPEN) != 0) {
+					fSeverityCache.invalidate((IProject) projectDelta.getResource());
+				}
+			}
+		}
+		for (IResource resource : changedElements) {
+			if (resource.getType() == IResource.PROJECT) {
+				fSeverityCache.invalidate((IProject) resource);
+			}
+		}
+
 		if (fResourcesWithMarkerChanges.addAll(changedElements)) {
 			fireChanges();
 		}
@@ -153,6 +168,16 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 	}
 
 
+	/**
+	 * Returns the cache of the problem severities of resources. The cache is only kept up to date
+	 * while there are listeners for problem marker changes.
+	 *
+	 * @return the cache, or <code>null</code> if there are no listeners
+	 */
+	public ProblemSeverityCache getSeverityCache() {
+		return fListeners.isEmpty() ? null : fSeverityCache;
+	}
+
 	/**
 	 * Adds a listener for problem marker changes.
 	 * @param listener the listener to add
@@ -173,6 +198,7 @@ public class ProblemMarkerManager implements IResourceChangeListener, IAnnotatio
 		fListeners.remove(listener);
 		if (fListeners.isEmpty()) {
 			JavaPlugin.getWorkspace().removeResourceChangeListener(this);
+			fSeverityCache.clear();
 			JavaPlugin.getDefault().getCompilationUnitDocumentProvider().removeGlobalAnnotationModelListener(this);
 		}
 	}
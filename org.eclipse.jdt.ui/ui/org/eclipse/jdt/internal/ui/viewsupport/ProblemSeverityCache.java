@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.viewsupport;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+/**
+ * Caches the maximal severities of the problem markers of projects. The severities of a project
+ * are computed with one marker query for the whole project and rolled up to the parents of the
+ * resources with markers, so that the severity of any resource in the project can be looked up in
+ * constant time.
+ * <p>
+ * The cache does not listen to resource changes itself: the {@link ProblemMarkerManager}
+ * invalidates the projects in which problem markers have changed.
+ * </p>
+ */
+public final class ProblemSeverityCache {
+
+	/* severities are stored with an offset of 1, so that 0 means no marker */
+	private static final int SEVERITY_BITS= 2;
+	private static final int SEVERITY_MASK= (1 << SEVERITY_BITS) - 1;
+
+	private final Map<IProject, Map<IPath, Integer>> fProjects= new ConcurrentHashMap<>();
+
+	/* incremented on every invalidation, guarded by fProjects */
+	private int fGeneration;
+
+	/**
+	 * Returns the maximal severity of the problem markers on the given resource and its members,
+	 * like {@link IResource#findMaxProblemSeverity(String, boolean, int)} with
+	 * {@link IMarker#PROBLEM} and {@link IResource#DEPTH_INFINITE}.
+	 *
+	 * @param resource a resource in a project
+	 * @return the maximal severity, or <code>-1</code> if there are no problem markers
+	 * @throws CoreException if the markers of the project cannot be read
+	 */
+	public int getMaxProblemSeverity(IResource resource) throws CoreException {
+		return getSeverity(resource, 0);
+	}
+
+	/**
+	 * Returns the maximal severity of the problem markers on the given container and on the files
+	 * directly in it. Markers on sub folders are not considered.
+	 *
+	 * @param container a project or folder
+	 * @return the maximal severity, or <code>-1</code> if there are no problem markers
+	 * @throws CoreException if the markers of the project cannot be read
+	 */
+	public int getMaxFileProblemSeverity(IContainer container) throws CoreException {
+		return getSeverity(container, SEVERITY_BITS);
+	}
+
+	/**
+	 * Removes the severities of the given project from the cache. They are computed again the next
+	 * time they are needed.
+	 *
+	 * @param project the project
+	 */
+	public void invalidate(IProject project) {
+		synchronized (fProjects) {
+			fGeneration++;
+			fProjects.remove(project);
+		}
+	}
+
+	/**
+	 * Removes all severities from the cache.
+	 */
+	public void clear() {
+		synchronized (fProjects) {
+			fGeneration++;
+			fProjects.clear();
+		}
+	}
+
+	private int getSeverity(IResource resource, int shift) throws CoreException {
+		IProject project= resource.getProject();
+		if (project == null) {
+			// the workspace root has no markers of its own
+			return resource.findMaxProblemSeverity(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE);
+		}
+		Map<IPath, Integer> severities= fProjects.get(project);
+		if (severities == null) {
+			int generation;
+			synchronized (fProjects) {
+				generation= fGeneration;
+			}
+			severities= computeSeverities(project);
+			synchronized (fProjects) {
+				// markers that changed while computing have been read only in part
+				if (generation == fGeneration) {
+					fProjects.put(project, severities);
+				}
+			}
+		}
+		Integer value= severities.get(resource.getFullPath());
+		if (value == null) {
+			return -1;
+		}
+		return ((value.intValue() >> shift) & SEVERITY_MASK) - 1;
+	}
+
+	/*
+	 * For every resource with markers and all its parents, the value holds the severity of the
+	 * resource and its members in the lower bits, and the severity of the resource and the files
+	 * directly in it in the upper bits.
+	 */
+	private static Map<IPath, Integer> computeSeverities(IProject project) throws CoreException {
+		Map<IPath, Integer> severities= new HashMap<>();
+		if (!project.isAccessible()) {
+			return severities;
+		}
+		for (IMarker marker : project.findMarkers(IMarker.PROBLEM, true, IResource.DEPTH_INFINITE)) {
+			int severity= marker.getAttribute(IMarker.SEVERITY, -1);
+			if (severity < IMarker.SEVERITY_INFO || severity > IMarker.SEVERITY_ERROR) {
+				continue;
+			}
+			int bits= severity + 1;
+			IResource resource= marker.getResource();
+			IPath path= resource.getFullPath();
+			severities.merge(path, Integer.valueOf(bits | bits << SEVERITY_BITS), ProblemSeverityCache::max);
+			path= path.removeLastSegments(1);
+			if (resource.getType() == IResource.FILE) {
+				severities.merge(path, Integer.valueOf(bits | bits << SEVERITY_BITS), ProblemSeverityCache::max);
+				path= path.removeLastSegments(1);
+			}
+			for (; path.segmentCount() > 0; path= path.removeLastSegments(1)) {
+				severities.merge(path, Integer.valueOf(bits), ProblemSeverityCache::max);
+			}
+		}
+		return severities;
+	}
+
+	private static Integer max(Integer value1, Integer value2) {
+		int v1= value1.intValue();
+		int v2= value2.intValue();
+		int lower= Math.max(v1 & SEVERITY_MASK, v2 & SEVERITY_MASK);
+		int upper= Math.max(v1 >> SEVERITY_BITS, v2 >> SEVERITY_BITS);
+		return Integer.valueOf(lower | upper << SEVERITY_BITS);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.core.runtime.ListenerList;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IMarker;
@@ -82,6 +83,7 @@ import org.eclipse.jdt.internal.ui.JavaPluginImages;
 import org.eclipse.jdt.internal.ui.viewsupport.IProblemChangedListener;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageDescriptorRegistry;
 import org.eclipse.jdt.internal.ui.viewsupport.ImageImageDescriptor;
+import org.eclipse.jdt.internal.ui.viewsupport.ProblemSeverityCache;
 
 /**
  * LabelDecorator that decorates an element's image with error and warning overlays that
@@ -597,10 +599,19 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 				return ERRORTICK_BUILDPATH_ERROR;
 			}
 		}
-		severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		ProblemSeverityCache cache= getSeverityCache();
+		if (cache != null && (depth == IResource.DEPTH_INFINITE || res.getType() == IResource.FILE)) {
+			severity= cache.getMaxProblemSeverity(res);
+		} else {
+			severity= res.findMaxProblemSeverity(IMarker.PROBLEM, true, depth);
+		}
 		return convertToTick(severity);
 	}
 
+	private static ProblemSeverityCache getSeverityCache() {
+		return JavaPlugin.getDefault().getProblemMarkerManager().getSeverityCache();
+	}
+
 	private int getErrorTicksFromMarkers(IResource res, int depth, ISourceReference sourceElement) throws CoreException {
 		if (res == null || !res.isAccessible()) {
 			return 0;
@@ -642,6 +653,11 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 			return 0;
 		}
 
+		ProblemSeverityCache cache= getSeverityCache();
+		if (cache != null && res instanceof IContainer) {
+			return getPackageErrorTicksFromCache(cache, pack, (IContainer) res);
+		}
+
 		// markers on package itself (e.g. missing @NonNullByDefault)
 		int severity= findMaxProblemSeverity(res, IMarker.PROBLEM, true, IResource.DEPTH_ZERO);
 		if (severity == IMarker.SEVERITY_ERROR)
@@ -674,6 +690,23 @@ public class ProblemsLabelDecorator implements ILabelDecorator, ILightweightLabe
 		return 0;
 	}
 
+	private int getPackageErrorTicksFromCache(ProblemSeverityCache cache, IPackageFragment pack, IContainer container) throws CoreException {
+		// markers on package itself, on CUs and on other files
+		int severity= cache.getMaxFileProblemSeverity(container);
+		if (severity == IMarker.SEVERITY_ERROR)
+			return ERRORTICK_ERROR;
+
+		// markers in folders that are not packages
+		for (Object object : pack.getNonJavaResources()) {
+			if (object instanceof IFolder) {
+				severity= Math.max(severity, cache.getMaxProblemSeverity((IFolder) object));
+				if (severity == IMarker.SEVERITY_ERROR)
+					return ERRORTICK_ERROR;
+			}
+		}
+		return convertToTick(severity);
+	}
+
 	private int findMaxProblemSeverity (IResource res, String type, boolean includeSubtypes, int depth) throws CoreException {
 		try {
 			return res.findMaxProblemSeverity(type, includeSubtypes, depth);